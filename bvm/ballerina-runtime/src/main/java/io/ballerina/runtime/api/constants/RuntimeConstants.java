@@ -59,6 +59,14 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_POLICY_ENV_VAR = "BALLERINA_SCHEDULER_POLICY";
+    public static final String SCHEDULER_POLICY_SHARED = "shared";
+    public static final String SCHEDULER_POLICY_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_SCHEDULER_BACKEND_ENV_VAR = "BALLERINA_SCHEDULER_BACKEND";
+    public static final String SCHEDULER_BACKEND_PLATFORM = "platform";
+    public static final String SCHEDULER_BACKEND_VIRTUAL = "virtual";
+    public static final String BALLERINA_STRAND_DUMP_SAMPLE_RATE_ENV_VAR = "BALLERINA_STRAND_DUMP_SAMPLE_RATE";
+    public static final String BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR = "BALLERINA_TYPE_CHECK_CACHE_SIZE";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
@@ -37,6 +37,7 @@ import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonInternalUtils;
 import io.ballerina.runtime.internal.JsonParser;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypedJsonParser;
 import io.ballerina.runtime.internal.commons.TypeValuePair;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
@@ -146,6 +147,36 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Parses the given JSON string directly into a value of the given target type, without creating an intermediate
+     * json value.
+     *
+     * @param jsonStr           string which contains the JSON content
+     * @param targetType        type of the value to create
+     * @param skipUnknownFields whether to skip the fields of closed records that are not in the record type, instead
+     *                          of failing
+     * @return value of the given target type
+     * @throws BError for any parsing or conversion error
+     */
+    public static Object parseAsType(BString jsonStr, Type targetType, boolean skipUnknownFields) throws BError {
+        return TypedJsonParser.parse(jsonStr.getValue(), targetType, skipUnknownFields);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content directly into a value of the given target type, without creating
+     * an intermediate json value.
+     *
+     * @param bytes             UTF-8 encoded JSON content
+     * @param targetType        type of the value to create
+     * @param skipUnknownFields whether to skip the fields of closed records that are not in the record type, instead
+     *                          of failing
+     * @return value of the given target type
+     * @throws BError for any parsing or conversion error
+     */
+    public static Object parseAsType(byte[] bytes, Type targetType, boolean skipUnknownFields) throws BError {
+        return TypedJsonParser.parse(bytes, targetType, skipUnknownFields);
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -28,6 +28,7 @@ import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.stream.Stream;
 
 /**
  * Class {@link XmlUtils} provides APIs to handle xml values.
@@ -89,6 +90,33 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create a stream of the children of the root element of a XML document read from an input stream.
+     *
+     * @param xmlStream XML input stream
+     * @return Stream of the children of the root element
+     * @see #parseChildren(Reader)
+     */
+    public static Stream<BXml> parseChildren(InputStream xmlStream) {
+        return XmlFactory.parseChildren(xmlStream);
+    }
+
+    /**
+     * Create a stream of the children of the root element of a XML document read from a reader.
+     * <p>
+     * Each child is parsed along with its descendants when the stream reaches it, and the stream does not hold the
+     * children it has returned, so a large document can be processed one child at a time. Comments and processing
+     * instructions outside the root element are not returned. A parse error is thrown as a {@link BError} when the
+     * stream reaches it. The reader is closed and released once the stream is consumed, fails to parse, or is
+     * closed.
+     *
+     * @param reader XML reader
+     * @return Stream of the children of the root element
+     */
+    public static Stream<BXml> parseChildren(Reader reader) {
+        return XmlFactory.parseChildren(reader);
+    }
+
     /**
      * Converts a {@link BTable} to {@link BXml}.
      *
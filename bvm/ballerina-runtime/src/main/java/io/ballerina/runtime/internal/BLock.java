@@ -21,31 +21,66 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * An uncontended lock is acquired and released with a single compare-and-set on the owner. Strands only queue up,
+ * under the monitor of this lock, when the lock is held by another strand.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private final AtomicReference<Strand> owner = new AtomicReference<>();
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * Number of times the owner has acquired this lock. Only accessed by the owner.
+     */
+    private int holdCount;
+
+    private final ArrayDeque<Strand> waitingForLock;
+
+    /**
+     * Number of strands in {@link #waitingForLock}. Written while holding the monitor, and read without it on unlock.
+     */
+    private volatile int waitingCount;
+
+    // Contention statistics, counted by the strands taking the lock, which run on different threads.
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    // Updated while holding the monitor.
+    private int maxWaitingCount;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
-            strand.acquiredLockCount++;
+    public boolean lock(Strand strand) {
+        if (owner.get() == strand || owner.compareAndSet(null, strand)) {
+            acquired(strand);
+            return true;
+        }
+        return lockOnContention(strand);
+    }
+
+    private synchronized boolean lockOnContention(Strand strand) {
+        // Publish the intent to wait before trying again, so that a concurrent unlock either lets this attempt
+        // succeed or sees the waiting strand.
+        waitingCount++;
+        if (owner.compareAndSet(null, strand)) {
+            waitingCount--;
+            acquired(strand);
             return true;
         }
 
         this.waitingForLock.offerLast(strand);
+        waits.increment();
+        if (waitingCount > maxWaitingCount) {
+            maxWaitingCount = waitingCount;
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -53,21 +88,50 @@ public class BLock {
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        Strand removedStrand = this.current.removeLast();
+    private void acquired(Strand strand) {
+        holdCount++;
+        acquisitions.increment();
+        strand.acquiredLockCount++;
+    }
+
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        Strand removedStrand = owner.get();
         removedStrand.acquiredLockCount--;
+        if (--holdCount > 0) {
+            return;
+        }
+        owner.set(null);
+        if (waitingCount > 0) {
+            unblockWaitingStrand();
+        }
+    }
+
+    private synchronized void unblockWaitingStrand() {
         if (!waitingForLock.isEmpty()) {
             Strand strand = this.waitingForLock.removeFirst();
+            waitingCount--;
             strand.scheduler.unblockStrand(strand);
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return owner.get() == ctx;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    public long getWaitCount() {
+        return waits.sum();
+    }
+
+    public synchronized int getMaxWaitingCount() {
+        return maxWaitingCount;
     }
 }
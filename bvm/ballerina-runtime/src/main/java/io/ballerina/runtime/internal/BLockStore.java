@@ -21,31 +21,78 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_LOCK_NAME;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_MODULE;
+
 /**
+ * Holds the locks of a module. Generated code resolves each lock from the store once, when the module is
+ * initialized, and keeps a direct reference to it.
  *
  * @since 1.2.0
  */
 public class BLockStore {
 
+    /**
+     * The stores created before a metric registry is installed, whose locks are registered with it once it is. The
+     * stores are only weakly referenced, and the set is cleared once the registry is installed.
+     */
+    private static Set<BLockStore> unregisteredLockStores = Collections.newSetFromMap(new WeakHashMap<>());
+    private static volatile MetricRegistry metricRegistry;
+
     /**
      * The map of locks inferred.
      */
     private  Map<String, BLock> globalLockMap;
 
+    private final String moduleName;
+
     public BLockStore() {
-        globalLockMap = new ConcurrentHashMap<>();
+        this("");
+    }
+
+    public BLockStore(String moduleName) {
+        this.globalLockMap = new ConcurrentHashMap<>();
+        this.moduleName = moduleName;
+        if (metricRegistry == null) {
+            synchronized (BLockStore.class) {
+                if (metricRegistry == null) {
+                    unregisteredLockStores.add(this);
+                }
+            }
+        }
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        getLockFromMap(lockName);
     }
 
     public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> new BLock());
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
+        }
+        lock = new BLock();
+        BLock existingLock = globalLockMap.putIfAbsent(lockName, lock);
+        if (existingLock != null) {
+            return existingLock;
+        }
+        MetricRegistry registry = metricRegistry;
+        if (registry != null) {
+            registerMetrics(registry, lockName, lock);
+        }
+        return lock;
     }
 
     public void panicIfInLock(Strand strand) {
@@ -53,4 +100,33 @@ public class BLockStore {
             throw ErrorCreator.createError(ErrorReasons.ASYNC_CALL_INSIDE_LOCK);
         }
     }
+
+    /**
+     * Reports the contention statistics of all the locks, current and future, through the given registry.
+     *
+     * @param registry metric registry to register the lock metrics with
+     */
+    public static synchronized void registerLockMetrics(MetricRegistry registry) {
+        if (metricRegistry != null) {
+            return;
+        }
+        metricRegistry = registry;
+        List<BLockStore> lockStores = new ArrayList<>(unregisteredLockStores);
+        unregisteredLockStores = Collections.emptySet();
+        for (BLockStore lockStore : lockStores) {
+            for (Map.Entry<String, BLock> entry : lockStore.globalLockMap.entrySet()) {
+                lockStore.registerMetrics(registry, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void registerMetrics(MetricRegistry registry, String lockName, BLock lock) {
+        Set<Tag> tags = Set.of(Tag.of(TAG_KEY_SRC_MODULE, moduleName), Tag.of(TAG_KEY_LOCK_NAME, lockName));
+        registry.polledGauge(new MetricId("lock_acquisitions_total", "Number of times the lock was acquired",
+                tags), lock, BLock::getAcquisitionCount);
+        registry.polledGauge(new MetricId("lock_waits_total", "Number of times a strand waited for the lock",
+                tags), lock, BLock::getWaitCount);
+        registry.polledGauge(new MetricId("lock_max_queue_length", "Maximum number of strands waiting for the lock",
+                tags), lock, BLock::getMaxWaitingCount);
+    }
 }
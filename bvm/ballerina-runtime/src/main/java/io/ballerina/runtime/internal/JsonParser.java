@@ -190,6 +190,18 @@ public class JsonParser {
         return parse(reader, targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
     }
 
+    /**
+     * Converts a json value to a value of the given target type, in the same way as the values parsed for union
+     * target types are converted.
+     *
+     * @param value      json value
+     * @param targetType target type
+     * @return value of the given target type
+     */
+    static Object convertJsonValue(Object value, Type targetType) {
+        return JsonStateMachine.convert(value, targetType);
+    }
+
     private static Type getTargetType(JsonUtils.NonStringValueProcessingMode mode) {
         Type targetType;
         if (mode == FROM_JSON_DECIMAL_STRING) {
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.types.BType;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+
+import java.io.PrintStream;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the results of {@link TypeChecker#checkIsType(Type, Type)} for pairs of types, keyed by the identity of
+ * the types.
+ * <p>
+ * Types are built and populated after they are created, and some are changed later on, for example when their
+ * read-only forms are resolved. The types call {@link #invalidate(Type)} whenever they change. A change only matters
+ * to the cached results if the type took part in a check, either as one of the checked types or nested inside them,
+ * and since the type itself does not know which checks reached it, such a change discards all the cached results.
+ * Changes to types that were never checked, which is the case while the types of a module are being populated, keep
+ * the cached results.
+ * <p>
+ * The cache is a fixed size, direct mapped table, so it never holds more than a bounded number of results and a new
+ * result simply replaces the one in its slot. Slots hold immutable entries, and are read and written without locking.
+ * The number of slots can be set with the BALLERINA_TYPE_CHECK_CACHE_SIZE system variable, which is rounded up to a
+ * power of two, and 0 disables the cache.
+ *
+ * @since 2201.10.0
+ */
+public final class TypeCheckCache {
+
+    private static final PrintStream err = System.err;
+    private static final int DEFAULT_SIZE = 4096;
+
+    private static final Entry[] entries = createEntries();
+    // Version of the types, incremented whenever a type changes. Results are only valid for the version they were
+    // computed with.
+    private static final AtomicInteger typesVersion = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the cached result, or null if there is none
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        if (entries.length == 0) {
+            return null;
+        }
+        Entry entry = entries[slot(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType &&
+                entry.typesVersion == typesVersion.get()) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the current version of the types, to be passed to {@link #put(Type, Type, boolean, int)} with the result
+     * of a check that starts after this call.
+     *
+     * @return version of the types
+     */
+    static int getTypesVersion() {
+        return typesVersion.get();
+    }
+
+    /**
+     * Caches the result of a check, unless a type has changed since the check started.
+     *
+     * @param sourceType   source type
+     * @param targetType   target type
+     * @param result       result of the check
+     * @param typesVersion version of the types when the check started
+     */
+    static void put(Type sourceType, Type targetType, boolean result, int typesVersion) {
+        if (entries.length == 0 || typesVersion != TypeCheckCache.typesVersion.get()) {
+            return;
+        }
+        entries[slot(sourceType, targetType)] = new Entry(sourceType, targetType, result, typesVersion);
+    }
+
+    /**
+     * Records that the given types take part in a check, so that later changes to them invalidate the cached results.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     */
+    static void markChecked(Type sourceType, Type targetType) {
+        if (sourceType instanceof BType bSourceType) {
+            bSourceType.markTypeChecked();
+        }
+        if (targetType instanceof BType bTargetType) {
+            bTargetType.markTypeChecked();
+        }
+    }
+
+    /**
+     * Discards the cached results that may depend on the given type. Called whenever a type changes.
+     *
+     * @param type the changed type
+     */
+    public static void invalidate(Type type) {
+        if (type instanceof BType bType && !bType.isTypeChecked()) {
+            return;
+        }
+        typesVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns whether checking against the given target type is worth caching. Checks against basic types only
+     * compare type tags, which is cheaper than a cache lookup.
+     *
+     * @param targetType target type
+     * @return true if results for the target type should be cached
+     */
+    static boolean isCacheable(Type targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+            case TypeTags.HANDLE_TAG:
+            case TypeTags.ANY_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.XML_TEXT_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+                return false;
+            default:
+                return entries.length > 0;
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a cached result.
+     *
+     * @return cache hit count
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached result.
+     *
+     * @return cache miss count
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Reports the cache hit and miss counts through the given registry.
+     *
+     * @param registry metric registry to register the cache metrics with
+     */
+    public static void registerMetrics(MetricRegistry registry) {
+        registry.polledGauge(new MetricId("type_check_cache_hits_total",
+                "Number of type checks answered from the type check cache", Set.of()), hits, LongAdder::sum);
+        registry.polledGauge(new MetricId("type_check_cache_misses_total",
+                "Number of type checks not found in the type check cache", Set.of()), misses, LongAdder::sum);
+    }
+
+    private static int slot(Type sourceType, Type targetType) {
+        int h = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (h ^ (h >>> 16)) & (entries.length - 1);
+    }
+
+    private static Entry[] createEntries() {
+        int size = getSize();
+        return new Entry[size <= 1 ? size : Integer.highestOneBit(size - 1) << 1];
+    }
+
+    private static int getSize() {
+        String sizeConf = System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR);
+        if (sizeConf == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            int size = Integer.parseInt(sizeConf);
+            if (size >= 0 && size <= 1 << 24) {
+                return size;
+            }
+        } catch (NumberFormatException ignored) {
+            // Logged below
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + sizeConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", using the default cache size " +
+                DEFAULT_SIZE);
+        return DEFAULT_SIZE;
+    }
+
+    private record Entry(Type sourceType, Type targetType, boolean result, int typesVersion) {
+    }
+
+    private TypeCheckCache() {
+    }
+}
@@ -554,11 +554,22 @@ public class TypeChecker {
      * @return flag indicating the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, null);
+        if (sourceType == targetType || !TypeCheckCache.isCacheable(targetType)) {
+            return checkIsType(sourceType, targetType, null);
+        }
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        int typesVersion = TypeCheckCache.getTypesVersion();
+        boolean result = checkIsType(sourceType, targetType, null);
+        TypeCheckCache.put(sourceType, targetType, result, typesVersion);
+        return result;
     }
 
     @Deprecated
     public static boolean checkIsType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        TypeCheckCache.markChecked(sourceType, targetType);
         // First check whether both types are the same.
         if (sourceType == targetType || (sourceType.getTag() == targetType.getTag() && sourceType.equals(targetType))) {
             return true;
@@ -0,0 +1,863 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.RecordFieldIndex;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+
+import java.io.CharArrayReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithDefaultValues;
+
+/**
+ * Parses JSON content held in a buffer directly into a value of a given target type.
+ * <p>
+ * Unlike {@link JsonParser}, which reads the content through a generic state machine and converts each scalar from
+ * an intermediate string, this parser is driven by the target type. Numbers are converted from the characters in the
+ * buffer, record fields are matched against the field names of the record type without creating a string for each
+ * field name, and a record value is created once all its fields are read, without an intermediate map. Unknown fields
+ * of closed records can be skipped without creating values for them.
+ * <p>
+ * Values that are parsed for union, finite and table types, or that are not within a record, map, list or scalar
+ * target type, are created as json values and converted in the same way as {@link JsonParser} does. A document that
+ * cannot be parsed is parsed once more with {@link JsonParser} to report the error in the same way.
+ *
+ * @since 2201.10.0
+ */
+public final class TypedJsonParser {
+
+    private static final String UNSUPPORTED_TYPE = "unsupported type: ";
+    private static final String ARRAY_SIZE_MISMATCH = "array size is not enough for the provided values";
+    private static final String TUPLE_SIZE_MISMATCH = "tuple size is not enough for the provided values";
+    private static final String UNEXPECTED_END_OF_THE_INPUT_STREAM = "unexpected end of the input stream";
+    private static final String UNRECOGNIZED_TOKEN = "unrecognized token '";
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+    private static final BMapType READONLY_JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_READONLY_JSON, true);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(PredefinedTypes.TYPE_JSON);
+    private static final BArrayType READONLY_JSON_ARRAY_TYPE =
+            new BArrayType(PredefinedTypes.TYPE_READONLY_JSON, true);
+
+    // Powers of ten that can be represented exactly as doubles
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+            1e19, 1e20, 1e21, 1e22
+    };
+    // Numbers with up to this many significant digits are exactly represented as doubles
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+
+    private final char[] buff;
+    private final int start;
+    private final int end;
+    private final boolean skipUnknownFields;
+    private boolean skippedFields;
+    private int pos;
+
+    // The last string read by readString(), which is either a range of the buffer, or the scratch buffer if the
+    // string has escaped characters
+    private char[] strChars;
+    private int strStart;
+    private int strLength;
+    private char[] scratch = new char[64];
+
+    private TypedJsonParser(char[] buff, int offset, int length, boolean skipUnknownFields) {
+        this.buff = buff;
+        this.start = offset;
+        this.end = offset + length;
+        this.pos = offset;
+        this.skipUnknownFields = skipUnknownFields;
+    }
+
+    /**
+     * Parses the given JSON string into a value of the given target type.
+     *
+     * @param jsonStr           JSON content
+     * @param targetType        type of the value to create
+     * @param skipUnknownFields whether to skip fields of closed records that are not in the record type, instead of
+     *                          failing
+     * @return value of the given target type
+     * @throws BError for any parsing or conversion error
+     */
+    public static Object parse(String jsonStr, Type targetType, boolean skipUnknownFields) throws BError {
+        char[] chars = jsonStr.toCharArray();
+        return parse(chars, 0, chars.length, targetType, skipUnknownFields);
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON content into a value of the given target type.
+     *
+     * @param bytes             UTF-8 encoded JSON content
+     * @param targetType        type of the value to create
+     * @param skipUnknownFields whether to skip fields of closed records that are not in the record type, instead of
+     *                          failing
+     * @return value of the given target type
+     * @throws BError for any parsing or conversion error
+     */
+    public static Object parse(byte[] bytes, Type targetType, boolean skipUnknownFields) throws BError {
+        CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(bytes));
+        return parse(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining(), targetType,
+                skipUnknownFields);
+    }
+
+    /**
+     * Parses the JSON content in the given range of a character buffer into a value of the given target type.
+     *
+     * @param buff              buffer holding the JSON content
+     * @param offset            index of the first character of the content
+     * @param length            number of characters in the content
+     * @param targetType        type of the value to create
+     * @param skipUnknownFields whether to skip fields of closed records that are not in the record type, instead of
+     *                          failing
+     * @return value of the given target type
+     * @throws BError for any parsing or conversion error
+     */
+    public static Object parse(char[] buff, int offset, int length, Type targetType, boolean skipUnknownFields)
+            throws BError {
+        return new TypedJsonParser(buff, offset, length, skipUnknownFields).parseDocument(targetType);
+    }
+
+    private Object parseDocument(Type targetType) {
+        try {
+            skipWhitespace();
+            if (pos == end) {
+                throw new ParserException("empty JSON document");
+            }
+            Object value = parseValue(TypeUtils.getImpliedType(targetType));
+            skipWhitespace();
+            if (pos != end) {
+                throw new ParserException("input stream has already ended");
+            }
+            return value;
+        } catch (ParserException | BError e) {
+            return reparse(targetType, e);
+        }
+    }
+
+    /**
+     * Parses a document that failed to parse once more with {@link JsonParser}, so that the error is reported with
+     * the same message and position as {@link JsonParser} reports it. If an unknown field was skipped before the
+     * failure, which {@link JsonParser} does not support, the document is parsed once more only to report syntax
+     * errors, and conversion errors are reported as they are found by this parser.
+     */
+    private Object reparse(Type targetType, Exception cause) {
+        Reader reader = new CharArrayReader(buff, start, end - start);
+        if (!skippedFields) {
+            return JsonParser.parse(reader, targetType);
+        }
+        JsonParser.parse(reader, PredefinedTypes.TYPE_JSON);
+        if (cause instanceof BError error) {
+            throw error;
+        }
+        throw ErrorCreator.createError(StringUtils.fromString(cause.getMessage() + " at line: " + getLine()
+                + " column: " + getColumn()));
+    }
+
+    private Object parseValue(Type targetType) throws ParserException {
+        return switch (buff[pos]) {
+            case '{' -> parseObject(targetType);
+            case '[' -> parseArray(targetType);
+            case '"' -> parseString(targetType);
+            default -> parseNonStringValue(targetType);
+        };
+    }
+
+    private Object parseObject(Type targetType) throws ParserException {
+        return switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG -> parseRecord((BRecordType) targetType);
+            case TypeTags.MAP_TAG -> parseMap((MapType) targetType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> parseJsonObject(targetType.isReadOnly());
+            case TypeTags.UNION_TAG, TypeTags.TABLE_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.convertJsonValue(parseJsonObject(false), targetType);
+            default -> throw new ParserException(UNSUPPORTED_TYPE + targetType + "'");
+        };
+    }
+
+    private Object parseArray(Type targetType) throws ParserException {
+        return switch (targetType.getTag()) {
+            case TypeTags.ARRAY_TAG -> parseArray((ArrayType) targetType);
+            case TypeTags.TUPLE_TAG -> parseTuple((TupleType) targetType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> parseJsonArray(targetType.isReadOnly());
+            case TypeTags.UNION_TAG, TypeTags.TABLE_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.convertJsonValue(parseJsonArray(false), targetType);
+            default -> throw new ParserException("target type is not array type");
+        };
+    }
+
+    private Object parseRecord(BRecordType recordType) throws ParserException {
+        RecordFieldIndex recordFields = recordType.getFieldIndex();
+        // Field values in the order of the document, and the position of each field of the record type in them
+        BString[] names = new BString[recordFields.size() + 1];
+        Object[] values = new Object[names.length];
+        int[] positions = new int[recordFields.size()];
+        int count = 0;
+
+        pos++;
+        if (!isEmpty('}')) {
+            do {
+                readFieldName();
+                int fieldIndex = recordFields.find(strChars, strStart, strLength);
+                BString name;
+                Type fieldType;
+                if (fieldIndex >= 0) {
+                    name = recordFields.getName(fieldIndex);
+                    fieldType = recordFields.getType(fieldIndex);
+                } else if (recordType.sealed) {
+                    if (!skipUnknownFields) {
+                        throw new ParserException("field '" + new String(strChars, strStart, strLength) +
+                                "' cannot be added to the closed record '" + recordType + "'");
+                    }
+                    skippedFields = true;
+                    skipValue();
+                    continue;
+                } else {
+                    name = StringUtils.fromString(new String(strChars, strStart, strLength));
+                    fieldType = TypeUtils.getImpliedType(recordType.restFieldType);
+                }
+                Object value = parseValue(fieldType);
+
+                int position = fieldIndex >= 0 ? positions[fieldIndex] - 1 : indexOf(names, count, name);
+                if (position < 0) {
+                    if (count == names.length) {
+                        names = Arrays.copyOf(names, count << 1);
+                        values = Arrays.copyOf(values, count << 1);
+                    }
+                    position = count++;
+                    names[position] = name;
+                    if (fieldIndex >= 0) {
+                        positions[fieldIndex] = position + 1;
+                    }
+                }
+                values[position] = value;
+            } while (hasNextMember('}'));
+        }
+
+        List<String> notProvidedFields = new ArrayList<>();
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] != 0) {
+                continue;
+            }
+            long fieldFlags = recordFields.getFlags(i);
+            if (SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.REQUIRED)) {
+                throw new ParserException("missing required field '" + recordFields.getName(i) + "' of type '"
+                        + recordFields.getType(i) + "' in record '" + recordType + "'");
+            } else if (!SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.OPTIONAL)) {
+                notProvidedFields.add(recordFields.getName(i).getValue());
+            }
+        }
+        BMap<BString, Object> recordValue = createRecordValueWithDefaultValues(recordType.getPackage(),
+                recordType.getName(), notProvidedFields);
+        for (int i = 0; i < count; i++) {
+            recordValue.populateInitialValue(names[i], values[i]);
+        }
+        if (recordType.isReadOnly()) {
+            recordValue.freezeDirect();
+        }
+        return recordValue;
+    }
+
+    private static int indexOf(BString[] names, int count, BString name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object parseMap(MapType mapType) throws ParserException {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        Type constrainedType = TypeUtils.getImpliedType(mapType.getConstrainedType());
+        pos++;
+        if (!isEmpty('}')) {
+            do {
+                readFieldName();
+                BString name = StringUtils.fromString(new String(strChars, strStart, strLength));
+                map.putForcefully(name, parseValue(constrainedType));
+            } while (hasNextMember('}'));
+        }
+        return map;
+    }
+
+    private Object parseArray(ArrayType arrayType) throws ParserException {
+        ArrayValueImpl array = new ArrayValueImpl(arrayType);
+        Type elementType = TypeUtils.getImpliedType(arrayType.getElementType());
+        boolean closed = arrayType.getState() == ArrayType.ArrayState.CLOSED;
+        int size = arrayType.getSize();
+        int index = 0;
+        pos++;
+        if (!isEmpty(']')) {
+            do {
+                if (closed && size <= index) {
+                    throw new ParserException("'" + arrayType + "' " + ARRAY_SIZE_MISMATCH);
+                }
+                skipWhitespace();
+                checkNotEnd();
+                array.addRefValue(index++, parseValue(elementType));
+            } while (hasNextMember(']'));
+        }
+        if (closed && size > index && !arrayType.hasFillerValue()) {
+            throw new ParserException("missing required number of values for the '" + arrayType +
+                    "' array which does not have a filler value");
+        }
+        return array;
+    }
+
+    private Object parseTuple(TupleType tupleType) throws ParserException {
+        TupleValueImpl tuple = new TupleValueImpl(tupleType);
+        List<Type> tupleTypes = tupleType.getTupleTypes();
+        Type restType = tupleType.getRestType();
+        int index = 0;
+        pos++;
+        if (!isEmpty(']')) {
+            do {
+                Type elementType;
+                if (index < tupleTypes.size()) {
+                    elementType = tupleTypes.get(index);
+                } else if (restType != null) {
+                    elementType = restType;
+                } else {
+                    throw new ParserException("'" + tupleType + "' " + TUPLE_SIZE_MISMATCH);
+                }
+                skipWhitespace();
+                checkNotEnd();
+                tuple.addRefValueForcefully(index++, parseValue(TypeUtils.getImpliedType(elementType)));
+            } while (hasNextMember(']'));
+        }
+        if (tupleTypes.size() > index) {
+            throw new ParserException("missing required number of values for the '" + tupleType + "' tuple");
+        }
+        return tuple;
+    }
+
+    private Object parseString(Type targetType) throws ParserException {
+        readString();
+        BString value = StringUtils.fromString(new String(strChars, strStart, strLength));
+        switch (targetType.getTag()) {
+            case TypeTags.STRING_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG:
+                return value;
+            default:
+                try {
+                    return ValueConverter.getConvertedStringValue(value, targetType);
+                } catch (BError e) {
+                    throw new ParserException(e.getMessage());
+                }
+        }
+    }
+
+    private Object parseNonStringValue(Type targetType) throws ParserException {
+        int tokenStart = pos;
+        int tokenEnd = scanToken();
+        return switch (targetType.getTag()) {
+            case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                    TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                    TypeTags.UNSIGNED8_INT_TAG -> {
+                long value = parseInt(targetType, tokenStart, tokenEnd);
+                if (!TypeConverter.isConvertibleToIntRange(targetType, value)) {
+                    throw getConversionError(targetType, tokenStart, tokenEnd);
+                }
+                yield value;
+            }
+            case TypeTags.BYTE_TAG -> {
+                long value = parseInt(targetType, tokenStart, tokenEnd);
+                if (!TypeChecker.isByteLiteral(value)) {
+                    throw getConversionError(targetType, tokenStart, tokenEnd);
+                }
+                yield (int) value;
+            }
+            case TypeTags.FLOAT_TAG -> parseFloat(targetType, tokenStart, tokenEnd);
+            case TypeTags.DECIMAL_TAG -> parseDecimal(targetType, tokenStart, tokenEnd);
+            case TypeTags.BOOLEAN_TAG -> {
+                if (isToken(StateMachine.TRUE, tokenStart, tokenEnd)) {
+                    yield Boolean.TRUE;
+                } else if (isToken(StateMachine.FALSE, tokenStart, tokenEnd)) {
+                    yield Boolean.FALSE;
+                }
+                throw getConversionError(targetType, tokenStart, tokenEnd);
+            }
+            case TypeTags.NULL_TAG -> {
+                if (isToken(StateMachine.NULL, tokenStart, tokenEnd)) {
+                    yield null;
+                }
+                throw getConversionError(targetType, tokenStart, tokenEnd);
+            }
+            case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.convertJsonValue(getJsonScalar(tokenStart, tokenEnd), targetType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG -> getJsonScalar(tokenStart, tokenEnd);
+            case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG, TypeTags.ARRAY_TAG, TypeTags.TUPLE_TAG ->
+                    throw new ParserException(UNRECOGNIZED_TOKEN + new String(buff, tokenStart,
+                            tokenEnd - tokenStart) + "'");
+            default -> throw getConversionError(targetType, tokenStart, tokenEnd);
+        };
+    }
+
+    private long parseInt(Type targetType, int tokenStart, int tokenEnd) throws ParserException {
+        int i = tokenStart;
+        boolean negative = false;
+        if (i < tokenEnd && (buff[i] == '-' || buff[i] == '+')) {
+            negative = buff[i] == '-';
+            i++;
+        }
+        if (i == tokenEnd) {
+            throw getConversionError(targetType, tokenStart, tokenEnd);
+        }
+        // Accumulated negatively, so that Long.MIN_VALUE can be parsed
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long value = 0;
+        for (; i < tokenEnd; i++) {
+            int digit = buff[i] - '0';
+            if (digit < 0 || digit > 9 || value < multiplyLimit) {
+                throw getConversionError(targetType, tokenStart, tokenEnd);
+            }
+            value *= 10;
+            if (value < limit + digit) {
+                throw getConversionError(targetType, tokenStart, tokenEnd);
+            }
+            value -= digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private double parseFloat(Type targetType, int tokenStart, int tokenEnd) throws ParserException {
+        double value = parseExactDouble(tokenStart, tokenEnd);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        try {
+            return Double.parseDouble(new String(buff, tokenStart, tokenEnd - tokenStart));
+        } catch (NumberFormatException e) {
+            throw getConversionError(targetType, tokenStart, tokenEnd);
+        }
+    }
+
+    /**
+     * Converts a number that has few enough significant digits and a small enough exponent to be computed exactly
+     * with a single double multiplication or division, which is then correctly rounded.
+     *
+     * @return the number, or NaN if it cannot be computed exactly or is not a plain decimal number
+     */
+    private double parseExactDouble(int tokenStart, int tokenEnd) {
+        int i = tokenStart;
+        boolean negative = false;
+        if (i < tokenEnd && (buff[i] == '-' || buff[i] == '+')) {
+            negative = buff[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean hasPoint = false;
+        for (; i < tokenEnd; i++) {
+            char ch = buff[i];
+            if (ch >= '0' && ch <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || ch != '0') {
+                    if (++digits > MAX_EXACT_DOUBLE_DIGITS) {
+                        return Double.NaN;
+                    }
+                    mantissa = mantissa * 10 + (ch - '0');
+                }
+                if (hasPoint) {
+                    exponent--;
+                }
+            } else if (ch == '.' && !hasPoint) {
+                hasPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigits) {
+            return Double.NaN;
+        }
+        if (i < tokenEnd) {
+            if (buff[i] != 'e' && buff[i] != 'E') {
+                return Double.NaN;
+            }
+            i++;
+            boolean negativeExponent = false;
+            if (i < tokenEnd && (buff[i] == '-' || buff[i] == '+')) {
+                negativeExponent = buff[i] == '-';
+                i++;
+            }
+            if (i == tokenEnd || tokenEnd - i > 3) {
+                return Double.NaN;
+            }
+            int exponentValue = 0;
+            for (; i < tokenEnd; i++) {
+                int digit = buff[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return Double.NaN;
+                }
+                exponentValue = exponentValue * 10 + digit;
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (exponent >= 0 && exponent < EXACT_POWERS_OF_TEN.length) {
+            value = mantissa * EXACT_POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < EXACT_POWERS_OF_TEN.length) {
+            value = mantissa / EXACT_POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.NaN;
+        }
+        return negative ? -value : value;
+    }
+
+    private DecimalValue parseDecimal(Type targetType, int tokenStart, int tokenEnd) throws ParserException {
+        try {
+            return new DecimalValue(new BigDecimal(buff, tokenStart, tokenEnd - tokenStart, MathContext.DECIMAL128));
+        } catch (NumberFormatException e) {
+            // Reports exponent overflows the same way as the string based conversion
+            try {
+                return new DecimalValue(new String(buff, tokenStart, tokenEnd - tokenStart));
+            } catch (NumberFormatException ignored) {
+                throw getConversionError(targetType, tokenStart, tokenEnd);
+            }
+        }
+    }
+
+    private Object getJsonScalar(int tokenStart, int tokenEnd) throws ParserException {
+        boolean hasPoint = false;
+        boolean hasExponent = false;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            char ch = buff[i];
+            if (ch == '.') {
+                hasPoint = true;
+            } else if (ch == 'e' || ch == 'E') {
+                hasExponent = true;
+            }
+        }
+        if (!hasPoint) {
+            if (isToken(StateMachine.TRUE, tokenStart, tokenEnd)) {
+                return Boolean.TRUE;
+            } else if (isToken(StateMachine.FALSE, tokenStart, tokenEnd)) {
+                return Boolean.FALSE;
+            } else if (isToken(StateMachine.NULL, tokenStart, tokenEnd)) {
+                return null;
+            }
+        }
+        try {
+            if (buff[tokenStart] == '-') {
+                // Negative zero can only be represented as a float
+                double value = Double.parseDouble(new String(buff, tokenStart, tokenEnd - tokenStart));
+                if (value == 0) {
+                    return value;
+                }
+            }
+            if (hasPoint || hasExponent) {
+                return parseDecimal(PredefinedTypes.TYPE_DECIMAL, tokenStart, tokenEnd);
+            }
+            return parseInt(PredefinedTypes.TYPE_INT, tokenStart, tokenEnd);
+        } catch (NumberFormatException | ParserException e) {
+            throw new ParserException(UNRECOGNIZED_TOKEN + new String(buff, tokenStart, tokenEnd - tokenStart) +
+                    "'");
+        }
+    }
+
+    private Object parseJsonValue(boolean readonly) throws ParserException {
+        return switch (buff[pos]) {
+            case '{' -> parseJsonObject(readonly);
+            case '[' -> parseJsonArray(readonly);
+            case '"' -> {
+                readString();
+                yield StringUtils.fromString(new String(strChars, strStart, strLength));
+            }
+            default -> {
+                int tokenStart = pos;
+                yield getJsonScalar(tokenStart, scanToken());
+            }
+        };
+    }
+
+    private Object parseJsonObject(boolean readonly) throws ParserException {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(readonly ? READONLY_JSON_MAP_TYPE : JSON_MAP_TYPE);
+        pos++;
+        if (!isEmpty('}')) {
+            do {
+                readFieldName();
+                BString name = StringUtils.fromString(new String(strChars, strStart, strLength));
+                map.putForcefully(name, parseJsonValue(readonly));
+            } while (hasNextMember('}'));
+        }
+        return map;
+    }
+
+    private Object parseJsonArray(boolean readonly) throws ParserException {
+        ArrayValueImpl array = new ArrayValueImpl(readonly ? READONLY_JSON_ARRAY_TYPE : JSON_ARRAY_TYPE);
+        pos++;
+        if (!isEmpty(']')) {
+            do {
+                skipWhitespace();
+                checkNotEnd();
+                array.addRefValueForcefully(array.size(), parseJsonValue(readonly));
+            } while (hasNextMember(']'));
+        }
+        return array;
+    }
+
+    private void skipValue() throws ParserException {
+        switch (buff[pos]) {
+            case '"' -> readString();
+            case '{', '[' -> {
+                char close = buff[pos] == '{' ? '}' : ']';
+                pos++;
+                if (isEmpty(close)) {
+                    return;
+                }
+                do {
+                    if (close == '}') {
+                        readFieldName();
+                    } else {
+                        skipWhitespace();
+                        checkNotEnd();
+                    }
+                    skipValue();
+                } while (hasNextMember(close));
+            }
+            default -> {
+                // Converted only to validate the token
+                int tokenStart = pos;
+                getJsonScalar(tokenStart, scanToken());
+            }
+        }
+    }
+
+    // Skips the opening character of an object or array, and returns whether it is immediately closed
+    private boolean isEmpty(char close) throws ParserException {
+        skipWhitespace();
+        checkNotEnd();
+        if (buff[pos] == close) {
+            pos++;
+            return true;
+        }
+        if (close == '}' && buff[pos] != '"') {
+            StateMachine.throwExpected("\"", "}");
+        }
+        return false;
+    }
+
+    // Reads the separator after a member, and returns whether another member follows
+    private boolean hasNextMember(char close) throws ParserException {
+        skipWhitespace();
+        checkNotEnd();
+        char ch = buff[pos++];
+        if (ch == ',') {
+            return true;
+        } else if (ch == close) {
+            return false;
+        }
+        StateMachine.throwExpected(",", String.valueOf(close));
+        return false;
+    }
+
+    // Reads a field name and the following colon, and leaves the parser at the field value
+    private void readFieldName() throws ParserException {
+        skipWhitespace();
+        checkNotEnd();
+        if (buff[pos] != '"') {
+            StateMachine.throwExpected("\"");
+        }
+        readString();
+        skipWhitespace();
+        checkNotEnd();
+        if (buff[pos++] != ':') {
+            StateMachine.throwExpected(":");
+        }
+        skipWhitespace();
+        checkNotEnd();
+    }
+
+    private void readString() throws ParserException {
+        int i = ++pos;
+        while (i < end) {
+            char ch = buff[i];
+            if (ch == '"') {
+                strChars = buff;
+                strStart = pos;
+                strLength = i - pos;
+                pos = i + 1;
+                return;
+            } else if (ch == '\\') {
+                break;
+            }
+            i++;
+        }
+        if (i == end) {
+            pos = end;
+            throw new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+        }
+        readEscapedString(i);
+    }
+
+    private void readEscapedString(int escapeIndex) throws ParserException {
+        int length = escapeIndex - pos;
+        ensureScratchCapacity(length);
+        System.arraycopy(buff, pos, scratch, 0, length);
+        int i = escapeIndex;
+        while (i < end) {
+            char ch = buff[i++];
+            if (ch == '"') {
+                strChars = scratch;
+                strStart = 0;
+                strLength = length;
+                pos = i;
+                return;
+            }
+            if (ch == '\\') {
+                if (i == end) {
+                    break;
+                }
+                ch = switch (buff[i++]) {
+                    case '"' -> '"';
+                    case '\\' -> '\\';
+                    case '/' -> '/';
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    case 't' -> '\t';
+                    case 'u' -> {
+                        if (end - i < 4) {
+                            pos = end;
+                            throw new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+                        }
+                        char unicodeChar = 0;
+                        for (int j = 0; j < 4; j++) {
+                            int digit = Character.digit(buff[i++], 16);
+                            if (digit < 0) {
+                                pos = i;
+                                throw new ParserException("expected the hexadecimal value of a unicode character");
+                            }
+                            unicodeChar = (char) ((unicodeChar << 4) | digit);
+                        }
+                        yield unicodeChar;
+                    }
+                    default -> {
+                        pos = i;
+                        throw new ParserException("expected escaped characters");
+                    }
+                };
+            }
+            ensureScratchCapacity(length + 1);
+            scratch[length++] = ch;
+        }
+        pos = end;
+        throw new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+    }
+
+    private void ensureScratchCapacity(int capacity) {
+        if (capacity > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(capacity, scratch.length << 1));
+        }
+    }
+
+    // Moves past a number or a literal, and returns the end of it
+    private int scanToken() {
+        while (pos < end) {
+            char ch = buff[pos];
+            if (ch == ',' || ch == '}' || ch == ']' || isWhitespace(ch)) {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private boolean isToken(String literal, int tokenStart, int tokenEnd) {
+        int length = literal.length();
+        if (tokenEnd - tokenStart != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buff[tokenStart + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && isWhitespace(buff[pos])) {
+            pos++;
+        }
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == StateMachine.SPACE || ch == StateMachine.NEWLINE || ch == StateMachine.CR ||
+                ch == StateMachine.HZ_TAB;
+    }
+
+    private void checkNotEnd() throws ParserException {
+        if (pos >= end) {
+            throw new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+        }
+    }
+
+    private ParserException getConversionError(Type targetType, int tokenStart, int tokenEnd) {
+        return new ParserException("value '" + new String(buff, tokenStart, tokenEnd - tokenStart) +
+                "' cannot be converted to '" + targetType + "'");
+    }
+
+    private int getLine() {
+        int line = 1;
+        for (int i = start; i < pos && i < end; i++) {
+            if (buff[i] == StateMachine.NEWLINE) {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    private int getColumn() {
+        int column = 0;
+        for (int i = Math.min(pos, end) - 1; i >= start && buff[i] != StateMachine.NEWLINE; i--) {
+            column++;
+        }
+        return column;
+    }
+}
@@ -49,6 +49,10 @@ import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -155,6 +159,30 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Create a stream of the children of the root element of a XML document read from an input stream.
+     *
+     * @param xmlStream XML input stream
+     * @return Stream of the children of the root element
+     * @see #parseChildren(Reader)
+     */
+    public static Stream<BXml> parseChildren(InputStream xmlStream) {
+        return parseChildren(new InputStreamReader(xmlStream));
+    }
+
+    /**
+     * Create a stream of the children of the root element of a XML document read from a reader. A child is parsed
+     * along with its descendants only when the stream reaches it, and the stream does not hold the children it has
+     * returned. The reader is closed and released once the stream is consumed, fails to parse, or is closed.
+     *
+     * @param reader XML reader
+     * @return Stream of the children of the root element
+     */
+    public static Stream<BXml> parseChildren(Reader reader) {
+        ChildSpliterator children = new ChildSpliterator(new XmlTreeBuilder(reader));
+        return StreamSupport.stream(children, false).onClose(children::close);
+    }
+
     /**
      * Concatenate two XML sequences and produce a single sequence.
      *
@@ -570,4 +598,44 @@ public class XmlFactory {
             return s1.equals(s2);
         }
     }
+
+    /**
+     * Spliterator over the children of the root element, which drops the tree builder once the document ends.
+     */
+    private static class ChildSpliterator extends Spliterators.AbstractSpliterator<BXml> {
+
+        private XmlTreeBuilder treeBuilder;
+
+        ChildSpliterator(XmlTreeBuilder treeBuilder) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.treeBuilder = treeBuilder;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super BXml> action) {
+            if (treeBuilder == null) {
+                return false;
+            }
+            BXml child;
+            try {
+                child = treeBuilder.parseNextChild();
+            } catch (BError e) {
+                treeBuilder = null;
+                throw e;
+            }
+            if (child == null) {
+                treeBuilder = null;
+                return false;
+            }
+            action.accept(child);
+            return true;
+        }
+
+        void close() {
+            if (treeBuilder != null) {
+                treeBuilder.close();
+                treeBuilder = null;
+            }
+        }
+    }
 }
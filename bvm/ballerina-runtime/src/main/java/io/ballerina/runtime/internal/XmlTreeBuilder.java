@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlSequence;
@@ -30,6 +31,7 @@ import io.ballerina.runtime.internal.values.XmlQName;
 import io.ballerina.runtime.internal.values.XmlSequence;
 import io.ballerina.runtime.internal.values.XmlText;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayDeque;
@@ -57,6 +59,9 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 
 /**
  * XML tree builder for Ballerina xml node structure using {@code XMLStreamReader}.
+ * <p>
+ * The tree is either built at once by {@link #parse()}, or one child of the root element at a time by
+ * {@link #parseNextChild()}, in which case only the child being parsed is held.
  *
  * @since 1.2.0
  */
@@ -70,16 +75,23 @@ public class XmlTreeBuilder {
         xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
+    private Reader reader;
     private XMLStreamReader xmlStreamReader;
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    private boolean readNext = false;
+
+    // Holds the child of the root element being parsed, when the children are parsed one at a time
+    private List<BXml> rootChildren;
+    private boolean closed = false;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        reader = stringReader;
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -96,51 +108,22 @@ public class XmlTreeBuilder {
     }
 
     private void handleXMLStreamException(Exception e) {
+        throw createParseError(e);
+    }
+
+    private static BError createParseError(Exception e) {
         String reason = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
         if (reason == null) {
-            throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
+            return ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
         }
-        throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + reason));
+        return ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR_PREFIX + reason));
     }
 
     public BXml parse() {
-        boolean readNext = false;
-        int next;
         try {
             while (xmlStreamReader.hasNext()) {
-                if (readNext) {
-                    readNext = false;
-                    next = xmlStreamReader.getEventType();
-                } else {
-                    next = xmlStreamReader.next();
-                }
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                        readCData(xmlStreamReader);
-                        break;
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        readNext = true;
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (readEvent()) {
+                    return buildDocument();
                 }
             }
         } catch (Exception e) {
@@ -150,6 +133,111 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Parses the next child of the root element of the document along with its descendants, without adding it to the
+     * root element. The children of a large document can be read this way while holding only one of them at a time.
+     * Comments and processing instructions outside the root element are not returned. The reader is closed once the
+     * document ends, when it fails to parse, or when {@link #close()} is called.
+     *
+     * @return next child of the root element, or null if the document has ended
+     * @throws BError if the document fails to parse before the end of the child
+     */
+    public BXml parseNextChild() {
+        if (closed) {
+            return null;
+        }
+        if (rootChildren == null) {
+            rootChildren = new ArrayList<>(1);
+        }
+        try {
+            while (xmlStreamReader.hasNext()) {
+                if (readEvent()) {
+                    break;
+                }
+                // The child is complete once the parser is back in the root element
+                if (!rootChildren.isEmpty() && siblingDeque.peek() == rootChildren) {
+                    return rootChildren.remove(0);
+                }
+            }
+        } catch (Exception e) {
+            close();
+            throw createParseError(e);
+        }
+        close();
+        return null;
+    }
+
+    /**
+     * Stops parsing the document, closes the reader, and drops the reader and the partially built tree so that they
+     * are not held by the builder.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            // The document is no longer read
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // The document is no longer read
+            }
+            xmlStreamReader = null;
+            reader = null;
+            seqDeque = null;
+            siblingDeque = null;
+            rootChildren = null;
+        }
+    }
+
+    /**
+     * Reads the next event of the document.
+     *
+     * @return whether the document has ended
+     */
+    private boolean readEvent() throws XMLStreamException {
+        int next;
+        if (readNext) {
+            readNext = false;
+            next = xmlStreamReader.getEventType();
+        } else {
+            next = xmlStreamReader.next();
+        }
+        switch (next) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+                readCData(xmlStreamReader);
+                break;
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                readNext = true;
+                break;
+            case END_DOCUMENT:
+                return true;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+        return false;
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -198,6 +286,11 @@ public class XmlTreeBuilder {
 
         siblingDeque.peek().add(xmlItem);
         populateAttributeMap(xmlStreamReader, xmlItem, elemName);
+        if (rootChildren != null && siblingDeque.size() == 1) {
+            // The children of the root element are returned one at a time instead of being added to it
+            siblingDeque.push(rootChildren);
+            return;
+        }
         siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
     }
     // need to duplicate the same in xmlItem.setAttribute
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.RegExpValue;
+
+import java.util.regex.Pattern;
+
+/**
+ * Cache of the java patterns compiled for ballerina regular expressions.
+ * <p>
+ * A regular expression is compiled after translating it to the java syntax, which is costly compared to matching
+ * short strings. Regular expression values are created each time a regular expression template is evaluated, so the
+ * patterns are cached by the text of the regular expression, and shared by all values with the same text.
+ * <p>
+ * The cache is a fixed size, direct mapped table, so it never holds more than a bounded number of patterns and a new
+ * pattern simply replaces the one in its slot. Slots hold immutable entries, and are read and written without locking.
+ *
+ * @since 2201.10.0
+ */
+public final class RegExpPatternCache {
+
+    private static final int SIZE = 1024;
+
+    private static final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Returns the java pattern for the given regular expression, compiled with the given flags.
+     *
+     * @param regExpValue regular expression
+     * @param flags       match flags, as accepted by {@link Pattern#compile(String, int)}
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated regular expression is not a valid pattern
+     */
+    public static Pattern getPattern(RegExpValue regExpValue, int flags) {
+        String regExp = regExpValue.getRegExpString();
+        int slot = slot(regExp, flags);
+        Entry entry = entries[slot];
+        if (entry != null && entry.flags == flags && entry.regExp.equals(regExp)) {
+            return entry.pattern;
+        }
+        // Map the required ballerina regexp constructs to java.
+        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs(regExpValue);
+        Pattern pattern = Pattern.compile(StringUtils.getStringValue(translatedRegExpVal), flags);
+        entries[slot] = new Entry(regExp, flags, pattern);
+        return pattern;
+    }
+
+    private static int slot(String regExp, int flags) {
+        int h = regExp.hashCode() * 31 + flags;
+        return (h ^ (h >>> 16)) & (SIZE - 1);
+    }
+
+    private record Entry(String regExp, int flags, Pattern pattern) {
+    }
+
+    private RegExpPatternCache() {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Holds the {@link FunctionFrame}s of a yielded strand. A strand is only run by one thread at a time, hence unlike
+ * {@link java.util.Stack} this is not synchronized.
+ * <p>
+ * Popped frames are kept in their slot, so that when a function yields again at the same depth it can refill the
+ * frame it was resumed from with {@link #recycle(Class)} instead of allocating a new one. Generated code reads all
+ * the fields of a frame as soon as it is popped and then clears its reference fields, so that a recycled frame does
+ * not keep the locals it held reachable. All the fields are written again before the frame is pushed.
+ *
+ * @since 2201.10.0
+ */
+public class FrameStack {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private FunctionFrame[] frames = new FunctionFrame[INITIAL_CAPACITY];
+    private int size;
+
+    public void push(FunctionFrame frame) {
+        if (size == frames.length) {
+            frames = Arrays.copyOf(frames, size << 1);
+        }
+        frames[size++] = frame;
+    }
+
+    public FunctionFrame pop() {
+        return frames[--size];
+    }
+
+    /**
+     * Returns the frame that was last popped from the next free slot, if it is an instance of the given frame
+     * class. The returned frame is not pushed.
+     *
+     * @param frameClass generated frame class of the yielding function
+     * @return a frame that can be reused, or null if there is none
+     */
+    public FunctionFrame recycle(Class<?> frameClass) {
+        if (size == frames.length) {
+            return null;
+        }
+        FunctionFrame frame = frames[size];
+        if (frame != null && frame.getClass() == frameClass) {
+            return frame;
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the frames currently in the stack, from the bottom of the stack to the top. This can be
+     * called from a thread other than the one running the strand, in which case the copy may be stale and may
+     * contain null elements.
+     *
+     * @return frames in the stack
+     */
+    public FunctionFrame[] toArray() {
+        FunctionFrame[] currentFrames = frames;
+        int currentSize = Math.min(size, currentFrames.length);
+        return Arrays.copyOf(currentFrames, currentSize);
+    }
+}
@@ -45,6 +45,12 @@ public class ItemGroup {
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Index of the scheduler thread that last picked this group, used by {@link WorkStealingRunnableList} to send
+     * the group back to the same thread. -1 if the group has not run yet.
+     */
+    volatile int affinity = -1;
+
     private final ReentrantLock groupLock = new ReentrantLock();
 
     public static final ItemGroup POISON_PILL = new ItemGroup();
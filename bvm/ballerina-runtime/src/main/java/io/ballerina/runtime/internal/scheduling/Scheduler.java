@@ -32,14 +32,11 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -64,24 +61,48 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableList runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
-    private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
     private final Strand previousStrand;
 
     private final AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable to either `shared` or
+     * `work-stealing`. Default is `shared`.
+     */
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_BACKEND system variable to either `platform` or
+     * `virtual`. Default is `platform`. With `virtual`, each strand group runs on its own JDK virtual thread, so
+     * strands that block in Java interop calls do not hold on to a thread of the fixed size pool.
+     */
+    private static String schedulerBackendConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_BACKEND_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
      */
     private final int numThreads;
 
+    /**
+     * Creates the threads that run strand groups when the virtual thread backend is enabled, null otherwise.
+     */
+    private final ThreadFactory virtualThreadFactory;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * Number of strand groups running on threads of the virtual thread factory, which the dispatcher waits for
+     * before the scheduler stops, as the platform backend waits for its threads.
+     */
+    private final AtomicInteger runningGroupCount = new AtomicInteger();
+    private final Object runningGroupsLock = new Object();
+
     private Semaphore mainBlockSem;
     private final RuntimeRegistry runtimeRegistry;
     private AtomicReference<ItemGroup> objectGroup = new AtomicReference<>();
@@ -100,14 +121,37 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, createVirtualThreadFactory(numThreads));
+    }
+
+    /**
+     * Creates a scheduler that runs each strand group on a new thread of the given factory, instead of on a thread of
+     * the fixed size pool.
+     *
+     * @param numThreads           number of threads
+     * @param immortal             whether the scheduler keeps running once all strands are done
+     * @param virtualThreadFactory factory of the threads that run strand groups, or null to use the pool
+     */
+    public Scheduler(int numThreads, boolean immortal, ThreadFactory virtualThreadFactory) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.virtualThreadFactory = virtualThreadFactory;
+        this.runnableList = virtualThreadFactory != null ? new SharedRunnableList() : createRunnableList(numThreads);
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
         objectGroup.set(group);
     }
 
+    /**
+     * Returns the number of threads that run the strands of this scheduler.
+     *
+     * @return number of threads
+     */
+    public int getNumThreads() {
+        return numThreads;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -122,7 +166,7 @@ public class Scheduler {
     }
 
     public static Map<Integer, Strand> getCurrentStrands() {
-        return new HashMap<>(currentStrands);
+        return StrandRegistry.getTrackedStrands();
     }
 
     /**
@@ -267,6 +311,10 @@ public class Scheduler {
     }
 
     public void start() {
+        if (virtualThreadFactory != null) {
+            this.dispatchSafely();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -295,7 +343,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -308,38 +355,108 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Hands over each task group that is submitted to the Scheduler to a new virtual thread.
+     */
+    private void dispatchSafely() {
+        try {
+            while (true) {
+                ItemGroup group;
+                try {
+                    group = runnableList.take();
+                } catch (InterruptedException ignored) {
+                    continue;
+                }
 
+                if (group == POISON_PILL) {
+                    break;
+                }
+
+                runningGroupCount.incrementAndGet();
                 try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+                    virtualThreadFactory.newThread(() -> runGroupSafely(group)).start();
+                } catch (Throwable t) {
+                    groupCompleted();
+                    throw t;
+                }
+            }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+        awaitRunningGroups();
+    }
+
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            groupCompleted();
+        }
+    }
+
+    private void groupCompleted() {
+        if (runningGroupCount.decrementAndGet() == 0) {
+            synchronized (runningGroupsLock) {
+                runningGroupsLock.notifyAll();
+            }
+        }
+    }
+
+    private void awaitRunningGroups() {
+        synchronized (runningGroupsLock) {
+            while (runningGroupCount.get() > 0) {
+                try {
+                    runningGroupsLock.wait();
+                } catch (InterruptedException e) {
+                    RuntimeUtils.printCrashLog(e);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the items of the given group until it has no runnable items left.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        boolean isItemsEmpty = group.items.isEmpty();
+        while (!isItemsEmpty) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
+            group.lock();
+            if ((isItemsEmpty = group.items.empty())) {
+                group.scheduled.set(false);
+            }
+            group.unlock();
         }
     }
 
@@ -393,19 +510,8 @@ public class Scheduler {
 
                 justCompleted.setState(State.DONE);
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
-                            }
-                        }
-                    }
-                    ctx.unLock();
+                if (justCompleted.waitingContexts != null) {
+                    notifyWaitingContexts(item, justCompleted.waitingContexts, result);
                 }
 
                 cleanUp(justCompleted);
@@ -454,11 +560,28 @@ public class Scheduler {
         strand.unlock();
     }
 
+    private void notifyWaitingContexts(SchedulerItem item, List<WaitContext> waitingContexts, Object result) {
+        for (WaitContext ctx : waitingContexts) {
+            ctx.lock();
+            if (!ctx.completed) {
+                if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                    if (ctx.intermediate) {
+                        ctx.runnable = true;
+                    } else {
+                        ctx.completed = true;
+                        reschedule(ctx.schedulerItem);
+                    }
+                }
+            }
+            ctx.unLock();
+        }
+    }
+
     private void cleanUp(Strand justCompleted) {
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
 
-        currentStrands.remove(justCompleted.getId());
+        StrandRegistry.deregister(justCompleted);
         //TODO: more cleanup , eg channels
     }
 
@@ -507,18 +630,20 @@ public class Scheduler {
                                     Type constraint, String name, StrandMetadata metadata) {
         Strand newStrand = new Strand(name, metadata, this, parent, properties, parent != null ?
                 parent.currentTrxContext : null);
-        currentStrands.put(newStrand.getId(), newStrand);
+        StrandRegistry.register(newStrand);
         return createFuture(parent, callback, constraint, newStrand);
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FrameStack();
         return future;
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
+        // With the virtual thread backend only the dispatcher takes from the runnable list.
+        int consumers = virtualThreadFactory != null ? 1 : numThreads;
+        for (int i = 0; i < consumers; i++) {
             runnableList.add(POISON_PILL);
         }
     }
@@ -551,6 +676,45 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static ThreadFactory createVirtualThreadFactory(int numThreads) {
+        if (schedulerBackendConf == null || RuntimeConstants.SCHEDULER_BACKEND_PLATFORM.equals(schedulerBackendConf)) {
+            return null;
+        }
+        if (!RuntimeConstants.SCHEDULER_BACKEND_VIRTUAL.equals(schedulerBackendConf)) {
+            // Log and continue with default
+            err.println("ballerina: invalid value '" + schedulerBackendConf + "' for system variable:" +
+                    RuntimeConstants.BALLERINA_SCHEDULER_BACKEND_ENV_VAR + ", using '" +
+                    RuntimeConstants.SCHEDULER_BACKEND_PLATFORM + "'");
+            schedulerBackendConf = null;
+            return null;
+        }
+        if (!BLangVirtualThreadFactory.isSupported()) {
+            // Log and continue with default
+            err.println("ballerina: virtual threads are not supported by the current JVM, ignoring system " +
+                    "variable:" + RuntimeConstants.BALLERINA_SCHEDULER_BACKEND_ENV_VAR);
+            schedulerBackendConf = null;
+            return null;
+        }
+        // A single threaded scheduler is expected to run strands on the thread that started it.
+        return numThreads > 1 ? new BLangVirtualThreadFactory("jbal-strand-exec") : null;
+    }
+
+    private static RunnableList createRunnableList(int numThreads) {
+        if (schedulerPolicyConf == null || RuntimeConstants.SCHEDULER_POLICY_SHARED.equals(schedulerPolicyConf)) {
+            return new SharedRunnableList();
+        }
+        if (RuntimeConstants.SCHEDULER_POLICY_WORK_STEALING.equals(schedulerPolicyConf)) {
+            // A single thread has nobody to steal from.
+            return numThreads > 1 ? new WorkStealingRunnableList(numThreads) : new SharedRunnableList();
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + schedulerPolicyConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", using '" +
+                RuntimeConstants.SCHEDULER_POLICY_SHARED + "'");
+        schedulerPolicyConf = null;
+        return new SharedRunnableList();
+    }
+
     public void gracefulExit() {
         if (!this.immortal) {
             this.poison();
@@ -34,7 +34,6 @@ import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,7 +65,7 @@ public class Strand {
     private final String name;
     private final StrandMetadata metadata;
 
-    public Stack<FunctionFrame> frames;
+    public FrameStack frames;
     public int resumeIndex;
     public int functionInvocation;
     public Object returnValue;
@@ -77,7 +76,6 @@ public class Strand {
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
     public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public boolean cancel;
     public int acquiredLockCount;
 
@@ -87,6 +85,9 @@ public class Strand {
     ItemGroup strandGroup;
 
     private Map<String, Object> globalProps;
+    // False while globalProps may be shared with a parent or child strand, in which case it is copied on write.
+    // Guarded by the monitor of this strand, since child strands clear it when they share the properties.
+    private boolean ownsGlobalProps;
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
@@ -94,6 +95,12 @@ public class Strand {
     public BMap<BString, Object> workerReceiveMap = null;
     public int channelCount = 0;
 
+    // Used by the StrandRegistry to link this strand while it is tracked for strand dumps
+    int registryStripe = -1;
+    long registeredTime;
+    Strand registryPrev;
+    Strand registryNext;
+
     public Strand() {
         this.id = -1;
         this.strandLock = null;
@@ -107,30 +114,30 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
+        // Replaced with a mutable set when channels are added, see updateChannelDetails
+        this.channelDetails = Collections.emptySet();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
-        //TODO: improve by using a copy on write map #26710
         if (properties != null) {
             this.globalProps = properties;
+            this.ownsGlobalProps = true;
         } else if (parent != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
+            // Share the parent's properties until either of the strands updates them
+            this.globalProps = parent.shareGlobalProps();
         } else {
             this.globalProps = new HashMap<>();
+            this.ownsGlobalProps = true;
         }
     }
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
         } else {
@@ -180,8 +187,37 @@ public class Strand {
         return this.globalProps.get(key);
     }
 
-    public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+    public synchronized void setProperty(String key, Object value) {
+        getWritableGlobalProps().put(key, value);
+    }
+
+    private synchronized void setPropertyIfAbsent(String key, Object value) {
+        getWritableGlobalProps().putIfAbsent(key, value);
+    }
+
+    private synchronized void removeProperty(String key) {
+        getWritableGlobalProps().remove(key);
+    }
+
+    private synchronized Map<String, Object> shareGlobalProps() {
+        this.ownsGlobalProps = false;
+        return this.globalProps;
+    }
+
+    // Must be called while holding the monitor of this strand
+    private Map<String, Object> getWritableGlobalProps() {
+        if (!this.ownsGlobalProps) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.ownsGlobalProps = true;
+        }
+        return this.globalProps;
+    }
+
+    private Stack<TransactionLocalContext> getTrxContexts() {
+        if (this.trxContexts == null) {
+            this.trxContexts = new Stack<>();
+        }
+        return this.trxContexts;
     }
 
     public boolean isInTransaction() {
@@ -194,21 +230,21 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            setProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        removeProperty(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        setPropertyIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
     }
 
     public ErrorValue handleFlush(ChannelDetails[] channels) throws Throwable {
@@ -290,7 +326,7 @@ public class Strand {
                 ctx.waitCount.decrementAndGet();
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -338,7 +374,7 @@ public class Strand {
                     }
                     future.setWaited(true);
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -366,9 +402,20 @@ public class Strand {
     }
 
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails.isEmpty()) {
+            this.channelDetails = new HashSet<>();
+        }
         Collections.addAll(this.channelDetails, channels);
     }
 
+    // Should be called while holding the lock of this strand
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
@@ -473,7 +520,7 @@ public class Strand {
     }
 
     private void getInfoFromYieldedState(StringBuilder strandInfo, String closingBracketWithNewLines) {
-        Stack<FunctionFrame> strandFrames = this.frames;
+        FrameStack strandFrames = this.frames;
         if ((strandFrames == null) || (strandFrames.isEmpty())) {
             // this means the strand frames is changed, hence the state is runnable
             strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
@@ -484,22 +531,21 @@ public class Strand {
         String stringPrefix = "\t\tat\t";
         String yieldStatus = "BLOCKED";
         boolean noPickedYieldStatus = true;
-        try {
-            for (FunctionFrame frame : strandFrames) {
-                if (noPickedYieldStatus) {
-                    yieldStatus = frame.yieldStatus;
-                    noPickedYieldStatus = false;
-                }
-                String yieldLocation = frame.yieldLocation;
-                frameStackTrace.append(stringPrefix).append(yieldLocation);
-                frameStackTrace.append("\n");
-                stringPrefix = "\t\t  \t";
+        for (FunctionFrame frame : strandFrames.toArray()) {
+            if (frame == null) {
+                // frames got added or removed while they were being copied
+                // that means now the strand state is changed from yielded state to runnable state
+                strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
+                return;
             }
-        } catch (ConcurrentModificationException ce) {
-            // this exception can be thrown when frames get added or removed while it is being iterated
-            // that means now the strand state is changed from yielded state to runnable state
-            strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
-            return;
+            if (noPickedYieldStatus) {
+                yieldStatus = frame.yieldStatus;
+                noPickedYieldStatus = false;
+            }
+            String yieldLocation = frame.yieldLocation;
+            frameStackTrace.append(stringPrefix).append(yieldLocation);
+            frameStackTrace.append("\n");
+            stringPrefix = "\t\t  \t";
         }
         if (!this.isYielded() || noPickedYieldStatus) {
             // if frames have got empty, noPickedYieldStatus is true, then the state has changed to runnable
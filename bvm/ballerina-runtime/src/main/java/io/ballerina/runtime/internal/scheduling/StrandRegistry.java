@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the strands that have not completed yet, so that they can be listed in a strand dump.
+ * <p>
+ * Strands are linked into one of several striped lists, picked by the thread that creates the strand, so that
+ * creating and completing strands on different threads do not contend on a single map. The lists are merged only
+ * when a dump is requested. Tracking every strand can be reduced by setting the BALLERINA_STRAND_DUMP_SAMPLE_RATE
+ * system variable to N, in which case only every Nth strand is tracked, or to 0, in which case only the active
+ * strand count is kept.
+ *
+ * @since 2201.10.0
+ */
+public final class StrandRegistry {
+
+    private static final PrintStream err = System.err;
+
+    /**
+     * Upper bounds, in milliseconds, of the buckets of the strand age histogram. Strands older than the last bound
+     * fall into an extra overflow bucket.
+     */
+    private static final long[] AGE_BUCKET_BOUNDS = {1, 10, 100, 1000, 10000, 60000};
+
+    private static final int STRIPE_COUNT = stripeCount();
+    private static final Stripe[] stripes = createStripes();
+    private static final int sampleRate = getSampleRate();
+
+    private static final LongAdder activeStrands = new LongAdder();
+
+    static void register(Strand strand) {
+        activeStrands.increment();
+        if (sampleRate == 0 || (sampleRate > 1 && strand.getId() % sampleRate != 0)) {
+            return;
+        }
+        int stripeIndex = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+        strand.registryStripe = stripeIndex;
+        strand.registeredTime = System.nanoTime();
+        stripes[stripeIndex].add(strand);
+    }
+
+    static void deregister(Strand strand) {
+        activeStrands.decrement();
+        int stripeIndex = strand.registryStripe;
+        if (stripeIndex < 0) {
+            return;
+        }
+        stripes[stripeIndex].remove(strand);
+        strand.registryStripe = -1;
+    }
+
+    /**
+     * Returns the tracked strands that have not completed yet, keyed by the strand id.
+     *
+     * @return a snapshot of the tracked strands
+     */
+    public static Map<Integer, Strand> getTrackedStrands() {
+        Map<Integer, Strand> strands = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(strands);
+        }
+        return strands;
+    }
+
+    /**
+     * Returns the number of strands that have been created but not completed yet, including the strands that are
+     * not tracked.
+     *
+     * @return active strand count
+     */
+    public static long getActiveStrandCount() {
+        return activeStrands.sum();
+    }
+
+    /**
+     * Returns whether only a subset of the active strands is tracked.
+     *
+     * @return true if the tracked strands are a sample
+     */
+    public static boolean isSampled() {
+        return sampleRate != 1;
+    }
+
+    /**
+     * Returns the upper bounds, in milliseconds, of the strand age histogram buckets.
+     *
+     * @return histogram bucket bounds
+     */
+    public static long[] getAgeBucketBounds() {
+        return AGE_BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Counts the tracked strands by their age. The returned array has one element more than the bucket bounds, for
+     * the strands that are older than the last bound.
+     *
+     * @return number of tracked strands in each age bucket
+     */
+    public static long[] getAgeHistogram() {
+        long[] histogram = new long[AGE_BUCKET_BOUNDS.length + 1];
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            stripe.addAges(now, histogram);
+        }
+        return histogram;
+    }
+
+    private static int bucketOf(long ageMillis) {
+        for (int i = 0; i < AGE_BUCKET_BOUNDS.length; i++) {
+            if (ageMillis < AGE_BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return AGE_BUCKET_BOUNDS.length;
+    }
+
+    private static int stripeCount() {
+        int count = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+        return Math.max(count, 4);
+    }
+
+    private static Stripe[] createStripes() {
+        Stripe[] stripeArray = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripeArray[i] = new Stripe();
+        }
+        return stripeArray;
+    }
+
+    private static int getSampleRate() {
+        String sampleRateConf = System.getenv(RuntimeConstants.BALLERINA_STRAND_DUMP_SAMPLE_RATE_ENV_VAR);
+        if (sampleRateConf == null) {
+            return 1;
+        }
+        try {
+            int rate = Integer.parseInt(sampleRateConf);
+            if (rate >= 0) {
+                return rate;
+            }
+        } catch (NumberFormatException ignored) {
+            // Logged below
+        }
+        // Log and continue with default
+        err.println("ballerina: invalid value '" + sampleRateConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_STRAND_DUMP_SAMPLE_RATE_ENV_VAR + ", tracking all strands");
+        return 1;
+    }
+
+    /**
+     * Intrusive doubly linked list of strands, linked through the registry fields of {@link Strand}.
+     */
+    private static final class Stripe {
+
+        private Strand head;
+
+        synchronized void add(Strand strand) {
+            strand.registryNext = head;
+            if (head != null) {
+                head.registryPrev = strand;
+            }
+            head = strand;
+        }
+
+        synchronized void remove(Strand strand) {
+            Strand prev = strand.registryPrev;
+            Strand next = strand.registryNext;
+            if (prev != null) {
+                prev.registryNext = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.registryPrev = prev;
+            }
+            strand.registryPrev = null;
+            strand.registryNext = null;
+        }
+
+        synchronized void collect(Map<Integer, Strand> strands) {
+            for (Strand strand = head; strand != null; strand = strand.registryNext) {
+                strands.put(strand.getId(), strand);
+            }
+        }
+
+        synchronized void addAges(long now, long[] histogram) {
+            for (Strand strand = head; strand != null; strand = strand.registryNext) {
+                histogram[bucketOf((now - strand.registeredTime) / 1_000_000)]++;
+            }
+        }
+    }
+
+    private StrandRegistry() {
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunnableList} that gives each scheduler thread its own deque and lets idle threads steal work from the
+ * others, so that threads do not contend on a single queue lock.
+ * <p>
+ * Groups scheduled from a worker thread go to that worker's deque, and a group that has already run goes back to the
+ * deque of the worker that last ran it. Groups scheduled from any other thread go to a shared injection queue.
+ * Owners and thieves both take from the head of a deque, which keeps the FIFO order of the shared queue.
+ *
+ * @since 2201.10.0
+ */
+public class WorkStealingRunnableList implements RunnableList {
+
+    private final Worker[] workers;
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    public WorkStealingRunnableList(int numThreads) {
+        this.workers = new Worker[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workers[i] = new Worker(i);
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker target;
+        int affinity = group.affinity;
+        if (affinity >= 0 && affinity < registeredWorkers.get()) {
+            target = workers[affinity];
+        } else {
+            target = currentWorker.get();
+        }
+
+        if (target == null) {
+            injectionQueue.add(group);
+        } else {
+            target.deque.addLast(group);
+        }
+        signalWork(target);
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker self = currentWorker.get();
+        if (self == null) {
+            self = register();
+        }
+        while (true) {
+            ItemGroup group = poll(self);
+            if (group != null) {
+                return claim(self, group);
+            }
+
+            // Announce the intent to park before the final check, so that a concurrent add either sees this
+            // worker as idle or its group is found by the check below.
+            idleWorkers.incrementAndGet();
+            self.parked.set(true);
+            group = poll(self);
+            if (group != null) {
+                if (!self.parked.compareAndSet(true, false)) {
+                    // Some other thread spent its wake up signal on this worker, pass it on.
+                    signalWork(null);
+                }
+                idleWorkers.decrementAndGet();
+                return claim(self, group);
+            }
+            while (self.parked.get()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    self.parked.set(false);
+                    idleWorkers.decrementAndGet();
+                    throw new InterruptedException();
+                }
+            }
+            idleWorkers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!injectionQueue.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Worker register() {
+        int id = registeredWorkers.getAndIncrement();
+        if (id >= workers.length) {
+            throw new IllegalStateException("number of scheduler threads exceeds the configured pool size: " +
+                    workers.length);
+        }
+        Worker worker = workers[id];
+        worker.thread = Thread.currentThread();
+        currentWorker.set(worker);
+        return worker;
+    }
+
+    private ItemGroup poll(Worker self) {
+        ItemGroup group = self.deque.pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(self);
+    }
+
+    private ItemGroup steal(Worker self) {
+        int count = registeredWorkers.get();
+        if (count > workers.length) {
+            count = workers.length;
+        }
+        if (count <= 1) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            Worker victim = workers[(start + i) % count];
+            if (victim == self) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static ItemGroup claim(Worker self, ItemGroup group) {
+        if (group != ItemGroup.POISON_PILL) {
+            group.affinity = self.id;
+        }
+        return group;
+    }
+
+    private void signalWork(Worker preferred) {
+        if (idleWorkers.get() == 0) {
+            return;
+        }
+        if (preferred != null && preferred.unpark()) {
+            return;
+        }
+        int count = Math.min(registeredWorkers.get(), workers.length);
+        for (int i = 0; i < count; i++) {
+            if (workers[i].unpark()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * A scheduler thread together with the deque of groups it owns.
+     */
+    private static class Worker {
+
+        final int id;
+        final Deque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+        final AtomicBoolean parked = new AtomicBoolean(false);
+        volatile Thread thread;
+
+        Worker(int id) {
+            this.id = id;
+        }
+
+        boolean unpark() {
+            Thread t = thread;
+            if (t != null && parked.compareAndSet(true, false)) {
+                LockSupport.unpark(t);
+                return true;
+            }
+            return false;
+        }
+    }
+}
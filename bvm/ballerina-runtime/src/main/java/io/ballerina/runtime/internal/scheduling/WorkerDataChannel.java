@@ -20,8 +20,7 @@ package io.ballerina.runtime.internal.scheduling;
 import io.ballerina.runtime.internal.ErrorUtils;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -30,28 +29,36 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * Async messages are sent and received without taking the channel lock, through a queue with a single sender and a
+ * single receiver. The lock is taken only to block or resume a worker, for sync sends and flushes, and to set errors
+ * and panics. A receiver that blocks publishes itself before checking the queue again, and a sender checks for a
+ * blocked receiver after adding a message, so one of them always sees the other.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private static final AtomicIntegerFieldUpdater<WorkerDataChannel> callCountUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(WorkerDataChannel.class, "callCount");
+
+    private volatile Strand receiver;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    private volatile WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
+    private boolean syncResultPending;
 
     private final Lock channelLock;
 
     protected String chnlName;
-    protected int callCount = 0;
+    protected volatile int callCount = 0;
 
-    @SuppressWarnings("rawtypes")
-    private final Queue<WorkerResult> channel = new LinkedList<>();
-    private State state;
+    private final WorkerResultQueue channel = new WorkerResultQueue();
+    private volatile State state;
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -98,26 +105,32 @@ public class WorkerDataChannel {
         OPEN, AUTO_CLOSED, CLOSED
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
         if (isClosed()) {
-            callCount++;
+            incrementCallCount();
+            return;
+        }
+        this.channel.add(new WorkerResult(data));
+        this.senderCounter++;
+        incrementCallCount();
+        if (this.receiver == null) {
             return;
         }
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
             if (this.receiver != null && receiver.scheduler != null) {
                 this.receiver.scheduler.unblockStrand(this.receiver);
                 this.receiver = null;
             }
-            callCount++;
         } finally {
             releaseChannelLock();
         }
     }
 
+    private void incrementCallCount() {
+        callCountUpdater.incrementAndGet(this);
+    }
+
     public void autoClose() {
         close(State.AUTO_CLOSED);
     }
@@ -141,6 +154,7 @@ public class WorkerDataChannel {
                 // this is a new message, not a reschedule
                 this.channel.add(new WorkerResult(data, true));
                 this.senderCounter++;
+                this.syncResultPending = true;
                 this.waitingSender = new WaitingSender(strand, -1);
 
                 if (this.receiver != null) {
@@ -163,19 +177,20 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            // the queue is read only by the receiver, so whether the message was taken is tracked separately
+            if (this.panic != null && this.syncResultPending) {
                 Throwable e = this.panic;
-                callCount++;
+                incrementCallCount();
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && this.syncResultPending) {
                 ErrorValue ret = this.error;
                 this.waitingSender = null;
-                callCount++;
+                incrementCallCount();
                 return ret;
             }
 
             // sync send done
-            callCount++;
+            incrementCallCount();
             return null;
         } finally {
             releaseChannelLock();
@@ -188,56 +203,92 @@ public class WorkerDataChannel {
     }
 
     public Object tryTakeData(Strand strand, boolean isMultiple) throws Throwable {
+        if (isClosed()) {
+            return ErrorUtils.createNoMessageError(chnlName);
+        }
+        WorkerResult result = this.channel.peek();
+        if (result != null && !result.isSync) {
+            this.channel.poll();
+            this.receiverCounter++;
+            // a flush sender registers itself before checking the receiver counter, so one of them always sees
+            // the other
+            if (this.flushSender != null) {
+                try {
+                    acquireChannelLock();
+                    notifyFlushSender();
+                } finally {
+                    releaseChannelLock();
+                }
+            }
+            incrementCallCount();
+            return isMultiple ? result : result.value;
+        }
         try {
             acquireChannelLock();
-            if (isClosed()) {
-                return ErrorUtils.createNoMessageError(chnlName);
-            }
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    if (this.waitingSender != null) {
-                        Strand waiting = this.waitingSender.waitingStrand;
-                        waiting.scheduler.unblockStrand(waiting);
-                        this.waitingSender = null;
-                    }
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount ==
-                            this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                        //will continue if this is a sync wait, will try to flush again if blocked on flush
-                        this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+            return tryTakeDataLocked(strand, isMultiple);
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private Object tryTakeDataLocked(Strand strand, boolean isMultiple) throws Throwable {
+        if (isClosed()) {
+            return ErrorUtils.createNoMessageError(chnlName);
+        }
+        WorkerResult result = this.channel.peek();
+        if (result != null) {
+            this.receiverCounter++;
+            this.channel.poll();
+
+            if (result.isSync) {
+                this.syncResultPending = false;
+                // sync sender will pick the this.error as result, which is null
+                if (this.waitingSender != null) {
+                    Strand waiting = this.waitingSender.waitingStrand;
+                    waiting.scheduler.unblockStrand(waiting);
+                    this.waitingSender = null;
                 }
-                callCount++;
-                return isMultiple ? result : result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                callCount++;
-                throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                callCount++;
-                return error;
             } else {
-                this.receiver = strand;
-                if (!isMultiple) {
-                    strand.setState(BLOCK_AND_YIELD);
-                }
-                return null;
+                notifyFlushSender();
             }
-        } finally {
-            releaseChannelLock();
+            incrementCallCount();
+            return isMultiple ? result : result.value;
+        } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+            this.receiverCounter++;
+            incrementCallCount();
+            throw this.panic;
+        } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+            this.receiverCounter++;
+            incrementCallCount();
+            return error;
+        }
+        this.receiver = strand;
+        // a message sent without the lock after the queue was checked may not have seen this receiver
+        if (this.channel.peek() != null) {
+            this.receiver = null;
+            return tryTakeDataLocked(strand, isMultiple);
+        }
+        if (!isMultiple) {
+            strand.setState(BLOCK_AND_YIELD);
         }
+        return null;
+    }
+
+    private void notifyFlushSender() {
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender == null || flushSender.flushCount != this.receiverCounter) {
+            return;
+        }
+        Strand flushStrand = flushSender.waitingStrand;
+        flushStrand.flushDetail.flushLock.lock();
+        flushStrand.flushDetail.flushedCount++;
+        if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                flushStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            flushStrand.scheduler.unblockStrand(flushStrand);
+        }
+        flushStrand.flushDetail.flushLock.unlock();
+        this.flushSender = null;
     }
 
     /**
@@ -296,13 +347,15 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
+            }
+            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            // messages are received without the lock, so the receiver counter is checked only after registering
+            if (this.receiverCounter == this.senderCounter) {
+                this.flushSender = null;
                 strand.flushDetail.flushLock.lock();
                 strand.flushDetail.flushedCount++;
                 strand.flushDetail.flushLock.unlock();
-                return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
             return null;
         } finally {
             releaseChannelLock();
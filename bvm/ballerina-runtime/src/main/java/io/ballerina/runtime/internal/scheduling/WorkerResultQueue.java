@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unbounded queue of the messages of a worker data channel, with a single sending worker adding to it and a single
+ * receiving worker taking from it, without locking.
+ * <p>
+ * Messages are held in fixed size chunks linked in the order they are filled. Each slot is written once by the
+ * sender and cleared by the receiver, and a chunk is dropped once the receiver has read all of its slots. Adding a
+ * message is a volatile write, so a sender that adds a message and then reads a volatile field always orders the two
+ * against a receiver that writes that field and then checks the queue.
+ *
+ * @since 2201.10.0
+ */
+final class WorkerResultQueue {
+
+    private static final int CHUNK_SIZE = 32;
+
+    // Accessed only by the sender.
+    private Chunk tail = new Chunk();
+    private int tailIndex = 0;
+
+    // Accessed only by the receiver.
+    private Chunk head = tail;
+    private int headIndex = 0;
+
+    void add(WorkerDataChannel.WorkerResult result) {
+        if (tailIndex == CHUNK_SIZE) {
+            Chunk chunk = new Chunk();
+            tail.next = chunk;
+            tail = chunk;
+            tailIndex = 0;
+        }
+        tail.results.set(tailIndex++, result);
+    }
+
+    WorkerDataChannel.WorkerResult peek() {
+        if (headIndex == CHUNK_SIZE) {
+            Chunk next = head.next;
+            if (next == null) {
+                return null;
+            }
+            head = next;
+            headIndex = 0;
+        }
+        return head.results.get(headIndex);
+    }
+
+    WorkerDataChannel.WorkerResult poll() {
+        WorkerDataChannel.WorkerResult result = peek();
+        if (result != null) {
+            head.results.lazySet(headIndex++, null);
+        }
+        return result;
+    }
+
+    private static final class Chunk {
+
+        private final AtomicReferenceArray<WorkerDataChannel.WorkerResult> results =
+                new AtomicReferenceArray<>(CHUNK_SIZE);
+        private volatile Chunk next;
+    }
+}
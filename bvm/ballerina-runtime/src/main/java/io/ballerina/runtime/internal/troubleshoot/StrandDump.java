@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.troubleshoot;
 
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.StrandRegistry;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -41,7 +42,7 @@ public class StrandDump {
         Map<Integer, Strand> availableStrands = Scheduler.getCurrentStrands();
         int createdStrandGroupCount = getCreatedStrandGroupCount();
         int createdStrandCount = Strand.getCreatedStrandCount();
-        int availableStrandCount = availableStrands.size();
+        long availableStrandCount = StrandRegistry.getActiveStrandCount();
         Map<Integer, List<String>> availableStrandGroups = new HashMap<>();
         populateAvailableStrandGroups(availableStrands, availableStrandGroups);
 
@@ -51,7 +52,7 @@ public class StrandDump {
         return strandDumpOutput;
     }
 
-    private static String generateOutput(Map<Integer, List<String>> availableStrandGroups, int availableStrandCount,
+    private static String generateOutput(Map<Integer, List<String>> availableStrandGroups, long availableStrandCount,
                                          int createdStrandGroupCount, int createdStrandCount) {
         StringBuilder outputStr = new StringBuilder("Ballerina Strand Dump [");
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
@@ -62,6 +63,7 @@ public class StrandDump {
         outputStr.append("Total strand count       \t:\t").append(createdStrandCount).append("\n");
         outputStr.append("Active strand group count\t:\t").append(availableStrandGroups.size()).append("\n");
         outputStr.append("Active strand count      \t:\t").append(availableStrandCount).append("\n\n");
+        appendAgeHistogram(outputStr);
         availableStrandGroups.forEach((strandGroupId, strandList) -> {
             outputStr.append("group ").append(strandGroupId).append(" [").append(strandList.get(0)).append("]: [")
                     .append(strandList.size() - 1).append("]\n");
@@ -71,6 +73,18 @@ public class StrandDump {
         return outputStr.toString();
     }
 
+    private static void appendAgeHistogram(StringBuilder outputStr) {
+        long[] bounds = StrandRegistry.getAgeBucketBounds();
+        long[] histogram = StrandRegistry.getAgeHistogram();
+        outputStr.append(StrandRegistry.isSampled() ? "Sampled strand age histogram" : "Strand age histogram")
+                .append(":\n");
+        for (int i = 0; i < bounds.length; i++) {
+            outputStr.append("\t< ").append(bounds[i]).append(" ms\t:\t").append(histogram[i]).append("\n");
+        }
+        outputStr.append("\t>= ").append(bounds[bounds.length - 1]).append(" ms\t:\t")
+                .append(histogram[bounds.length]).append("\n\n");
+    }
+
     private static void populateAvailableStrandGroups(Map<Integer, Strand> availableStrands,
                                                       Map<Integer, List<String>> availableStrandGroups) {
         for (Strand strand : availableStrands.values()) {
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.Optional;
@@ -49,7 +50,13 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
+        // Errors set the type ids of their type whenever they are created, usually to the same ones
+        boolean changed = this.typeIdSet == null || typeIdSet == null ||
+                !this.typeIdSet.getIds().equals(typeIdSet.getIds());
         this.typeIdSet = typeIdSet;
+        if (changed) {
+            TypeCheckCache.invalidate(this);
+        }
     }
 
     @Override
@@ -68,7 +75,10 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
-        this.detailType = detailType;
+        if (this.detailType != detailType) {
+            this.detailType = detailType;
+            TypeCheckCache.invalidate(this);
+        }
     }
 
     @Override
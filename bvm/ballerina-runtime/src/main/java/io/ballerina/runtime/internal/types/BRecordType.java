@@ -32,6 +32,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.ValueUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.values.MapValue;
@@ -57,6 +58,7 @@ public class BRecordType extends BStructureType implements RecordType {
     private final boolean readonly;
     private IntersectionType immutableType;
     private IntersectionType intersectionType = null;
+    private volatile RecordFieldIndex fieldIndex;
 
     private final Map<String, BFunctionPointer<Object, ?>> defaultValues = new LinkedHashMap<>();
 
@@ -208,6 +210,11 @@ public class BRecordType extends BStructureType implements RecordType {
         return restFieldType;
     }
 
+    public void setRestFieldType(Type restFieldType) {
+        this.restFieldType = restFieldType;
+        TypeCheckCache.invalidate(this);
+    }
+
     @Override
     public int getTypeFlags() {
         return typeFlags;
@@ -221,4 +228,20 @@ public class BRecordType extends BStructureType implements RecordType {
         return defaultValues;
     }
 
+    /**
+     * Returns the fields of this record type indexed by name. The index is created on first use and is recreated
+     * once the fields are set again.
+     *
+     * @return index of the fields of this record type
+     */
+    public RecordFieldIndex getFieldIndex() {
+        RecordFieldIndex index = fieldIndex;
+        Map<String, Field> fields = getFields();
+        if (index == null || !index.isOf(fields)) {
+            index = new RecordFieldIndex(fields);
+            fieldIndex = index;
+        }
+        return index;
+    }
+
 }
@@ -44,6 +44,7 @@ public abstract class BType implements Type {
     private int hashCode;
     private Type cachedReferredType = null;
     private Type cachedImpliedType = null;
+    private volatile boolean typeChecked = false;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -232,4 +233,18 @@ public abstract class BType implements Type {
     public Type getCachedImpliedType() {
         return this.cachedImpliedType;
     }
+
+    /**
+     * Records that this type has taken part in a type check, so that a later change to it has to discard the cached
+     * type check results.
+     */
+    public void markTypeChecked() {
+        if (!this.typeChecked) {
+            this.typeChecked = true;
+        }
+    }
+
+    public boolean isTypeChecked() {
+        return this.typeChecked;
+    }
 }
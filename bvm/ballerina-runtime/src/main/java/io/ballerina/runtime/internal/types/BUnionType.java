@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.SelectivelyImmutableReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
@@ -167,6 +168,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        TypeCheckCache.invalidate(this);
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -187,6 +189,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         if (members.isEmpty()) {
             this.memberTypes = members;
+            TypeCheckCache.invalidate(this);
             return;
         }
         this.resolvingReadonly = true;
@@ -195,6 +198,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         setFlagsBasedOnMembers();
 
         setOriginalMemberTypes(originalMembers);
+        TypeCheckCache.invalidate(this);
     }
 
     public void setCyclic(boolean isCyclic) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+
+/**
+ * Fields of a record type, which can be looked up by a field name held in a range of a character buffer without
+ * creating a string for it. Field types are held in their implied form.
+ *
+ * @since 2201.10.0
+ */
+public final class RecordFieldIndex {
+
+    private final Map<String, Field> fields;
+    private final BString[] names;
+    private final Type[] types;
+    private final long[] flags;
+    private final int[] hashes;
+    // Slots hold the position of a field plus one, and zero when they are free. There are at least twice as many
+    // slots as fields.
+    private final int[] slots;
+
+    RecordFieldIndex(Map<String, Field> fields) {
+        this.fields = fields;
+        int fieldCount = fields.size();
+        this.names = new BString[fieldCount];
+        this.types = new Type[fieldCount];
+        this.flags = new long[fieldCount];
+        this.hashes = new int[fieldCount];
+        this.slots = new int[Integer.highestOneBit(Math.max(fieldCount, 1)) << 2];
+        int i = 0;
+        for (Map.Entry<String, Field> entry : fields.entrySet()) {
+            String name = entry.getKey();
+            names[i] = StringUtils.fromString(name);
+            types[i] = TypeUtils.getImpliedType(entry.getValue().getFieldType());
+            flags[i] = entry.getValue().getFlags();
+            hashes[i] = name.hashCode();
+            int mask = slots.length - 1;
+            int slot = spread(hashes[i]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = ++i;
+        }
+    }
+
+    boolean isOf(Map<String, Field> fields) {
+        return this.fields == fields;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public BString getName(int field) {
+        return names[field];
+    }
+
+    public Type getType(int field) {
+        return types[field];
+    }
+
+    public long getFlags(int field) {
+        return flags[field];
+    }
+
+    /**
+     * Returns the position of the field with the given name.
+     *
+     * @param chars  buffer holding the name
+     * @param offset index of the first character of the name
+     * @param length number of characters in the name
+     * @return position of the field, or -1 if there is no such field
+     */
+    public int find(char[] chars, int offset, int length) {
+        // Same as String.hashCode()
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int field = slots[slot] - 1;
+            if (field < 0) {
+                return -1;
+            }
+            if (hashes[field] == hash && matches(names[field].getValue(), chars, offset, length)) {
+                return field;
+            }
+        }
+    }
+
+    private static boolean matches(String name, char[] chars, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -44,8 +44,12 @@ import io.ballerina.runtime.api.values.BString;
      @Override
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
+         BString rope = concatAsRope(this, stringValue);
+         if (rope != null) {
+             return rope;
+         }
          if (stringValue.isNonBmp) {
-             int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+             int[] otherSurrogates = surrogatesOf(stringValue);
              int[] newSurrogates = new int[otherSurrogates.length];
              int length = length();
              for (int i = 0; i < otherSurrogates.length; i++) {
@@ -29,6 +29,8 @@ public class CharIterator implements IteratorValue {
     long cursor = 0;
     long length;
     String stringValue;
+    // Index of the character at the cursor
+    int offset = 0;
 
     CharIterator(StringValue value) {
         this.value = value;
@@ -38,25 +40,14 @@ public class CharIterator implements IteratorValue {
 
     @Override
     public Object next() {
-        long currentIndex = this.cursor++;
-        if (value.isNonBmp) {
-            return getNonBmpCharWithSurrogates(currentIndex);
+        this.cursor++;
+        int current = this.offset;
+        if (value.isNonBmp && Character.isHighSurrogate(stringValue.charAt(current))) {
+            this.offset += 2;
+            return stringValue.substring(current, current + 2);
         }
-        return String.valueOf(stringValue.charAt((int) currentIndex));
-    }
-
-    private String getNonBmpCharWithSurrogates(long currentIndex) {
-        int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
-            if (surrogate < currentIndex) {
-                offset++;
-            } else if (surrogate > currentIndex) {
-                break;
-            } else {
-                return new String(new char[]{stringValue.charAt(offset), stringValue.charAt(offset + 1)});
-            }
-        }
-        return String.valueOf(stringValue.charAt(offset));
+        this.offset++;
+        return String.valueOf(stringValue.charAt(current));
     }
 
     @Override
@@ -42,15 +42,10 @@ import java.util.Arrays;
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        int surrogatesBefore = countSurrogatesBefore(index);
+        int offset = index + surrogatesBefore;
+        if (surrogatesBefore < surrogates.length && surrogates[surrogatesBefore] == index) {
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
         return value.charAt(offset);
     }
@@ -63,14 +58,18 @@ import java.util.Arrays;
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        BString rope = concatAsRope(this, stringValue);
+        if (rope != null) {
+            return rope;
+        }
         if (stringValue.isNonBmp) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+            int[] otherSurrogates = surrogatesOf(stringValue);
+            int[] both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
             int length = length();
-            for (int i = 0; i < other.surrogates.length; i++) {
-                both[i + surrogates.length] = other.surrogates[i] + length;
+            for (int i = 0; i < otherSurrogates.length; i++) {
+                both[i + surrogates.length] = otherSurrogates[i] + length;
             }
-            return new NonBmpStringValue(this.value + other.value, both);
+            return new NonBmpStringValue(this.value + str.getValue(), both);
         }
         return new NonBmpStringValue(this.value + str.getValue(), surrogates);
     }
@@ -82,33 +81,21 @@ import java.util.Arrays;
      @Override
      public Long indexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.indexOf(str.getValue(), offset);
+         int index = value.indexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getCodePointIndex(index);
      }
 
      @Override
      public Long lastIndexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.lastIndexOf(str.getValue(), offset);
+         int index = value.lastIndexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getCodePointIndex(index);
      }
      @Override
      public BString substring(int beginIndex, int endIndex) {
@@ -118,14 +105,37 @@ import java.util.Arrays;
      }
 
      private int getOffset(int fromIndex) {
-         int offset = fromIndex;
-         for (int surrogate : surrogates) {
-             if (surrogate < fromIndex) {
-                 offset++;
+         return fromIndex + countSurrogatesBefore(fromIndex);
+     }
+
+     // Returns the number of surrogate pairs before the given code point index
+     private int countSurrogatesBefore(int index) {
+         int low = 0;
+         int high = surrogates.length;
+         while (low < high) {
+             int mid = (low + high) >>> 1;
+             if (surrogates[mid] < index) {
+                 low = mid + 1;
+             } else {
+                 high = mid;
+             }
+         }
+         return low;
+     }
+
+     // Converts a character index to a code point index. The i-th surrogate pair starts at the character index
+     // surrogates[i] + i, so the pairs before the given character index can be found by a binary search.
+     private int getCodePointIndex(int charIndex) {
+         int low = 0;
+         int high = surrogates.length;
+         while (low < high) {
+             int mid = (low + high) >>> 1;
+             if (surrogates[mid] + mid < charIndex) {
+                 low = mid + 1;
              } else {
-                 break;
+                 high = mid;
              }
          }
-         return offset;
+         return charIndex - low;
      }
  }
@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Insertion ordered hash map that keeps its keys and values in parallel arrays, and finds them through an open
+ * addressing index. Unlike {@link java.util.LinkedHashMap} this does not allocate an entry object per mapping, and an
+ * empty map does not allocate any arrays.
+ * <p>
+ * Removed mappings leave a hole in the arrays, which is reclaimed the next time the arrays are full. Like
+ * {@link java.util.HashMap}, this is not synchronized, and its iterators are fail-fast.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @since 2201.10.0
+ */
+public class OrderedHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object[] EMPTY_ENTRIES = {};
+    private static final int[] EMPTY_INDEX = {};
+    private static final int MIN_CAPACITY = 4;
+    // Maps up to this capacity are searched linearly and do not have an index
+    private static final int MAX_UNINDEXED_CAPACITY = 8;
+    // Marks the key of a removed mapping
+    private static final Object REMOVED = new Object();
+
+    private Object[] keys = EMPTY_ENTRIES;
+    private Object[] vals = EMPTY_ENTRIES;
+    private int[] hashes = EMPTY_INDEX;
+    // Slots hold the position of a mapping in the arrays plus one, and zero when they are free. The index is twice
+    // as large as the arrays, so it is never more than half full. Small maps do not have an index.
+    private int[] index = EMPTY_INDEX;
+    // Number of array positions used so far, including holes
+    private int used;
+    private int size;
+    private int modCount;
+
+    public OrderedHashMap() {
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int find(Object key) {
+        if (size == 0) {
+            return -1;
+        }
+        int h = hash(key);
+        if (index.length == 0) {
+            for (int pos = 0; pos < used; pos++) {
+                Object k = keys[pos];
+                if (hashes[pos] == h && k != REMOVED && (k == key || (key != null && key.equals(k)))) {
+                    return pos;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            int pos = index[slot] - 1;
+            if (pos < 0) {
+                return -1;
+            }
+            Object k = keys[pos];
+            if (hashes[pos] == h && k != REMOVED && (k == key || (key != null && key.equals(k)))) {
+                return pos;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED && Objects.equals(vals[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int pos = find(key);
+        return pos < 0 ? null : (V) vals[pos];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int pos = find(key);
+        if (pos >= 0) {
+            V oldValue = (V) vals[pos];
+            vals[pos] = value;
+            return oldValue;
+        }
+        if (used == keys.length) {
+            // Reclaim the holes if they make up at least half of the arrays, grow otherwise
+            int capacity = keys.length;
+            rebuild(capacity == 0 ? MIN_CAPACITY : (size < capacity >> 1 ? capacity : capacity << 1));
+        }
+        int h = hash(key);
+        keys[used] = key;
+        vals[used] = value;
+        hashes[used] = h;
+        addToIndex(h, used);
+        used++;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+        return removeAt(pos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int pos) {
+        V oldValue = (V) vals[pos];
+        keys[pos] = REMOVED;
+        vals[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            clearArrays();
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        if (used > 0) {
+            clearArrays();
+        }
+        size = 0;
+        modCount++;
+    }
+
+    private void clearArrays() {
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(vals, 0, used, null);
+        Arrays.fill(index, 0);
+        used = 0;
+    }
+
+    private void addToIndex(int h, int pos) {
+        if (index.length == 0) {
+            return;
+        }
+        int mask = index.length - 1;
+        int slot = h & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+    }
+
+    private void rebuild(int capacity) {
+        Object[] oldKeys = keys;
+        Object[] oldVals = vals;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        keys = new Object[capacity];
+        vals = new Object[capacity];
+        hashes = new int[capacity];
+        index = capacity > MAX_UNINDEXED_CAPACITY ? new int[capacity << 1] : EMPTY_INDEX;
+        used = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] == REMOVED) {
+                continue;
+            }
+            keys[used] = oldKeys[i];
+            vals[used] = oldVals[i];
+            hashes[used] = oldHashes[i];
+            addToIndex(oldHashes[i], used);
+            used++;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new Values();
+    }
+
+    private abstract class OrderedIterator<E> implements Iterator<E> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        OrderedIterator() {
+            next = skipRemoved(0);
+        }
+
+        private int skipRemoved(int pos) {
+            while (pos < used && keys[pos] == REMOVED) {
+                pos++;
+            }
+            return pos;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        int nextPosition() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = skipRemoved(next + 1);
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            if (size == 0) {
+                // The arrays were cleared
+                next = 0;
+            }
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new OrderedIterator<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map.Entry<K, V> next() {
+                    int pos = nextPosition();
+                    return new Entry((K) keys[pos], (V) vals[pos], pos);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+            int pos = find(entry.getKey());
+            return pos >= 0 && Objects.equals(vals[pos], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            removeAt(find(((Map.Entry<?, ?>) o).getKey()));
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            OrderedHashMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public Iterator<K> iterator() {
+            return new OrderedIterator<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public K next() {
+                    return (K) keys[nextPosition()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int pos = find(o);
+            if (pos < 0) {
+                return false;
+            }
+            removeAt(pos);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            OrderedHashMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new OrderedIterator<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public V next() {
+                    return (V) vals[nextPosition()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OrderedHashMap.this.clear();
+        }
+    }
+
+    /**
+     * View of a mapping. Like the entries of {@link java.util.HashMap}, it reflects value updates made through the
+     * map while the mapping is present, and keeps the last value it saw once the mapping is removed.
+     */
+    private final class Entry implements Map.Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private int pos;
+
+        Entry(K key, V value, int pos) {
+            this.key = key;
+            this.value = value;
+            this.pos = pos;
+        }
+
+        // Returns the current position of the mapping, or -1 if it has been removed
+        private int position() {
+            if (pos >= 0 && pos < used && keys[pos] == key) {
+                return pos;
+            }
+            pos = find(key);
+            return pos;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            int current = position();
+            if (current >= 0) {
+                value = (V) vals[current];
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V newValue) {
+            V oldValue = getValue();
+            int current = position();
+            if (current >= 0) {
+                vals[current] = newValue;
+            }
+            value = newValue;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> entry && Objects.equals(key, entry.getKey()) &&
+                    Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
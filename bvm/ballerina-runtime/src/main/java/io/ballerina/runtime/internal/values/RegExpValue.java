@@ -20,10 +20,12 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 
@@ -40,6 +42,10 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    // Java pattern of this regular expression, compiled the first time it is matched
+    private volatile Pattern pattern;
+    // Text of this regular expression, built the first time it is needed
+    private volatile String regExpString;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -51,6 +57,36 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the java pattern of this regular expression, which matches character classes in the same way as
+     * ballerina does.
+     *
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is not a valid java pattern
+     */
+    public Pattern getPattern() {
+        Pattern compiled = this.pattern;
+        if (compiled == null) {
+            compiled = RegExpPatternCache.getPattern(this, Pattern.UNICODE_CHARACTER_CLASS);
+            this.pattern = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns the text of this regular expression. Regular expressions are immutable, so the text is only built once.
+     *
+     * @return text of the regular expression
+     */
+    public String getRegExpString() {
+        String text = this.regExpString;
+        if (text == null) {
+            text = this.regExpDisjunction.stringValue(null);
+            this.regExpString = text;
+        }
+        return text;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating two strings, without copying their characters.
+ * <p>
+ * The characters are copied into a single string the first time the content is needed, after which the parts are
+ * released. Building a string by repeatedly concatenating to it therefore takes linear time, instead of copying the
+ * whole string on each concatenation. The length of the string is known without copying the characters.
+ *
+ * @since 2201.10.0
+ */
+public final class RopeStringValue extends StringValue {
+
+    private final int length;
+    private final int charLength;
+    // Either the parts of the string, or once they have been copied into a single string, a flat string value. Both
+    // are immutable, so the content can be flattened by any thread without locking.
+    private volatile Object content;
+
+    RopeStringValue(StringValue left, StringValue right, int charLength) {
+        super(null, left.isNonBmp || right.isNonBmp);
+        this.length = left.length() + right.length();
+        this.charLength = charLength;
+        this.content = new Parts(left, right);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue stringValue = (StringValue) str;
+        BString rope = concatAsRope(this, stringValue);
+        return rope != null ? rope : flatten().concat(str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    /**
+     * Returns the positions of the surrogate pairs in this string, in the same form as
+     * {@link NonBmpStringValue#getSurrogates()}.
+     *
+     * @return positions of the surrogate pairs
+     */
+    public int[] getSurrogates() {
+        StringValue flat = flatten();
+        return flat.isNonBmp ? ((NonBmpStringValue) flat).getSurrogates() : new int[0];
+    }
+
+    private StringValue flatten() {
+        Object current = content;
+        if (current instanceof StringValue flat) {
+            return flat;
+        }
+        StringBuilder builder = new StringBuilder(charLength);
+        Deque<StringValue> pending = new ArrayDeque<>();
+        pending.push(((Parts) current).right);
+        pending.push(((Parts) current).left);
+        while (!pending.isEmpty()) {
+            StringValue part = pending.pop();
+            if (!(part instanceof RopeStringValue rope)) {
+                builder.append(part.value);
+                continue;
+            }
+            Object partContent = rope.content;
+            if (partContent instanceof Parts parts) {
+                pending.push(parts.right);
+                pending.push(parts.left);
+            } else {
+                builder.append(((StringValue) partContent).value);
+            }
+        }
+        String value = builder.toString();
+        StringValue flat = isNonBmp ? (StringValue) StringUtils.fromString(value) : new BmpStringValue(value);
+        content = flat;
+        return flat;
+    }
+
+    private record Parts(StringValue left, StringValue right) {
+    }
+}
@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BString;
 
@@ -31,6 +32,9 @@ import java.util.Map;
  */
 public abstract class StringValue implements BString, SimpleValue {
 
+    // Strings shorter than this many characters are concatenated by copying, and longer ones by creating a rope
+    static final int MIN_ROPE_LENGTH = 64;
+
     final String value;
     final boolean isNonBmp;
 
@@ -39,6 +43,42 @@ public abstract class StringValue implements BString, SimpleValue {
         this.isNonBmp = isNonBmp;
     }
 
+    /**
+     * Returns the number of UTF-16 characters in this string.
+     *
+     * @return number of characters
+     */
+    int charLength() {
+        return value.length();
+    }
+
+    /**
+     * Concatenates the given strings into a {@link RopeStringValue} if the result is long enough for copying the
+     * characters to be costly.
+     *
+     * @return the concatenated string, or null if the strings should be concatenated by copying
+     */
+    static BString concatAsRope(StringValue left, StringValue right) {
+        long charLength = (long) left.charLength() + right.charLength();
+        if (charLength < MIN_ROPE_LENGTH || charLength > Integer.MAX_VALUE) {
+            return null;
+        }
+        return new RopeStringValue(left, right, (int) charLength);
+    }
+
+    /**
+     * Returns the positions of the surrogate pairs in the given non-BMP string, which may be a rope.
+     *
+     * @param str string containing non-BMP characters
+     * @return positions of the surrogate pairs
+     */
+    static int[] surrogatesOf(StringValue str) {
+        if (str instanceof RopeStringValue rope) {
+            return rope.getSurrogates();
+        }
+        return ((NonBmpStringValue) str).getSurrogates();
+    }
+
     @Override
     public Type getType() {
         return PredefinedTypes.TYPE_STRING;
@@ -55,7 +95,9 @@ public abstract class StringValue implements BString, SimpleValue {
     }
 
     @Override
-    public IteratorValue getIterator() {
+    @SuppressWarnings("unchecked")
+    public BIterator<Object> getIterator() {
+        // Declared with the type of BString, so that the string values do not inherit an unchecked override
         return new CharIterator(this);
     }
 
@@ -66,7 +108,7 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +123,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -95,7 +137,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString) {
-            return ((BString) str).getValue().equals(value);
+            return ((BString) str).getValue().equals(getValue());
         }
         return false;
     }
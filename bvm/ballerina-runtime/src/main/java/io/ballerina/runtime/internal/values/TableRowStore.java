@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static io.ballerina.runtime.internal.TypeChecker.isEqual;
+
+/**
+ * Storage of the rows of a table. Rows are kept in insertion order in parallel arrays, and the rows of a keyed table
+ * are found through an open addressing index of their key hashes. Each row is therefore stored once, without an
+ * entry object per row.
+ * <p>
+ * Removed rows leave a hole in the arrays, which is reclaimed the next time the arrays are full. Each row gets an
+ * increasing sequence number, so that a {@link Cursor} can find its place again after the holes are reclaimed.
+ * <p>
+ * Rows can also be looked up by the value of a non-key field, through a secondary index that is built on the first
+ * lookup of the field. It is up to the caller to only use secondary indexes on fields that cannot be updated.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of rows
+ * @since 2201.10.0
+ */
+final class TableRowStore<K, V> {
+
+    private static final Object[] EMPTY_ROWS = {};
+    private static final long[] EMPTY_LONGS = {};
+    private static final int[] EMPTY_INDEX = {};
+    private static final int MIN_CAPACITY = 4;
+    // Marks a removed row
+    private static final Object REMOVED = new Object();
+
+    private final boolean keyed;
+    private Object[] rows = EMPTY_ROWS;
+    // Keys and key hashes of the rows, only used by keyed tables. A key-less row is its own key.
+    private Object[] keys = EMPTY_ROWS;
+    private long[] hashes = EMPTY_LONGS;
+    private long[] sequence = EMPTY_LONGS;
+    // Slots hold the position of a row plus one, and zero when they are free. The index is twice as large as the
+    // arrays, so it is never more than half full.
+    private int[] index = EMPTY_INDEX;
+    // Number of array positions used so far, including holes
+    private int used;
+    private int size;
+    private long nextSequence;
+    // Incremented whenever rows are moved to different positions
+    private int compactions;
+    private Map<BString, FieldIndex> fieldIndexes;
+
+    TableRowStore(boolean keyed) {
+        this.keyed = keyed;
+    }
+
+    static long hash(Object key) {
+        return TableUtils.hash(key, null);
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int find(Object key) {
+        if (size == 0 || !keyed) {
+            return -1;
+        }
+        return find(key, hash(key));
+    }
+
+    int find(Object key, long hash) {
+        if (size == 0 || !keyed) {
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int pos = index[slot] - 1;
+            if (pos < 0) {
+                return -1;
+            }
+            if (hashes[pos] == hash && rows[pos] != REMOVED && isEqual(key, keys[pos])) {
+                return pos;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int pos) {
+        return (K) (keyed ? keys[pos] : rows[pos]);
+    }
+
+    @SuppressWarnings("unchecked")
+    V rowAt(int pos) {
+        return (V) rows[pos];
+    }
+
+    void add(K key, long hash, V row) {
+        if (used == rows.length) {
+            // Reclaim the holes if they make up at least half of the arrays, grow otherwise
+            int capacity = rows.length;
+            rebuild(capacity == 0 ? MIN_CAPACITY : (size < capacity >> 1 ? capacity : capacity << 1));
+        }
+        rows[used] = row;
+        sequence[used] = nextSequence++;
+        if (keyed) {
+            keys[used] = key;
+            hashes[used] = hash;
+            addToIndex(hash, used);
+        }
+        used++;
+        size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    V replace(int pos, K key, V row) {
+        V oldRow = (V) rows[pos];
+        rows[pos] = row;
+        keys[pos] = key;
+        // The replaced row may have different values for the indexed fields
+        fieldIndexes = null;
+        return oldRow;
+    }
+
+    @SuppressWarnings("unchecked")
+    V removeAt(int pos) {
+        V oldRow = (V) rows[pos];
+        rows[pos] = REMOVED;
+        if (keyed) {
+            keys[pos] = null;
+        }
+        size--;
+        if (size == 0) {
+            clear();
+        }
+        return oldRow;
+    }
+
+    void clear() {
+        if (used > 0) {
+            Arrays.fill(rows, 0, used, null);
+            Arrays.fill(keys, 0, Math.min(used, keys.length), null);
+            Arrays.fill(index, 0);
+            used = 0;
+            compactions++;
+        }
+        size = 0;
+        fieldIndexes = null;
+    }
+
+    private void addToIndex(long hash, int pos) {
+        int mask = index.length - 1;
+        int slot = spread(hash) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+    }
+
+    private void rebuild(int capacity) {
+        Object[] oldRows = rows;
+        Object[] oldKeys = keys;
+        long[] oldHashes = hashes;
+        long[] oldSequence = sequence;
+        int oldUsed = used;
+        rows = new Object[capacity];
+        sequence = new long[capacity];
+        if (keyed) {
+            keys = new Object[capacity];
+            hashes = new long[capacity];
+            index = new int[capacity << 1];
+        }
+        used = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldRows[i] == REMOVED) {
+                continue;
+            }
+            rows[used] = oldRows[i];
+            sequence[used] = oldSequence[i];
+            if (keyed) {
+                keys[used] = oldKeys[i];
+                hashes[used] = oldHashes[i];
+                addToIndex(oldHashes[i], used);
+            }
+            used++;
+        }
+        if (used != oldUsed) {
+            compactions++;
+            fieldIndexes = null;
+        }
+    }
+
+    // Returns the first position of a row added after the row with the given sequence number
+    private int positionAfter(long seq) {
+        int low = 0;
+        int high = used;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequence[mid] <= seq) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    Object[] keys() {
+        Object[] keyArray = new Object[size];
+        int i = 0;
+        for (int pos = 0; pos < used; pos++) {
+            if (rows[pos] != REMOVED) {
+                keyArray[i++] = keyAt(pos);
+            }
+        }
+        return keyArray;
+    }
+
+    List<V> rows() {
+        List<V> rowList = new ArrayList<>(size);
+        for (int pos = 0; pos < used; pos++) {
+            if (rows[pos] != REMOVED) {
+                rowList.add(rowAt(pos));
+            }
+        }
+        return rowList;
+    }
+
+    /**
+     * Returns the rows that have the given value for the given field, in table order.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @param indexed   whether to look the rows up through a secondary index of the field, instead of scanning all
+     *                  the rows
+     * @return matching rows
+     */
+    List<V> rowsWithFieldValue(BString fieldName, Object value, boolean indexed) {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        if (!indexed) {
+            List<V> rowList = new ArrayList<>();
+            for (int pos = 0; pos < used; pos++) {
+                if (rows[pos] != REMOVED && isEqual(fieldValue(pos, fieldName), value)) {
+                    rowList.add(rowAt(pos));
+                }
+            }
+            return rowList;
+        }
+        if (fieldIndexes == null) {
+            fieldIndexes = new HashMap<>();
+        }
+        return fieldIndexes.computeIfAbsent(fieldName, FieldIndex::new).lookup(value);
+    }
+
+    private Object fieldValue(int pos, BString fieldName) {
+        return ((MapValue<?, ?>) rows[pos]).get(fieldName);
+    }
+
+    /**
+     * Iterates over the positions of the rows in table order. Rows added while iterating are included, and rows
+     * removed before they are reached are skipped.
+     */
+    final class Cursor {
+
+        private int next;
+        private long lastSequence = -1;
+        private int expectedCompactions = compactions;
+
+        private void seek() {
+            if (expectedCompactions != compactions) {
+                next = positionAfter(lastSequence);
+                expectedCompactions = compactions;
+            }
+            while (next < used && rows[next] == REMOVED) {
+                next++;
+            }
+        }
+
+        boolean hasNext() {
+            seek();
+            return next < used;
+        }
+
+        int nextPosition() {
+            seek();
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            lastSequence = sequence[next];
+            return next++;
+        }
+    }
+
+    /**
+     * Hash index of the values of a field. Rows with the same field hash are chained from the latest to the earliest
+     * through their positions. Rows added after the index is built are indexed on the next lookup.
+     */
+    private final class FieldIndex {
+
+        private final BString fieldName;
+        private long[] fieldHashes = EMPTY_LONGS;
+        // Position plus one of the previous row in the same chain, and zero at the end of a chain
+        private int[] chain = EMPTY_INDEX;
+        private int[] heads = EMPTY_INDEX;
+        // Number of positions indexed so far
+        private int indexed;
+
+        FieldIndex(BString fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        List<V> lookup(Object value) {
+            update();
+            long hash = hash(value);
+            List<V> rowList = new ArrayList<>();
+            for (int pos = heads[spread(hash) & (heads.length - 1)] - 1; pos >= 0; pos = chain[pos] - 1) {
+                if (fieldHashes[pos] == hash && rows[pos] != REMOVED && isEqual(fieldValue(pos, fieldName), value)) {
+                    rowList.add(rowAt(pos));
+                }
+            }
+            Collections.reverse(rowList);
+            return rowList;
+        }
+
+        private void update() {
+            if (indexed == used) {
+                return;
+            }
+            if (fieldHashes.length < rows.length) {
+                fieldHashes = Arrays.copyOf(fieldHashes, rows.length);
+                chain = Arrays.copyOf(chain, rows.length);
+            }
+            if (heads.length < used << 1) {
+                heads = new int[Integer.highestOneBit(Math.max(used, MIN_CAPACITY)) << 2];
+                for (int pos = 0; pos < indexed; pos++) {
+                    link(pos);
+                }
+            }
+            for (int pos = indexed; pos < used; pos++) {
+                if (rows[pos] != REMOVED) {
+                    fieldHashes[pos] = hash(fieldValue(pos, fieldName));
+                    link(pos);
+                }
+            }
+            indexed = used;
+        }
+
+        private void link(int pos) {
+            int bucket = spread(fieldHashes[pos]) & (heads.length - 1);
+            chain[pos] = heads[bucket];
+            heads[bucket] = pos + 1;
+        }
+    }
+}
@@ -49,6 +49,7 @@ public class ObservabilityConstants {
     public static final String TAG_KEY_ENTRYPOINT_FUNCTION_NAME = "entrypoint.function.name";
     public static final String TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR = "entrypoint.resource.accessor";
     public static final String TAG_KEY_LISTENER_NAME = "listener.name";
+    public static final String TAG_KEY_LOCK_NAME = "lock.name";
 
     // Source related tags
     public static final String TAG_KEY_SRC_MODULE = "src.module";
@@ -20,6 +20,7 @@ package io.ballerina.runtime.observability;
 import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -42,6 +43,7 @@ public class ObserverContext {
      * which is required to pass to observers.
      */
     private final Map<String, Tag> tags;
+    private final Map<String, Tag> unmodifiableTags;
 
     /**
      * {@link Map} of custom Tags, which are relevant to metrics  .
@@ -77,6 +79,7 @@ public class ObserverContext {
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
+        this.unmodifiableTags = Collections.unmodifiableMap(this.tags);
     }
 
     public void addProperty(String key, Object value) {
@@ -101,6 +104,15 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Returns the tags of this context by their keys, without copying them as {@link #getAllTags()} does.
+     *
+     * @return unmodifiable view of the tags
+     */
+    public Map<String, Tag> getTagMap() {
+        return unmodifiableTags;
+    }
+
     public BSpan getSpan() {
         return span;
     }
@@ -22,9 +22,13 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -32,6 +36,16 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_
 
 /**
  * Observe the runtime and collect measurements.
+ * <p>
+ * The ids of the metrics recorded for an observation are cached by their tags, as the same few sets of tags are
+ * recorded for every request to a resource. The cache is looked up with the tags of the observer context as they are,
+ * so that a repeated request builds no tag set and no metric id, and finds its metrics in the registry by the identity
+ * of their ids. The cache has a fixed number of slots chosen by the hash of the tags, and the tags of an observation
+ * replace the tags cached in their slot, so that the least recently seen tag sets are evicted.
+ * <p>
+ * Recording then only updates the striped counters and the summaries of the gauges, which aggregate the values as
+ * they are recorded. Exporting the metrics still takes a snapshot of each gauge, which is done when the metrics are
+ * reported rather than on each record, and is part of the reporter API.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
@@ -42,6 +56,27 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
 
+    private static final int CACHE_SLOTS = 1024;
+    private static final MetricIdCache<MetricId> inProgressIds = new MetricIdCache<>(
+            tags -> new MetricId("inprogress_requests", "In-progress requests", tags));
+    private static final MetricIdCache<ObservationMetricIds> observationIds = new MetricIdCache<>(
+            tags -> new ObservationMetricIds(
+                    new MetricId("response_time_seconds", "Response time", tags),
+                    new MetricId("response_time_nanoseconds_total", "Total response response time for all requests",
+                            tags),
+                    new MetricId("requests_total", "Total number of requests", tags),
+                    new MetricId("response_errors_total", "Total number of response errors", tags)));
+
+    // Tags of the status code groups from 1xx to 5xx, by the first digit of the status code
+    private static final Tag[] statusCodeGroupTags = new Tag[6];
+
+    static {
+        for (int i = 1; i < statusCodeGroupTags.length; i++) {
+            statusCodeGroupTags[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
+    private static final StatisticConfig[] NO_STATISTIC_CONFIGS = new StatisticConfig[0];
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
                     .expiry(Duration.ofSeconds(10))
@@ -87,10 +122,9 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        Map<String, Tag> tags = observerContext.getTagMap();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = gauge(inProgressIds.get(null, tags, null), NO_STATISTIC_CONFIGS);
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -99,46 +133,135 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
              */
             observerContext.addProperty(PROPERTY_IN_PROGRESS_COUNTER, inProgressGauge);
         } catch (RuntimeException e) {
-            handleError("inprogress_requests", tags, e);
+            handleError("inprogress_requests", tags.values(), e);
         }
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
         Map<String, Tag> customTags = observerContext.customMetricTags;
-        if (customTags != null) {
-            tags.addAll(customTags.values());
-        }
-        tags.addAll(observerContext.getAllTags());
+        Map<String, Tag> tags = observerContext.getTagMap();
 
         // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
+        Tag statusCodeGroupTag = null;
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            int statusCodeGroup = statusCode / 100;
+            statusCodeGroupTag = statusCodeGroup < statusCodeGroupTags.length ? statusCodeGroupTags[statusCodeGroup]
+                    : Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
         }
 
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ObservationMetricIds ids = observationIds.get(customTags, tags, statusCodeGroupTag);
+            gauge(ids.responseTime, responseTimeStatisticConfigs).setValue(duration / 1E9);
+            counter(ids.totalResponseTime).increment(duration);
+            counter(ids.requests).increment();
             if (statusCode != null && 400 <= statusCode && statusCode < 600) {
-                metricRegistry.counter(new MetricId("response_errors_total",
-                        "Total number of response errors", tags)).increment();
+                counter(ids.responseErrors).increment();
             }
         } catch (RuntimeException e) {
-            handleError("multiple metrics", tags, e);
+            handleError("multiple metrics", toTagSet(customTags, tags, statusCodeGroupTag), e);
+        }
+    }
+
+    private static Gauge gauge(MetricId id, StatisticConfig[] statisticConfigs) {
+        // Looked up first, so that an existing gauge is found without creating its supplier
+        Metric metric = metricRegistry.lookup(id);
+        if (metric instanceof Gauge gauge) {
+            return gauge;
         }
+        return metricRegistry.gauge(id, statisticConfigs);
     }
 
-    private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
+    private static Counter counter(MetricId id) {
+        Metric metric = metricRegistry.lookup(id);
+        if (metric instanceof Counter counter) {
+            return counter;
+        }
+        return metricRegistry.counter(id);
+    }
+
+    private static Set<Tag> toTagSet(Map<String, Tag> customTags, Map<String, Tag> tags, Tag statusCodeGroupTag) {
+        Set<Tag> tagSet = new HashSet<>();
+        if (customTags != null) {
+            tagSet.addAll(customTags.values());
+        }
+        tagSet.addAll(tags.values());
+        if (statusCodeGroupTag != null) {
+            tagSet.add(statusCodeGroupTag);
+        }
+        return tagSet;
+    }
+
+    private void handleError(String metricName, Collection<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    private record ObservationMetricIds(MetricId responseTime, MetricId totalResponseTime, MetricId requests,
+                                        MetricId responseErrors) {
+    }
+
+    /**
+     * Ids of metrics, cached by the custom tags, the tags and the status code group tag of the observations they are
+     * recorded for.
+     *
+     * @param <T> type of the cached ids
+     */
+    private static final class MetricIdCache<T> {
+
+        private final AtomicReferenceArray<Entry<T>> entries = new AtomicReferenceArray<>(CACHE_SLOTS);
+        private final Function<Set<Tag>, T> idFactory;
+
+        MetricIdCache(Function<Set<Tag>, T> idFactory) {
+            this.idFactory = idFactory;
+        }
+
+        T get(Map<String, Tag> customTags, Map<String, Tag> tags, Tag statusCodeGroupTag) {
+            int hash = 31 * (31 * hash(customTags) + hash(tags)) + Objects.hashCode(statusCodeGroupTag);
+            int slot = (hash ^ (hash >>> 16)) & (CACHE_SLOTS - 1);
+            Entry<T> entry = entries.get(slot);
+            if (entry != null && entry.hash == hash && Objects.equals(entry.statusCodeGroupTag, statusCodeGroupTag)
+                    && sameTags(entry.customTags, customTags) && sameTags(entry.tags, tags)) {
+                return entry.ids;
+            }
+            T ids = idFactory.apply(toTagSet(customTags, tags, statusCodeGroupTag));
+            entries.set(slot, new Entry<>(hash, customTags == null ? Map.of() : Map.copyOf(customTags),
+                    Map.copyOf(tags), statusCodeGroupTag, ids));
+            return ids;
+        }
+
+        private static int hash(Map<String, Tag> tags) {
+            if (tags == null) {
+                return 0;
+            }
+            int hash = 0;
+            for (Tag tag : tags.values()) {
+                hash += tag.hashCode();
+            }
+            return hash;
+        }
+
+        private static boolean sameTags(Map<String, Tag> cachedTags, Map<String, Tag> tags) {
+            if (tags == null) {
+                return cachedTags.isEmpty();
+            }
+            if (cachedTags.size() != tags.size()) {
+                return false;
+            }
+            for (Tag tag : tags.values()) {
+                if (!tag.equals(cachedTags.get(tag.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private record Entry<T>(int hash, Map<String, Tag> customTags, Map<String, Tag> tags,
+                                Tag statusCodeGroupTag, T ids) {
+        }
+    }
 }
@@ -17,6 +17,8 @@
  */
 package io.ballerina.runtime.observability.metrics;
 
+import io.ballerina.runtime.internal.BLockStore;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
 import java.util.Objects;
@@ -47,6 +49,8 @@ public class DefaultMetricRegistry {
             throw new IllegalStateException("Default Metric Registry has already been set");
         }
         DefaultMetricRegistry.instance = Objects.requireNonNull(instance);
+        BLockStore.registerLockMetrics(instance);
+        TypeCheckCache.registerMetrics(instance);
     }
 
 }
@@ -50,6 +50,7 @@ public class TransactionLocalContext {
     private Object transactionData;
     private BArray transactionId;
     private boolean isTransactional;
+    private final TransactionResources resources;
 
     private TransactionLocalContext(String globalTransactionId, String url, String protocol, Object infoRecord) {
         this.globalTransactionId = globalTransactionId;
@@ -64,6 +65,7 @@ public class TransactionLocalContext {
         this.rollbackOnlyError = null;
         this.isTransactional = true;
         this.transactionId = ValueCreator.createArrayValue(globalTransactionId.getBytes());
+        this.resources = transactionResourceManager.getResources(globalTransactionId);
         validateAndPutTransactionInfo(ByteBuffer.wrap(transactionId.getBytes().clone()), infoRecord);
     }
 
@@ -246,6 +248,10 @@ public class TransactionLocalContext {
         isTransactional = transactional;
     }
 
+    TransactionResources getResources() {
+        return resources;
+    }
+
     public Map<String, BallerinaTransactionContext> getTransactionContextStore() {
         return transactionContextStore;
     }
@@ -40,13 +40,9 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListSet;
 
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
@@ -87,16 +83,8 @@ public class TransactionResourceManager {
     private static final String ATOMIKOS_REGISTERED_PROPERTY = "com.atomikos.icatch.registered";
 
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
-    private Map<String, Transaction> trxRegistry;
-    private Map<String, Xid> xidRegistry;
-
-    private Map<String, List<BFunctionPointer>> committedFuncRegistry;
-    private Map<String, List<BFunctionPointer>> abortedFuncRegistry;
-
-    private ConcurrentSkipListSet<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
-    private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
-    private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
+    // Transactions that are not cleaned up yet, looked up only when the current strand is not in the transaction.
+    private final Map<String, TransactionResources> transactions = new ConcurrentHashMap<>();
 
     private boolean transactionManagerEnabled;
     private static final PrintStream stderr = System.err;
@@ -104,17 +92,11 @@ public class TransactionResourceManager {
     Map<ByteBuffer, Object> transactionInfoMap;
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
         transactionInfoMap = new ConcurrentHashMap<>();
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
-        } else {
-            xidRegistry = new HashMap<>();
         }
     }
 
@@ -195,8 +177,7 @@ public class TransactionResourceManager {
      * @param txContext          ballerina transaction context which includes the underlying connection info
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        getResources(transactionId).getOrCreateBlock(transactionBlockId).contexts.add(txContext);
     }
 
     /**
@@ -207,7 +188,7 @@ public class TransactionResourceManager {
      */
     public void registerCommittedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            getResources(transactionBlockId).getCommittedFunctions().addFirst(fpValue);
         }
     }
 
@@ -219,7 +200,7 @@ public class TransactionResourceManager {
      */
     public void registerAbortedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            getResources(transactionBlockId).getAbortedFunctions().addFirst(fpValue);
         }
     }
 
@@ -231,7 +212,7 @@ public class TransactionResourceManager {
      * @since 0.990.0
      */
     public void registerParticipation(String gTransactionId, String transactionBlockId) {
-        localParticipants.computeIfAbsent(gTransactionId, gid -> new ConcurrentSkipListSet<>()).add(transactionBlockId);
+        getResources(gTransactionId).addLocalParticipant(transactionBlockId);
 
         TransactionLocalContext transactionLocalContext = Scheduler.getStrand().currentTrxContext;
         transactionLocalContext.beginTransactionBlock(transactionBlockId);
@@ -250,11 +231,11 @@ public class TransactionResourceManager {
         if (transactionManagerEnabled) {
             return true;
         }
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            Xid xid = xidRegistry.get(combinedId);
-            for (BallerinaTransactionContext ctx : txContextList) {
+        TransactionResources resources = getResources(transactionId);
+        TransactionResources.Block block = resources.getBlock(transactionBlockId);
+        if (block != null) {
+            Xid xid = block.xid;
+            for (BallerinaTransactionContext ctx : block.contexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
@@ -268,11 +249,8 @@ public class TransactionResourceManager {
             }
         }
 
-        boolean status = true;
-        if (failedResourceParticipantSet.contains(transactionId) || failedLocalParticipantSet.contains(transactionId)) {
-            // resource participant reported failure.
-            status = false;
-        }
+        // resource participant reported failure.
+        boolean status = !resources.hasFailedParticipant();
         log.info(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
         return status;
     }
@@ -285,12 +263,11 @@ public class TransactionResourceManager {
      * @return the status of the commit operation
      */
     public boolean notifyCommit(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
+        TransactionResources.Block block = getResources(transactionId).getBlock(transactionBlockId);
+        if (block != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = block.transaction;
                 try {
                     if (trx != null) {
                         trx.commit();
@@ -302,14 +279,14 @@ public class TransactionResourceManager {
                 }
             }
 
-            for (BallerinaTransactionContext ctx : txContextList) {
+            for (BallerinaTransactionContext ctx : block.contexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (transactionManagerEnabled && xaResource == null) {
                         ctx.commit();
                     } else {
                         if (xaResource != null) {
-                            Xid xid = xidRegistry.get(combinedId);
+                            Xid xid = block.xid;
                             xaResource.commit(xid, false);
                         } else {
                             ctx.commit();
@@ -327,11 +304,9 @@ public class TransactionResourceManager {
     }
 
     public void cleanTransaction(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        removeContextsFromRegistry(combinedId, transactionId);
-        failedResourceParticipantSet.remove(transactionId);
-        failedLocalParticipantSet.remove(transactionId);
-        localParticipants.remove(transactionId);
+        TransactionResources resources = getResources(transactionId);
+        resources.removeBlock(transactionBlockId);
+        resources.clearParticipants();
     }
 
     /**
@@ -342,13 +317,13 @@ public class TransactionResourceManager {
      * @return the status of the abort operation
      */
     public boolean notifyAbort(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean abortSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        TransactionResources resources = getResources(transactionId);
+        TransactionResources.Block block = resources.getBlock(transactionBlockId);
 
-        if (txContextList != null) {
+        if (block != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = block.transaction;
                 try {
                     if (trx != null) {
                         trx.rollback();
@@ -359,13 +334,13 @@ public class TransactionResourceManager {
                 }
             }
 
-            for (BallerinaTransactionContext ctx : txContextList) {
+            for (BallerinaTransactionContext ctx : block.contexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (transactionManagerEnabled && xaResource == null) {
                         ctx.rollback();
                     } else {
-                        Xid xid = xidRegistry.get(combinedId);
+                        Xid xid = block.xid;
                         if (xaResource != null) {
                             ctx.getXAResource().rollback(xid);
                         } else {
@@ -385,10 +360,8 @@ public class TransactionResourceManager {
 
         // todo: Temporaraly disabling abort functions as there is no clear way to separate rollback and full abort.
 
-        removeContextsFromRegistry(combinedId, transactionId);
-        failedResourceParticipantSet.remove(transactionId);
-        failedLocalParticipantSet.remove(transactionId);
-        localParticipants.remove(transactionId);
+        resources.removeBlock(transactionBlockId);
+        resources.clearParticipants();
         return abortSuccess;
     }
 
@@ -401,24 +374,22 @@ public class TransactionResourceManager {
      * @param xaResource         the XA resource which participates in the transaction
      */
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionResources.Block block = getResources(transactionId).getOrCreateBlock(transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
             try {
-                if (trx == null) {
+                if (block.transaction == null) {
                     userTransactionManager.begin();
 
-                    trx = userTransactionManager.getTransaction();
-                    trxRegistry.put(combinedId, trx);
+                    block.transaction = userTransactionManager.getTransaction();
                 }
             } catch (SystemException | NotSupportedException e) {
                 log.error("error in initiating transaction " + transactionId + ":" + e.getMessage(), e);
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
+            Xid xid = block.xid;
             if (xid == null) {
                 xid = XIDGenerator.createXID();
-                xidRegistry.put(combinedId, xid);
+                block.xid = xid;
             }
             try {
                 xaResource.start(xid, TMNOFLAGS);
@@ -436,6 +407,7 @@ public class TransactionResourceManager {
         Strand strand = Scheduler.getStrand();
         TransactionLocalContext transactionLocalContext = strand.currentTrxContext;
         transactionLocalContext.removeTransactionInfo();
+        transactions.remove(transactionLocalContext.getGlobalTransactionId(), transactionLocalContext.getResources());
         strand.removeCurrentTrxContext();
     }
 
@@ -478,15 +450,7 @@ public class TransactionResourceManager {
      * @return Array of rollback handlers
      */
     public BArray getRegisteredRollbackHandlerList() {
-        List<BFunctionPointer> abortFunctions =
-                abortedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
-        if (abortFunctions != null && !abortFunctions.isEmpty()) {
-            Collections.reverse(abortFunctions);
-            return ValueCreator.createArrayValue(abortFunctions.toArray(),
-                    TypeCreator.createArrayType(abortFunctions.get(0).getType()));
-        } else {
-            return getNillArray();
-        }
+        return getHandlerList(Scheduler.getStrand().currentTrxContext.getResources().getAbortedFunctions());
     }
 
     /**
@@ -494,15 +458,17 @@ public class TransactionResourceManager {
      * @return Array of commit handlers
      */
     public BArray getRegisteredCommitHandlerList() {
-        List<BFunctionPointer> commitFunctions =
-                committedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
-        if (commitFunctions != null && !commitFunctions.isEmpty()) {
-            Collections.reverse(commitFunctions);
-            return ValueCreator.createArrayValue(commitFunctions.toArray(),
-                    TypeCreator.createArrayType(commitFunctions.get(0).getType()));
-        } else {
+        return getHandlerList(Scheduler.getStrand().currentTrxContext.getResources().getCommittedFunctions());
+    }
+
+    private BArray getHandlerList(Deque<BFunctionPointer> functions) {
+        // The handlers are held in the reverse order of registration, which is the order they are run in.
+        Object[] handlers = functions.toArray();
+        if (handlers.length == 0) {
             return getNillArray();
         }
+        return ValueCreator.createArrayValue(handlers,
+                TypeCreator.createArrayType(((BFunctionPointer) handlers[0]).getType()));
     }
 
     private BArray getNillArray() {
@@ -543,30 +509,29 @@ public class TransactionResourceManager {
      * @param transactionBlockId the block id of the transaction
      */
     void endXATransaction(String transactionId, String transactionBlockId, boolean abortOnly) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionResources.Block block = getResources(transactionId).getBlock(transactionBlockId);
+        if (block == null) {
+            return;
+        }
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            Transaction trx = block.transaction;
             if (trx != null) {
-                List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-                if (txContextList != null) {
-                    for (BallerinaTransactionContext ctx : txContextList) {
-                        try {
-                            XAResource xaResource = ctx.getXAResource();
-                            if (xaResource != null) {
-                                trx.delistResource(xaResource, TMSUCCESS);
-                            }
-                        } catch (IllegalStateException | SystemException e) {
-                            log.error("error in ending the XA transaction " + transactionId
-                                    + ":" + e.getMessage(), e);
+                for (BallerinaTransactionContext ctx : block.contexts) {
+                    try {
+                        XAResource xaResource = ctx.getXAResource();
+                        if (xaResource != null) {
+                            trx.delistResource(xaResource, TMSUCCESS);
                         }
+                    } catch (IllegalStateException | SystemException e) {
+                        log.error("error in ending the XA transaction " + transactionId
+                                + ":" + e.getMessage(), e);
                     }
                 }
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-            if (xid != null && txContextList != null) {
-                for (BallerinaTransactionContext ctx : txContextList) {
+            Xid xid = block.xid;
+            if (xid != null) {
+                for (BallerinaTransactionContext ctx : block.contexts) {
                     try {
                         XAResource xaResource = ctx.getXAResource();
                         if (xaResource != null) {
@@ -580,33 +545,35 @@ public class TransactionResourceManager {
         }
     }
 
-    private void removeContextsFromRegistry(String transactionCombinedId, String gTransactionId) {
-        resourceRegistry.remove(transactionCombinedId);
-        if (transactionManagerEnabled) {
-            trxRegistry.remove(transactionCombinedId);
-        } else {
-            xidRegistry.remove(transactionCombinedId);
-        }
-    }
-
-    private String generateCombinedTransactionId(String transactionId, String transactionBlockId) {
-        if (transactionBlockId.contains("_")) {
-            // remove the strand id from the transaction block id
-            return transactionBlockId.split("_")[0];
+    /**
+     * Returns the resources of the given transaction. These are the resources of the transaction of the current
+     * strand, unless the strand is not in the given transaction.
+     *
+     * @param transactionId the global transaction id
+     * @return the resources of the transaction
+     */
+    TransactionResources getResources(String transactionId) {
+        Strand strand = Scheduler.getStrandNoException();
+        if (strand != null) {
+            TransactionLocalContext transactionLocalContext = strand.currentTrxContext;
+            if (transactionLocalContext != null &&
+                    transactionLocalContext.getGlobalTransactionId().equals(transactionId)) {
+                return transactionLocalContext.getResources();
+            }
         }
-        return transactionId + ":" + transactionBlockId;
+        return transactions.computeIfAbsent(transactionId, id -> new TransactionResources());
     }
 
     public void notifyResourceFailure(String gTransactionId) {
-        failedResourceParticipantSet.add(gTransactionId);
+        getResources(gTransactionId).markResourceParticipantFailed();
         // The resource excepted (uncaught).
         log.info("Trx infected callable unit excepted id : " + gTransactionId);
     }
 
     public void notifyLocalParticipantFailure(String gTransactionId, String blockId) {
-        ConcurrentSkipListSet<String> participantBlockIds = localParticipants.get(gTransactionId);
-        if (participantBlockIds != null && participantBlockIds.contains(blockId)) {
-            failedLocalParticipantSet.add(gTransactionId);
+        TransactionResources resources = getResources(gTransactionId);
+        if (resources.isLocalParticipant(blockId)) {
+            resources.markLocalParticipantFailed();
         }
     }
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.transactions;
+
+import io.ballerina.runtime.api.values.BFunctionPointer;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.transaction.Transaction;
+import javax.transaction.xa.Xid;
+
+/**
+ * Resources, handlers and participants of a global transaction.
+ * <p>
+ * The local contexts of a transaction refer to the same instance, so that the resource manager reaches the state of
+ * the transaction of the current strand without building a key and looking it up in a registry shared by all
+ * transactions. The strands of a transaction add to the lists of the transaction concurrently, without locking them.
+ *
+ * @since 2201.10.0
+ */
+final class TransactionResources {
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+    private final Set<String> localParticipants = ConcurrentHashMap.newKeySet();
+    // Handlers are added to the front, as they are run in the reverse order of registration.
+    private final Deque<BFunctionPointer> committedFunctions = new ConcurrentLinkedDeque<>();
+    private final Deque<BFunctionPointer> abortedFunctions = new ConcurrentLinkedDeque<>();
+    private volatile boolean resourceParticipantFailed = false;
+    private volatile boolean localParticipantFailed = false;
+
+    Block getBlock(String transactionBlockId) {
+        return blocks.get(getBlockKey(transactionBlockId));
+    }
+
+    Block getOrCreateBlock(String transactionBlockId) {
+        return blocks.computeIfAbsent(getBlockKey(transactionBlockId), key -> new Block());
+    }
+
+    void removeBlock(String transactionBlockId) {
+        blocks.remove(getBlockKey(transactionBlockId));
+    }
+
+    void addLocalParticipant(String transactionBlockId) {
+        localParticipants.add(transactionBlockId);
+    }
+
+    boolean isLocalParticipant(String transactionBlockId) {
+        return localParticipants.contains(transactionBlockId);
+    }
+
+    void markResourceParticipantFailed() {
+        resourceParticipantFailed = true;
+    }
+
+    void markLocalParticipantFailed() {
+        localParticipantFailed = true;
+    }
+
+    boolean hasFailedParticipant() {
+        return resourceParticipantFailed || localParticipantFailed;
+    }
+
+    void clearParticipants() {
+        resourceParticipantFailed = false;
+        localParticipantFailed = false;
+        localParticipants.clear();
+    }
+
+    Deque<BFunctionPointer> getCommittedFunctions() {
+        return committedFunctions;
+    }
+
+    Deque<BFunctionPointer> getAbortedFunctions() {
+        return abortedFunctions;
+    }
+
+    private static String getBlockKey(String transactionBlockId) {
+        // The blocks of the strands started within a transaction block have the id of the strand after the '_', and
+        // all of them share the same resources, apart from the resources of the transaction block itself.
+        int strandIdIndex = transactionBlockId.indexOf('_');
+        return strandIdIndex < 0 ? transactionBlockId : transactionBlockId.substring(0, strandIdIndex + 1);
+    }
+
+    /**
+     * Resources of a transaction block, and the transaction or XA transaction id they are enlisted in.
+     */
+    static final class Block {
+
+        final Queue<BallerinaTransactionContext> contexts = new ConcurrentLinkedQueue<>();
+        volatile Transaction transaction;
+        volatile Xid xid;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test the locks of lock statements, which are taken by strands running on the scheduler.
+ *
+ * @since 2201.10.0
+ */
+public class BLockTests {
+
+    private static final int STRAND_COUNT = 50;
+    private static final int ITERATION_COUNT = 200;
+
+    private int counter;
+
+    @Test
+    void testReentrantLockUnderContention() {
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLock();
+        AtomicInteger completed = new AtomicInteger();
+        counter = 0;
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            // Progress of the strand, kept across the runs of the function when the strand yields for the lock
+            int[] iteration = new int[1];
+            Function<Object[], Object> function = params -> {
+                Strand strand = (Strand) params[0];
+                while (iteration[0] < ITERATION_COUNT) {
+                    if (!lock.lock(strand)) {
+                        // Blocked, the scheduler runs the function again once the lock is released
+                        return null;
+                    }
+                    Assert.assertTrue(lock.lock(strand), "reentrant acquisition failed");
+                    Assert.assertTrue(lock.lockedBySameContext(strand));
+                    counter++;
+                    lock.unlock();
+                    Assert.assertTrue(lock.lockedBySameContext(strand));
+                    lock.unlock();
+                    Assert.assertEquals(strand.acquiredLockCount, 0);
+                    iteration[0]++;
+                }
+                return completed.incrementAndGet();
+            };
+            scheduler.schedule(new Object[1], function, null, null, "test", null);
+        }
+        scheduler.start();
+
+        Assert.assertEquals(completed.get(), STRAND_COUNT);
+        Assert.assertEquals(counter, STRAND_COUNT * ITERATION_COUNT);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(lock.getAcquisitionCount(), 2L * STRAND_COUNT * ITERATION_COUNT);
+    }
+
+    @Test
+    void testBlockedStrandResumesOnUnlock() {
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLock();
+        CountDownLatch ownerLocked = new CountDownLatch(1);
+        CountDownLatch waiterBlocked = new CountDownLatch(1);
+        AtomicInteger waiterRuns = new AtomicInteger();
+
+        Function<Object[], Object> owner = params -> {
+            Strand strand = (Strand) params[0];
+            Assert.assertTrue(lock.lock(strand));
+            ownerLocked.countDown();
+            await(waiterBlocked);
+            lock.unlock();
+            return null;
+        };
+        Function<Object[], Object> waiter = params -> {
+            Strand strand = (Strand) params[0];
+            if (waiterRuns.incrementAndGet() == 1) {
+                await(ownerLocked);
+                Assert.assertFalse(lock.lock(strand));
+                waiterBlocked.countDown();
+                return null;
+            }
+            Assert.assertTrue(lock.lock(strand));
+            lock.unlock();
+            return null;
+        };
+        scheduler.schedule(new Object[1], owner, null, null, "owner", null);
+        scheduler.schedule(new Object[1], waiter, null, null, "waiter", null);
+        scheduler.start();
+
+        Assert.assertEquals(waiterRuns.get(), 2);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(lock.getAcquisitionCount(), 2);
+        Assert.assertEquals(lock.getWaitCount(), 1);
+        Assert.assertEquals(lock.getMaxWaitingCount(), 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Assert.fail("interrupted while waiting", e);
+        }
+    }
+}
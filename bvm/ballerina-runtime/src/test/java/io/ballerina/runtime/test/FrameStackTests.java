@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.FrameStack;
+import io.ballerina.runtime.internal.scheduling.FunctionFrame;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the frame stack of strands.
+ *
+ * @since 2201.10.0
+ */
+public class FrameStackTests {
+
+    @Test
+    void testFramesArePoppedInReverseOrder() {
+        FrameStack stack = new FrameStack();
+        FunctionFrame[] frames = new FunctionFrame[20];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new FirstFrame();
+            stack.push(frames[i]);
+        }
+        Assert.assertEquals(stack.size(), frames.length);
+        Assert.assertEquals(stack.toArray(), frames);
+        for (int i = frames.length - 1; i >= 0; i--) {
+            Assert.assertSame(stack.pop(), frames[i]);
+        }
+        Assert.assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testPoppedFrameIsRecycled() {
+        FrameStack stack = new FrameStack();
+        Assert.assertNull(stack.recycle(FirstFrame.class));
+
+        FunctionFrame bottom = new FirstFrame();
+        FunctionFrame top = new SecondFrame();
+        stack.push(bottom);
+        stack.push(top);
+        Assert.assertNull(stack.recycle(FirstFrame.class));
+
+        stack.pop();
+        // Only a frame of the same class is handed out, and it is not pushed again until the caller does so
+        Assert.assertNull(stack.recycle(FirstFrame.class));
+        Assert.assertSame(stack.recycle(SecondFrame.class), top);
+        Assert.assertEquals(stack.size(), 1);
+
+        stack.pop();
+        Assert.assertSame(stack.recycle(FirstFrame.class), bottom);
+        stack.push(bottom);
+        Assert.assertSame(stack.recycle(SecondFrame.class), top);
+    }
+
+    private static class FirstFrame extends FunctionFrame {
+    }
+
+    private static class SecondFrame extends FunctionFrame {
+    }
+}
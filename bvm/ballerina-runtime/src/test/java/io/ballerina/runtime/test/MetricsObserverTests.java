@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+
+/**
+ * Test the metrics recorded by {@link BallerinaMetricsObserver} for the tags of observations.
+ *
+ * @since 2201.10.0
+ */
+public class MetricsObserverTests {
+
+    private final BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+    private final MetricRegistry registry = DefaultMetricRegistry.getInstance();
+
+    @Test
+    public void testRepeatedObservations() {
+        observe("repeated", "get", null, 200);
+        Metric requests = registry.lookup(requestsId(Set.of(Tag.of("service", "repeated"), Tag.of("resource", "get"),
+                Tag.of("http.status_code_group", "2xx"))));
+        Assert.assertNotNull(requests);
+        long metricCount = countRequestMetrics();
+
+        observe("repeated", "get", null, 201);
+        Assert.assertEquals(countRequestMetrics(), metricCount);
+
+        observe("repeated", "get", null, 404);
+        Assert.assertEquals(countRequestMetrics(), metricCount + 1);
+        Assert.assertNotNull(registry.lookup(requestsId(Set.of(Tag.of("service", "repeated"),
+                Tag.of("resource", "get"), Tag.of("http.status_code_group", "4xx")))));
+        Assert.assertNotNull(registry.lookup(new MetricId("response_errors_total", "", Set.of(
+                Tag.of("service", "repeated"), Tag.of("resource", "get"), Tag.of("http.status_code_group", "4xx")))));
+    }
+
+    @Test
+    public void testCustomTags() {
+        observe("custom", "get", Map.of("tenant", Tag.of("tenant", "a")), 0);
+        observe("custom", "get", Map.of("tenant", Tag.of("tenant", "b")), 0);
+        observe("custom", "get", null, 0);
+        Assert.assertNotNull(registry.lookup(requestsId(Set.of(Tag.of("service", "custom"), Tag.of("resource", "get"),
+                Tag.of("tenant", "a")))));
+        Assert.assertNotNull(registry.lookup(requestsId(Set.of(Tag.of("service", "custom"), Tag.of("resource", "get"),
+                Tag.of("tenant", "b")))));
+        Assert.assertNotNull(registry.lookup(requestsId(Set.of(Tag.of("service", "custom"),
+                Tag.of("resource", "get")))));
+    }
+
+    @Test
+    public void testMoreTagSetsThanCached() {
+        // More tag sets than the slots of the cache, so that cached ids are evicted
+        int resourceCount = 5000;
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < resourceCount; i++) {
+                observe("evicted", "resource" + i, null, 0);
+            }
+        }
+        for (int i = 0; i < resourceCount; i++) {
+            Assert.assertNotNull(registry.lookup(requestsId(Set.of(Tag.of("service", "evicted"),
+                    Tag.of("resource", "resource" + i)))));
+            Assert.assertNotNull(registry.lookup(new MetricId("inprogress_requests", "", Set.of(
+                    Tag.of("service", "evicted"), Tag.of("resource", "resource" + i)))));
+        }
+        long evictedCount = Arrays.stream(registry.getAllMetrics())
+                .filter(metric -> metric.getId().getName().equals("requests_total"))
+                .filter(metric -> metric.getId().getTags().contains(Tag.of("service", "evicted")))
+                .count();
+        Assert.assertEquals(evictedCount, resourceCount);
+    }
+
+    private void observe(String service, String resource, Map<String, Tag> customTags, int statusCode) {
+        ObserverContext observerContext = new ObserverContext() {
+            @Override
+            public boolean isStarted() {
+                return true;
+            }
+        };
+        observerContext.addTag("service", service);
+        observerContext.addTag("resource", resource);
+        if (customTags != null) {
+            observerContext.customMetricTags = new HashMap<>(customTags);
+        }
+        observer.startServerObservation(observerContext);
+        if (statusCode > 0) {
+            observerContext.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, statusCode);
+        }
+        observer.stopServerObservation(observerContext);
+    }
+
+    private long countRequestMetrics() {
+        return Arrays.stream(registry.getAllMetrics())
+                .filter(metric -> metric.getId().getName().equals("requests_total"))
+                .count();
+    }
+
+    private static MetricId requestsId(Set<Tag> tags) {
+        return new MetricId("requests_total", "", tags);
+    }
+}
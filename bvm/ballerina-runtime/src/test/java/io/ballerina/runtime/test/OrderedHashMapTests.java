@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.values.OrderedHashMap;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test {@link OrderedHashMap} by applying the same operations to it and to a {@link LinkedHashMap}.
+ *
+ * @since 2201.10.0
+ */
+public class OrderedHashMapTests {
+
+    private static final int OPERATION_COUNT = 20000;
+
+    @DataProvider
+    public static Object[][] keyRanges() {
+        // Small ranges keep maps small enough to be searched without an index, and make keys come back after they
+        // are removed. Large ones make the maps resize.
+        return new Object[][]{{3L}, {8L}, {20L}, {200L}, {2000L}};
+    }
+
+    @Test(dataProvider = "keyRanges")
+    void testRandomOperations(long keyRange) {
+        Random random = new Random(keyRange);
+        OrderedHashMap<Key, Integer> map = new OrderedHashMap<>();
+        Map<Key, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            Key key = randomKey(random, keyRange);
+            switch (random.nextInt(10)) {
+                case 0, 1, 2, 3 -> Assert.assertEquals(map.put(key, i), expected.put(key, i));
+                case 4, 5 -> Assert.assertEquals(map.remove(key), expected.remove(key));
+                case 6 -> {
+                    Assert.assertEquals(map.get(key), expected.get(key));
+                    Assert.assertEquals(map.containsKey(key), expected.containsKey(key));
+                }
+                case 7 -> removeWhileIterating(random, map, expected);
+                case 8 -> {
+                    Integer value = random.nextInt(i + 1);
+                    Assert.assertEquals(map.containsValue(value), expected.containsValue(value));
+                }
+                default -> {
+                    if (random.nextInt(100) == 0) {
+                        map.clear();
+                        expected.clear();
+                    } else {
+                        updateWhileIterating(random, map, expected, i);
+                    }
+                }
+            }
+            assertSameMappings(map, expected);
+        }
+    }
+
+    @Test
+    void testReinsertedKeyMovesToTheEnd() {
+        OrderedHashMap<Key, Integer> map = new OrderedHashMap<>();
+        Map<Key, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put(new Key(i, i), i);
+            expected.put(new Key(i, i), i);
+        }
+        // Updating a value keeps the position of the key, removing it and putting it back does not
+        map.put(new Key(5, 5), -5);
+        expected.put(new Key(5, 5), -5);
+        map.remove(new Key(3, 3));
+        expected.remove(new Key(3, 3));
+        map.put(new Key(3, 3), -3);
+        expected.put(new Key(3, 3), -3);
+        assertSameMappings(map, expected);
+    }
+
+    @Test
+    void testRemovedPositionsAreReclaimed() {
+        OrderedHashMap<Key, Integer> map = new OrderedHashMap<>();
+        Map<Key, Integer> expected = new LinkedHashMap<>();
+        // Keep the map at the same size while the removed keys leave holes behind the live ones, so that the holes
+        // are reclaimed over and over, both with and without an index
+        for (int size : new int[]{4, 6, 16, 100}) {
+            for (int i = 0; i < size * 20; i++) {
+                map.put(new Key(i, i % 7), i);
+                expected.put(new Key(i, i % 7), i);
+                if (i >= size) {
+                    Key removed = new Key(i - size, (i - size) % 7);
+                    Assert.assertEquals(map.remove(removed), expected.remove(removed));
+                }
+                assertSameMappings(map, expected);
+            }
+            map.clear();
+            expected.clear();
+        }
+    }
+
+    @Test
+    void testIteratorRemovesAllMappings() {
+        OrderedHashMap<Key, Integer> map = new OrderedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            map.put(new Key(i, i % 3), i);
+        }
+        Iterator<Key> iterator = map.keySet().iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next().id(), count++);
+            iterator.remove();
+        }
+        Assert.assertEquals(count, 50);
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertThrows(IllegalStateException.class, iterator::remove);
+
+        // The map is still usable after the iterator cleared it
+        map.put(new Key(1, 1), 1);
+        Assert.assertEquals(map.get(new Key(1, 1)), Integer.valueOf(1));
+    }
+
+    @Test
+    void testIteratorFailsOnConcurrentModification() {
+        OrderedHashMap<Key, Integer> map = new OrderedHashMap<>();
+        map.put(new Key(1, 1), 1);
+        map.put(new Key(2, 2), 2);
+        Iterator<Map.Entry<Key, Integer>> iterator = map.entrySet().iterator();
+        iterator.next();
+        map.put(new Key(3, 3), 3);
+        Assert.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testNullKeysAndValues() {
+        OrderedHashMap<Key, Integer> map = new OrderedHashMap<>();
+        Map<Key, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 12; i++) {
+            Key key = i % 4 == 0 ? null : new Key(i, 0);
+            Integer value = i % 3 == 0 ? null : i;
+            Assert.assertEquals(map.put(key, value), expected.put(key, value));
+            assertSameMappings(map, expected);
+        }
+        Assert.assertEquals(map.remove(null), expected.remove(null));
+        Assert.assertEquals(map.containsValue(null), expected.containsValue(null));
+        assertSameMappings(map, expected);
+    }
+
+    private static void removeWhileIterating(Random random, OrderedHashMap<Key, Integer> map,
+                                             Map<Key, Integer> expected) {
+        Iterator<Key> iterator = map.keySet().iterator();
+        Iterator<Key> expectedIterator = expected.keySet().iterator();
+        while (iterator.hasNext()) {
+            Assert.assertTrue(expectedIterator.hasNext());
+            Assert.assertEquals(iterator.next(), expectedIterator.next());
+            if (random.nextInt(4) == 0) {
+                iterator.remove();
+                expectedIterator.remove();
+            }
+        }
+        Assert.assertFalse(expectedIterator.hasNext());
+    }
+
+    private static void updateWhileIterating(Random random, OrderedHashMap<Key, Integer> map,
+                                             Map<Key, Integer> expected, int value) {
+        Iterator<Map.Entry<Key, Integer>> iterator = map.entrySet().iterator();
+        Iterator<Map.Entry<Key, Integer>> expectedIterator = expected.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Integer> entry = iterator.next();
+            Map.Entry<Key, Integer> expectedEntry = expectedIterator.next();
+            Assert.assertEquals(entry, expectedEntry);
+            if (random.nextInt(4) == 0) {
+                Assert.assertEquals(entry.setValue(value), expectedEntry.setValue(value));
+            }
+        }
+    }
+
+    private static Key randomKey(Random random, long keyRange) {
+        int id = (int) (random.nextLong() % keyRange);
+        // Keys share hash codes, so that lookups go past mappings of other keys
+        return new Key(id, id % 5);
+    }
+
+    private static void assertSameMappings(OrderedHashMap<Key, Integer> map, Map<Key, Integer> expected) {
+        Assert.assertEquals(map.size(), expected.size());
+        Assert.assertEquals(map.isEmpty(), expected.isEmpty());
+        Assert.assertEquals(new ArrayList<>(map.entrySet()), new ArrayList<>(expected.entrySet()));
+        Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(expected.keySet()));
+        Assert.assertEquals(new ArrayList<>(map.values()), new ArrayList<>(expected.values()));
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(map.hashCode(), expected.hashCode());
+        for (Key key : expected.keySet()) {
+            Assert.assertTrue(map.containsKey(key));
+            Assert.assertEquals(map.get(key), expected.get(key));
+        }
+    }
+
+    private record Key(int id, int hash) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && key.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
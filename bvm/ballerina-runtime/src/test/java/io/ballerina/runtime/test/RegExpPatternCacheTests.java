@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+/**
+ * Test the cache of the java patterns compiled for regular expressions.
+ *
+ * @since 2201.10.0
+ */
+public class RegExpPatternCacheTests {
+
+    @Test
+    void testPatternIsSharedByEqualRegExps() {
+        RegExpValue first = RegExpFactory.parse("[a-z]+[0-9]*");
+        RegExpValue second = RegExpFactory.parse("[a-z]+[0-9]*");
+        Pattern pattern = RegExpPatternCache.getPattern(first, 0);
+        Assert.assertSame(RegExpPatternCache.getPattern(second, 0), pattern);
+        Assert.assertTrue(pattern.matcher("abc12").matches());
+    }
+
+    @Test
+    void testPatternsAreCachedPerFlags() {
+        RegExpValue regExp = RegExpFactory.parse("\\w+");
+        Pattern plain = RegExpPatternCache.getPattern(regExp, 0);
+        Pattern unicode = RegExpPatternCache.getPattern(regExp, Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertNotSame(unicode, plain);
+        Assert.assertFalse(plain.matcher("දිනය").matches());
+        Assert.assertTrue(unicode.matcher("දිනය").matches());
+        Assert.assertSame(RegExpPatternCache.getPattern(regExp, 0), plain);
+    }
+
+    @Test
+    void testCollidingRegExpsReplaceEachOther() {
+        // Both texts have the same hash code, so they map to the same slot
+        Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+        RegExpValue first = RegExpFactory.parse("Aa");
+        RegExpValue second = RegExpFactory.parse("BB");
+
+        Pattern firstPattern = RegExpPatternCache.getPattern(first, 0);
+        Pattern secondPattern = RegExpPatternCache.getPattern(second, 0);
+        Assert.assertTrue(firstPattern.matcher("Aa").matches());
+        Assert.assertTrue(secondPattern.matcher("BB").matches());
+        Assert.assertFalse(secondPattern.matcher("Aa").matches());
+
+        // The first pattern was evicted, so it is compiled again rather than answered with the colliding one
+        Pattern recompiled = RegExpPatternCache.getPattern(RegExpFactory.parse("Aa"), 0);
+        Assert.assertNotSame(recompiled, firstPattern);
+        Assert.assertTrue(recompiled.matcher("Aa").matches());
+        Assert.assertFalse(recompiled.matcher("BB").matches());
+    }
+
+    @Test
+    void testRegExpStringIsBuiltOnce() {
+        RegExpValue regExp = RegExpFactory.parse("(?i:ab)c|d{2,3}");
+        String text = regExp.getRegExpString();
+        Assert.assertEquals(text, regExp.stringValue(null));
+        Assert.assertSame(regExp.getRegExpString(), text);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test the strand scheduler.
+ *
+ * @since 2201.10.0
+ */
+public class SchedulerTests {
+
+    private static final int STRAND_COUNT = 100;
+
+    @DataProvider
+    public static Object[][] backends() {
+        // The JVM running the tests may not have virtual threads, so the groups run on new platform threads, which
+        // the scheduler handles the same way
+        ThreadFactory threadFactory = runnable -> new Thread(runnable, "test-strand-group");
+        return new Object[][]{{null}, {threadFactory}};
+    }
+
+    @Test(dataProvider = "backends")
+    void testAllStrandsRun(ThreadFactory threadFactory) {
+        Scheduler scheduler = new Scheduler(4, false, threadFactory);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            Function<Object[], Object> function = params -> completed.incrementAndGet();
+            scheduler.schedule(new Object[1], function, null, null, "test", null);
+        }
+        scheduler.start();
+        Assert.assertEquals(completed.get(), STRAND_COUNT);
+    }
+
+    @Test(dataProvider = "backends")
+    void testStartWaitsForRunningStrands(ThreadFactory threadFactory) throws Exception {
+        Scheduler scheduler = new Scheduler(4, true, threadFactory);
+        CountDownLatch started = new CountDownLatch(STRAND_COUNT);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            Function<Object[], Object> function = params -> {
+                started.countDown();
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return completed.incrementAndGet();
+            };
+            scheduler.schedule(new Object[1], function, null, null, "test", null);
+        }
+
+        Thread poisoner = new Thread(() -> {
+            try {
+                // Stop the scheduler while strands are still running
+                started.await(10, TimeUnit.SECONDS);
+                scheduler.poison();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        poisoner.start();
+        scheduler.start();
+        poisoner.join();
+        Assert.assertEquals(completed.get(), STRAND_COUNT);
+    }
+}
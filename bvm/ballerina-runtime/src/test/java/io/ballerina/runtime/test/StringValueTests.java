@@ -1,6 +1,10 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +44,50 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testUnicodeIndexOf() {
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("r"), 0), Long.valueOf(8));
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("r"), 12), Long.valueOf(15));
+        Assert.assertEquals(SUBJECT.lastIndexOf(StringUtils.fromString("m"), 15), Long.valueOf(3));
+        Assert.assertEquals(SUBJECT.substring(1, 3).getValue(), "\uD83D\uDEF8m");
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            str = str.concat(StringUtils.fromString("ab"));
+            expected.append("ab");
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 20000);
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatWithNonBmp() {
+        BString str = StringUtils.fromString("x".repeat(100)).concat(SUBJECT);
+        str = str.concat(SUBJECT).concat(StringUtils.fromString("y".repeat(50)));
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.length(), 182);
+        Assert.assertEquals(str.getCodePoint(101), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(130), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(131), 'r');
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("Frav"), 0), Long.valueOf(110));
+        Assert.assertEquals(((RopeStringValue) str).getSurrogates(), new int[]{101, 114, 117, 130});
+
+        BIterator<?> iterator = str.getIterator();
+        StringBuilder iterated = new StringBuilder();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterated.append(iterator.next());
+            count++;
+        }
+        Assert.assertEquals(count, 182);
+        Assert.assertEquals(iterated.toString(), str.getValue());
+    }
+
 }
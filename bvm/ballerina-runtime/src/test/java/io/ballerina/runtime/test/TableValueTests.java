@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test the storage of table rows, through the operations of tables.
+ *
+ * @since 2201.10.0
+ */
+public class TableValueTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final MapType ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+    private static final MapType READONLY_ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT, true);
+
+    @Test
+    void testKeyedRowsKeepInsertionOrder() {
+        Random random = new Random(7);
+        BTable<Long, BMap<BString, Object>> table = createTable(true);
+        Map<Long, BMap<BString, Object>> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // The key range grows and shrinks, so that the table both resizes and reuses removed positions
+            long keyRange = 10 + Math.abs(5000 - (i % 10000));
+            long key = random.nextLong() % keyRange;
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    BMap<BString, Object> row = createRow(key, i);
+                    table.put(row);
+                    expected.put(key, row);
+                }
+                case 1 -> Assert.assertSame(table.remove(key), expected.remove(key));
+                default -> {
+                    Assert.assertSame(table.get(key), expected.get(key));
+                    Assert.assertEquals(table.containsKey(key), expected.containsKey(key));
+                }
+            }
+            if (i % 100 == 0) {
+                assertSameRows(table, expected);
+            }
+        }
+        assertSameRows(table, expected);
+    }
+
+    @Test
+    void testAddRejectsDuplicateKeys() {
+        BTable<Long, BMap<BString, Object>> table = createTable(true);
+        table.add(createRow(1, 1));
+        Assert.assertThrows(RuntimeException.class, () -> table.add(createRow(1, 2)));
+        table.remove(1L);
+        table.add(createRow(1, 3));
+        Assert.assertEquals(table.get(1L).get(VALUE), 3L);
+        Assert.assertEquals(table.size(), 1);
+    }
+
+    @Test
+    void testIteratorResumesAfterRemovedRowsAreReclaimed() {
+        BTable<Long, BMap<BString, Object>> table = createTable(true);
+        for (long key = 0; key < 8; key++) {
+            table.add(createRow(key, key));
+        }
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextKey(iterator), 0L);
+        Assert.assertEquals(nextKey(iterator), 1L);
+        for (long key = 0; key < 6; key++) {
+            table.remove(key);
+        }
+        // Filling the arrays again moves the remaining rows to the front
+        for (long key = 8; key < 40; key++) {
+            table.add(createRow(key, key));
+        }
+        List<Long> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            keys.add(nextKey(iterator));
+        }
+        List<Long> expectedKeys = new ArrayList<>();
+        for (long key = 6; key < 40; key++) {
+            expectedKeys.add(key);
+        }
+        Assert.assertEquals(keys, expectedKeys);
+    }
+
+    @Test
+    void testIteratorSeesRowsAddedWhileIterating() {
+        BTable<Long, BMap<BString, Object>> table = createTable(false);
+        table.add(createRow(0, 0));
+        BIterator<?> iterator = table.getIterator();
+        List<Long> ids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            long id = nextKey(iterator);
+            ids.add(id);
+            if (id < 20) {
+                table.add(createRow(id + 1, id + 1));
+            }
+        }
+        Assert.assertEquals(ids.size(), 21);
+        Assert.assertEquals(table.size(), 21);
+    }
+
+    @Test
+    void testKeylessRows() {
+        BTable<Object, BMap<BString, Object>> table = createTable(false);
+        List<BMap<BString, Object>> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            BMap<BString, Object> row = createRow(i % 10, i);
+            table.add(row);
+            expected.add(row);
+        }
+        Assert.assertEquals(new ArrayList<>(table.values()), expected);
+        Assert.assertFalse(table.containsKey(createRow(0, 0)));
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertTrue(table.values().isEmpty());
+        table.add(expected.get(0));
+        Assert.assertEquals(new ArrayList<>(table.values()), expected.subList(0, 1));
+    }
+
+    @Test
+    void testRowsWithFieldValue() {
+        Random random = new Random(11);
+        // Fields of read-only rows are looked up through an index, and the others by scanning the rows
+        TableValueImpl<Long, BMap<BString, Object>> indexedTable = (TableValueImpl<Long, BMap<BString, Object>>)
+                ValueCreator.<Long, BMap<BString, Object>>createTableValue(
+                        TypeCreator.createTableType(READONLY_ROW_TYPE, new String[]{"id"}, false));
+        TableValueImpl<Long, BMap<BString, Object>> scannedTable =
+                (TableValueImpl<Long, BMap<BString, Object>>) TableValueTests.<Long>createTable(true);
+        Map<Long, BMap<BString, Object>> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                indexedTable.remove(key);
+                scannedTable.remove(key);
+                expected.remove(key);
+            } else if (!expected.containsKey(key)) {
+                BMap<BString, Object> row = createRow(key, random.nextInt(7));
+                row.freezeDirect();
+                indexedTable.add(row);
+                scannedTable.add(row);
+                expected.put(key, row);
+            }
+            if (i % 50 == 0) {
+                long value = random.nextInt(8);
+                List<BMap<BString, Object>> expectedRows = new ArrayList<>();
+                for (BMap<BString, Object> row : expected.values()) {
+                    if (row.get(VALUE).equals(value)) {
+                        expectedRows.add(row);
+                    }
+                }
+                Assert.assertEquals(indexedTable.getRowsWithFieldValue(VALUE, value), expectedRows);
+                Assert.assertEquals(scannedTable.getRowsWithFieldValue(VALUE, value), expectedRows);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> BTable<K, BMap<BString, Object>> createTable(boolean keyed) {
+        TableType tableType = keyed ? TypeCreator.createTableType(ROW_TYPE, new String[]{"id"}, false) :
+                TypeCreator.createTableType(ROW_TYPE, false);
+        return ValueCreator.createTableValue(tableType);
+    }
+
+    private static BMap<BString, Object> createRow(long id, long value) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(ROW_TYPE);
+        row.put(ID, id);
+        row.put(VALUE, value);
+        return row;
+    }
+
+    private static long nextKey(BIterator<?> iterator) {
+        BArray entry = (BArray) iterator.next();
+        return (Long) ((BMap<?, ?>) entry.get(1)).get(ID);
+    }
+
+    private static void assertSameRows(BTable<Long, BMap<BString, Object>> table,
+                                       Map<Long, BMap<BString, Object>> expected) {
+        Assert.assertEquals(table.size(), expected.size());
+        // The keys are returned as an Object array
+        Object[] keys = ((BTable<?, ?>) table).getKeys();
+        Assert.assertEquals(Arrays.asList(keys), new ArrayList<>(expected.keySet()));
+        List<BMap<BString, Object>> rows = new ArrayList<>(table.values());
+        Assert.assertEquals(rows.size(), expected.size());
+        int i = 0;
+        for (BMap<BString, Object> row : expected.values()) {
+            Assert.assertSame(rows.get(i++), row);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Test the resources registered with transactions.
+ *
+ * @since 2201.10.0
+ */
+public class TransactionResourceManagerTests {
+
+    private final TransactionResourceManager manager = TransactionResourceManager.getInstance();
+
+    @Test
+    void testCommitConcurrentlyRegisteredResources() throws Exception {
+        int threadCount = 8;
+        int transactionCount = 1000;
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < transactionCount; i++) {
+                String transactionId = "commit-" + i;
+                results.add(executor.submit(() -> {
+                    manager.register(transactionId, "1", new TestContext(committed, null, closed));
+                    manager.register(transactionId, "1", new TestContext(committed, null, closed));
+                    boolean prepared = manager.prepare(transactionId, "1");
+                    boolean committedAll = manager.notifyCommit(transactionId, "1");
+                    manager.cleanTransaction(transactionId, "1");
+                    return prepared && committedAll;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(committed.get(), 2 * transactionCount);
+        Assert.assertEquals(closed.get(), 2 * transactionCount);
+    }
+
+    @Test
+    void testResourcesOfBlocksKeptApart() {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rolledBack = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        manager.register("blocks", "1", new TestContext(committed, rolledBack, closed));
+        manager.register("blocks", "1_5", new TestContext(committed, rolledBack, closed));
+        manager.register("blocks", "1_6", new TestContext(committed, rolledBack, closed));
+        manager.register("blocks", "2", new TestContext(committed, rolledBack, closed));
+
+        Assert.assertTrue(manager.notifyCommit("blocks", "1"));
+        Assert.assertEquals(committed.get(), 1);
+        Assert.assertTrue(manager.notifyAbort("blocks", "1_5"));
+        Assert.assertEquals(rolledBack.get(), 2);
+        manager.cleanTransaction("blocks", "1");
+        Assert.assertTrue(manager.notifyCommit("blocks", "1"));
+        Assert.assertTrue(manager.notifyCommit("blocks", "2"));
+        Assert.assertEquals(committed.get(), 2);
+        Assert.assertEquals(closed.get(), 4);
+        manager.cleanTransaction("blocks", "2");
+    }
+
+    @Test
+    void testPrepareFailsAfterParticipantFailure() {
+        manager.register("failure", "1", new TestContext(new AtomicInteger(), null, new AtomicInteger()));
+        manager.notifyResourceFailure("failure");
+        Assert.assertFalse(manager.prepare("failure", "1"));
+        manager.cleanTransaction("failure", "1");
+        Assert.assertTrue(manager.prepare("failure", "1"));
+    }
+
+    private record TestContext(AtomicInteger committed, AtomicInteger rolledBack, AtomicInteger closed)
+            implements BallerinaTransactionContext {
+
+        @Override
+        public void commit() {
+            committed.incrementAndGet();
+        }
+
+        @Override
+        public void rollback() {
+            rolledBack.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+    }
+}
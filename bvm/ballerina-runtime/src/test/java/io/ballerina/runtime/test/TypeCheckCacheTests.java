@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test that cached type check results follow the changes made to types after they are created.
+ *
+ * @since 2201.10.0
+ */
+public class TypeCheckCacheTests {
+
+    private static final Module MODULE = new Module("testorg", "test", "1");
+
+    @Test
+    void testRepeatedChecksAreCached() {
+        BUnionType unionType = new BUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertFalse(TypeChecker.checkIsType(arrayType, unionType));
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertFalse(TypeChecker.checkIsType(arrayType, unionType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    void testUnionMembersSetAfterCheck() {
+        BUnionType unionType = new BUnionType("Union", MODULE, 0, false, 0);
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT});
+        Type sourceType = new BUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, unionType));
+
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING});
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, unionType));
+    }
+
+    @Test
+    void testTupleMembersSetAfterCheck() {
+        TupleType sourceType = TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT));
+        BTupleType targetType = (BTupleType) TypeCreator.createTupleType("Tuple", MODULE, 0, false, false);
+        targetType.setMemberTypes(List.of(PredefinedTypes.TYPE_STRING), null);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+
+        targetType.setMemberTypes(List.of(PredefinedTypes.TYPE_INT), null);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    void testRecordFieldsSetAfterCheck() {
+        RecordType sourceType = createRecordType("Source", PredefinedTypes.TYPE_INT);
+        RecordType targetType = createRecordType("Target", PredefinedTypes.TYPE_STRING);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+
+        targetType.setFields(Map.of("a", TypeCreator.createField(PredefinedTypes.TYPE_INT, "a",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC)));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    void testNestedTypeChangedAfterCheck() {
+        // The union is not one of the checked types, but a change to it still changes the result
+        BUnionType unionType = new BUnionType("Union", MODULE, 0, false, 0);
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_STRING});
+        Type sourceType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createArrayType(unionType);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT});
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    void testUncheckedTypeChangeKeepsCachedResults() {
+        BUnionType unionType = new BUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Type arrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertFalse(TypeChecker.checkIsType(arrayType, unionType));
+
+        // Populating a type that has not been checked yet does not discard the results of other checks
+        BUnionType otherType = new BUnionType("Other", MODULE, 0, false, 0);
+        otherType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_BOOLEAN});
+        long hits = TypeCheckCache.getHitCount();
+        Assert.assertFalse(TypeChecker.checkIsType(arrayType, unionType));
+        Assert.assertEquals(TypeCheckCache.getHitCount(), hits + 1);
+    }
+
+    private static RecordType createRecordType(String name, Type fieldType) {
+        RecordType recordType = TypeCreator.createRecordType(name, MODULE, 0, true, 0);
+        Map<String, Field> fields = Map.of("a", TypeCreator.createField(fieldType, "a",
+                SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        recordType.setFields(fields);
+        return recordType;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypedJsonParser;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test that {@link TypedJsonParser} parses documents into the same values, and fails with the same errors, as
+ * {@link JsonParser}.
+ *
+ * @since 2201.10.0
+ */
+public class TypedJsonParserTests {
+
+    private static final Module MODULE = new Module("testorg", "typed_json_parser", "1");
+    private static final Map<String, RecordType> RECORD_TYPES = new ConcurrentHashMap<>();
+
+    private static final RecordType CLOSED_RECORD = createRecordType("Closed", true,
+            field("a", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED),
+            field("b", PredefinedTypes.TYPE_STRING, SymbolFlags.OPTIONAL));
+    private static final RecordType OPEN_RECORD = createRecordType("Open", false,
+            field("a", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED),
+            field("c", TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT), SymbolFlags.OPTIONAL));
+
+    @BeforeClass
+    public void registerValueCreator() {
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getMajorVersion(), false,
+                new ValueCreator() {
+                    @Override
+                    public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                        return new MapValueImpl<>(RECORD_TYPES.get(recordTypeName));
+                    }
+
+                    @Override
+                    public BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                     Map<String, Object> properties, Object[] args) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public BError createErrorValue(String errorTypeName, BString message, BError cause,
+                                                   Object details) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public Type getAnonType(int typeHash, String typeShape) {
+                        throw new UnsupportedOperationException();
+                    }
+                });
+    }
+
+    @DataProvider
+    public Object[][] documents() {
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type closedIntArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT, 3);
+        Type tuple = TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT),
+                PredefinedTypes.TYPE_STRING, 0, false);
+        Type intMap = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Type union = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        Type json = PredefinedTypes.TYPE_JSON;
+        return new Object[][]{
+                {"{\"a\": 1, \"b\": -2}", intMap},
+                {"{}", intMap},
+                {"[1, 2, 3]", intArray},
+                {"[ ]", intArray},
+                {"[1, 2, 3]", closedIntArray},
+                {"[1, \"a\", \"b\"]", tuple},
+                {"12", PredefinedTypes.TYPE_INT},
+                {"-1.5e3", PredefinedTypes.TYPE_FLOAT},
+                {"0.1", PredefinedTypes.TYPE_DECIMAL},
+                {"1e400", PredefinedTypes.TYPE_FLOAT},
+                {"true", PredefinedTypes.TYPE_BOOLEAN},
+                {"null", json},
+                {"\"a\\u0041\\n\\\"\"", PredefinedTypes.TYPE_STRING},
+                {"{\"a\": [1, {\"b\": null}, 1.5], \"c\": \"x\"}", json},
+                {"\"a\"", union},
+                {"7", union},
+                {"{\"a\": 1}", CLOSED_RECORD},
+                {"{\"b\": \"x\", \"a\": 1}", CLOSED_RECORD},
+                {"{\"a\": 1, \"c\": [1.5, 2], \"d\": {\"e\": true}}", OPEN_RECORD},
+                {"{\"a\": 1, \"a\": 2}", OPEN_RECORD},
+
+                // Errors
+                {"", intArray},
+                {"   ", intArray},
+                {"[1,]", intArray},
+                {"[1, 2", intArray},
+                {"[1, 2,\n 3", intArray},
+                {"[1 2]", intArray},
+                {"[1, 2, 3, 4]", closedIntArray},
+                {"[1, \"a\"]", intArray},
+                {"[1.5]", intArray},
+                {"[1, 2] 3", intArray},
+                {"{\"a\": tru}", TypeCreator.createMapType(PredefinedTypes.TYPE_BOOLEAN)},
+                {"{\"a\" 1}", intMap},
+                {"{\"a\": 1,}", intMap},
+                {"{\"a\": 1", intMap},
+                {"\"abc", PredefinedTypes.TYPE_STRING},
+                {"\"\\x\"", PredefinedTypes.TYPE_STRING},
+                {"nul", json},
+                {"[\"a\", 1]", tuple},
+                {"[]", tuple},
+                {"1.5", union},
+                {"{\"b\": \"x\"}", CLOSED_RECORD},
+                {"{\"a\": 1, \"c\": 2}", CLOSED_RECORD},
+                {"{\"a\": 1, \"b\": 2}", CLOSED_RECORD},
+                {"{\"a\": 1, \"c\": [\"x\"]}", OPEN_RECORD},
+                {"[1]", CLOSED_RECORD},
+                {"{\"a\": 1}", intArray},
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    public void testSameResultAsJsonParser(String document, Type targetType) {
+        assertSameResult(document, targetType, false);
+    }
+
+    @Test(dataProvider = "documents")
+    public void testSameResultWhenSkippingUnknownFields(String document, Type targetType) {
+        // Documents with unknown fields are checked separately
+        String error = getError(() -> JsonParser.parse(document, targetType));
+        if (error == null || !error.contains("cannot be added to the closed record")) {
+            assertSameResult(document, targetType, true);
+        }
+    }
+
+    @Test
+    public void testSkipUnknownFields() {
+        Object value = TypedJsonParser.parse("{\"a\": 1, \"c\": {\"d\": [1, {\"e\": \"}\"}]}, \"b\": \"x\"}",
+                CLOSED_RECORD, true);
+        Assert.assertTrue(TypeChecker.isEqual(value, JsonParser.parse("{\"a\": 1, \"b\": \"x\"}", CLOSED_RECORD)));
+
+        // Syntax errors after an unknown field are reported as JsonParser reports them for json
+        String document = "{\"a\": 1, \"c\": {\"d\": [1,]}, \"b\": \"x\"}";
+        Assert.assertEquals(getError(() -> TypedJsonParser.parse(document, CLOSED_RECORD, true)),
+                getError(() -> JsonParser.parse(document, PredefinedTypes.TYPE_JSON)));
+        Assert.assertEquals(getError(() -> TypedJsonParser.parse("{\"a\": 1, \"c\": 2, \"b\": 3}", CLOSED_RECORD,
+                true)), "value '3' cannot be converted to 'string' at line: 1 column: 23");
+    }
+
+    @Test
+    public void testLargeRecord() {
+        List<Field> fields = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            fields.add(field("f" + i, PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED));
+        }
+        RecordType recordType = createRecordType("Large", true, fields.toArray(new Field[0]));
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(7));
+        StringBuilder document = new StringBuilder("{");
+        for (int i : order) {
+            document.append(document.length() == 1 ? "" : ", ").append("\"f").append(i).append("\": ").append(i);
+        }
+        document.append("}");
+        assertSameResult(document.toString(), recordType, false);
+
+        BMap<?, ?> value = (BMap<?, ?>) TypedJsonParser.parse(document.toString(), recordType, false);
+        Assert.assertEquals(value.size(), 100);
+        // Names that share a hash code with a field name must not match it
+        Assert.assertEquals("f1".hashCode(), "eP".hashCode());
+        assertSameResult("{\"eP\": 1}", recordType, false);
+    }
+
+    @Test
+    public void testFieldsSetAfterParsing() {
+        RecordType recordType = createRecordType("Changing", true,
+                field("a", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED));
+        assertSameResult("{\"a\": 1}", recordType, false);
+        assertSameResult("{\"x\": \"y\"}", recordType, false);
+
+        recordType.setFields(fieldMap(field("x", PredefinedTypes.TYPE_STRING, SymbolFlags.REQUIRED)));
+        assertSameResult("{\"x\": \"y\"}", recordType, false);
+        assertSameResult("{\"a\": 1}", recordType, false);
+        BMap<?, ?> value = (BMap<?, ?>) TypedJsonParser.parse("{\"x\": \"y\"}", recordType, false);
+        Assert.assertEquals(value.get(StringUtils.fromString("x")).toString(), "y");
+    }
+
+    private static void assertSameResult(String document, Type targetType, boolean skipUnknownFields) {
+        String expectedError = getError(() -> JsonParser.parse(document, targetType));
+        String error = getError(() -> TypedJsonParser.parse(document, targetType, skipUnknownFields));
+        Assert.assertEquals(error, expectedError, document);
+        if (expectedError == null) {
+            Object expected = JsonParser.parse(document, targetType);
+            Object value = TypedJsonParser.parse(document, targetType, skipUnknownFields);
+            Assert.assertTrue(TypeChecker.isEqual(value, expected), document);
+            Assert.assertEquals(TypeChecker.getType(value), TypeChecker.getType(expected), document);
+        }
+    }
+
+    private static String getError(Runnable parse) {
+        try {
+            parse.run();
+            return null;
+        } catch (BError e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Field field(String name, Type type, long flags) {
+        return TypeCreator.createField(type, name, flags + SymbolFlags.PUBLIC);
+    }
+
+    private static Map<String, Field> fieldMap(Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return fieldMap;
+    }
+
+    private static RecordType createRecordType(String name, boolean sealed, Field... fields) {
+        RecordType recordType = TypeCreator.createRecordType(name, MODULE, 0, fieldMap(fields),
+                sealed ? null : PredefinedTypes.TYPE_ANYDATA, sealed, 0);
+        RECORD_TYPES.put(name, recordType);
+        return recordType;
+    }
+}
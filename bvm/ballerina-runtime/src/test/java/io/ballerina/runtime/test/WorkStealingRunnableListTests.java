@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.ItemGroup;
+import io.ballerina.runtime.internal.scheduling.WorkStealingRunnableList;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Test the work-stealing runnable list policy of the strand scheduler.
+ *
+ * @since 2201.10.0
+ */
+public class WorkStealingRunnableListTests {
+
+    private static final int GROUP_COUNT = 10;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ExecutorService first;
+    private ExecutorService second;
+
+    @BeforeMethod
+    void createWorkers() {
+        // Each single threaded executor stands in for a scheduler thread, which registers on its first take
+        first = Executors.newSingleThreadExecutor();
+        second = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    void shutdownWorkers() {
+        first.shutdownNow();
+        second.shutdownNow();
+    }
+
+    @Test
+    void testInjectedGroupsAreTakenInOrder() throws Exception {
+        WorkStealingRunnableList list = new WorkStealingRunnableList(2);
+        List<ItemGroup> groups = createGroups();
+        for (ItemGroup group : groups) {
+            list.add(group);
+        }
+        for (ItemGroup group : groups) {
+            Assert.assertSame(take(first, list), group);
+        }
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testOwnGroupsAreTakenInOrder() throws Exception {
+        WorkStealingRunnableList list = new WorkStealingRunnableList(2);
+        list.add(new ItemGroup());
+        take(first, list);
+
+        List<ItemGroup> groups = createGroups();
+        addAll(first, list, groups);
+        for (ItemGroup group : groups) {
+            Assert.assertSame(take(first, list), group);
+        }
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testIdleWorkerStealsFromTheHead() throws Exception {
+        WorkStealingRunnableList list = new WorkStealingRunnableList(2);
+        list.add(new ItemGroup());
+        take(first, list);
+        List<ItemGroup> groups = createGroups();
+        addAll(first, list, groups);
+
+        // The second worker has nothing of its own, so it takes the oldest group of the first one
+        ItemGroup stolen = take(second, list);
+        Assert.assertSame(stolen, groups.get(0));
+        for (int i = 1; i < GROUP_COUNT; i++) {
+            Assert.assertSame(take(first, list), groups.get(i));
+        }
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testGroupReturnsToTheWorkerThatLastRanIt() throws Exception {
+        WorkStealingRunnableList list = new WorkStealingRunnableList(2);
+        list.add(new ItemGroup());
+        take(first, list);
+        ItemGroup group = new ItemGroup();
+        list.add(group);
+        Assert.assertSame(take(second, list), group);
+
+        // Added by the first worker, but the group goes back to the deque of the second, which takes it before
+        // stealing the older groups of the first worker
+        List<ItemGroup> groups = createGroups();
+        addAll(first, list, groups);
+        addAll(first, list, List.of(group));
+        Assert.assertSame(take(second, list), group);
+        Assert.assertSame(take(second, list), groups.get(0));
+    }
+
+    @Test
+    void testParkedWorkerIsWokenByAdd() throws Exception {
+        WorkStealingRunnableList list = new WorkStealingRunnableList(2);
+        list.add(new ItemGroup());
+        take(first, list);
+
+        Future<ItemGroup> parked = second.submit(list::take);
+        try {
+            parked.get(100, TimeUnit.MILLISECONDS);
+            Assert.fail("worker took a group from an empty list");
+        } catch (TimeoutException e) {
+            // Expected, the worker waits for a group
+        }
+        ItemGroup group = new ItemGroup();
+        list.add(group);
+        Assert.assertSame(parked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+    }
+
+    @Test
+    void testConcurrentWorkersTakeEveryGroupOnce() throws Exception {
+        int groupCount = 10_000;
+        WorkStealingRunnableList list = new WorkStealingRunnableList(2);
+        List<ItemGroup> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new ItemGroup());
+        }
+        Future<List<ItemGroup>> firstTaken = first.submit(() -> takeUntilPoisoned(list));
+        Future<List<ItemGroup>> secondTaken = second.submit(() -> takeUntilPoisoned(list));
+        for (ItemGroup group : groups) {
+            list.add(group);
+        }
+        list.add(ItemGroup.POISON_PILL);
+        list.add(ItemGroup.POISON_PILL);
+
+        Set<ItemGroup> taken = new HashSet<>(firstTaken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        for (ItemGroup group : secondTaken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            Assert.assertTrue(taken.add(group), "group taken twice");
+        }
+        Assert.assertEquals(taken, new HashSet<>(groups));
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    private static List<ItemGroup> takeUntilPoisoned(WorkStealingRunnableList list) throws InterruptedException {
+        List<ItemGroup> taken = new ArrayList<>();
+        while (true) {
+            ItemGroup group = list.take();
+            if (group == ItemGroup.POISON_PILL) {
+                return taken;
+            }
+            taken.add(group);
+        }
+    }
+
+    private static List<ItemGroup> createGroups() {
+        List<ItemGroup> groups = new ArrayList<>(GROUP_COUNT);
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            groups.add(new ItemGroup());
+        }
+        return groups;
+    }
+
+    private static ItemGroup take(ExecutorService worker, WorkStealingRunnableList list) throws Exception {
+        return worker.submit(list::take).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void addAll(ExecutorService worker, WorkStealingRunnableList list, List<ItemGroup> groups)
+            throws Exception {
+        worker.submit(() -> groups.forEach(list::add)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
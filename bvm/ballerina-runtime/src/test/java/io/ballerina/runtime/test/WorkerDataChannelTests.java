@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WorkerDataChannel;
+import io.ballerina.runtime.internal.values.ChannelDetails;
+import io.ballerina.runtime.internal.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test worker data channels with the sending and receiving workers running on different strands at the same time.
+ *
+ * @since 2201.10.0
+ */
+public class WorkerDataChannelTests {
+
+    private static final String CHANNEL = "channel";
+    private static final ChannelDetails[] SEND = {new ChannelDetails(CHANNEL, false, true)};
+    private static final ChannelDetails[] RECEIVE = {new ChannelDetails(CHANNEL, false, false)};
+    // The channel queue is made of chunks of 32 messages
+    private static final int[] CHUNK_BOUNDARIES = {1, 31, 32, 33, 63, 64, 65, 97};
+    private static final int ROUNDS = 20;
+    private static final int MESSAGES = 10_000;
+    private static final int SYNC_MESSAGES = 1_000;
+    private static final int MESSAGES_BEFORE_FAILURE = 100;
+
+    @Test
+    void testChunkBoundaries() throws Throwable {
+        Strand strand = new Strand("receiver", null, null, null, null);
+        for (int size : CHUNK_BOUNDARIES) {
+            WorkerDataChannel channel = new WorkerDataChannel(CHANNEL);
+            for (int i = 0; i < size; i++) {
+                channel.sendData((long) i, strand);
+            }
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(channel.tryTakeData(strand), (long) i);
+            }
+        }
+
+        // Let the receiver read a chunk while the sender is writing to a later one
+        WorkerDataChannel channel = new WorkerDataChannel(CHANNEL);
+        long sent = 0;
+        long received = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 40; i++) {
+                channel.sendData(sent++, strand);
+            }
+            for (int i = 0; i < 30; i++) {
+                Assert.assertEquals(channel.tryTakeData(strand), received++);
+            }
+        }
+        while (received < sent) {
+            Assert.assertEquals(channel.tryTakeData(strand), received++);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testAsyncMessagesArriveInOrder(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            Receiver receiver = new Receiver(channel, MESSAGES);
+            Function<Object[], Object> sender = params -> {
+                Strand strand = (Strand) params[0];
+                for (long i = 0; i < MESSAGES; i++) {
+                    channel.sendData(i, strand);
+                }
+                return null;
+            };
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES);
+            Assert.assertNull(receiver.error);
+            Assert.assertNull(receiver.panic);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testSyncAndAsyncMessagesArriveInOrder(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            Receiver receiver = new Receiver(channel, SYNC_MESSAGES);
+            SyncSender sender = new SyncSender(channel, SYNC_MESSAGES);
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, SYNC_MESSAGES);
+            Assert.assertEquals(sender.sent, SYNC_MESSAGES);
+            Assert.assertNull(sender.result);
+            Assert.assertNull(sender.panic);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testFlushWaitsForAllMessages(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            Receiver receiver = new Receiver(channel, MESSAGES);
+            FlushingSender sender = new FlushingSender(channel, MESSAGES, receiver);
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES);
+            Assert.assertTrue(sender.flushed);
+            Assert.assertNull(sender.result);
+            // The receiver counts the last message only after taking it releases the flush
+            Assert.assertTrue(sender.receivedAtFlush >= MESSAGES - 1,
+                    "flush completed after " + sender.receivedAtFlush + " messages were received");
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testSenderErrorReachesReceiver(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            Receiver receiver = new Receiver(channel, Integer.MAX_VALUE);
+            ErrorValue error = createError("sender failed");
+            Function<Object[], Object> sender = params -> {
+                Strand strand = (Strand) params[0];
+                for (long i = 0; i < MESSAGES_BEFORE_FAILURE; i++) {
+                    channel.sendData(i, strand);
+                }
+                strand.handleChannelError(SEND, error);
+                return null;
+            };
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES_BEFORE_FAILURE);
+            Assert.assertSame(receiver.error, error);
+            Assert.assertNull(receiver.panic);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testSenderPanicReachesReceiver(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            Receiver receiver = new Receiver(channel, Integer.MAX_VALUE);
+            ErrorValue error = createError("sender panicked");
+            Function<Object[], Object> sender = params -> {
+                Strand strand = (Strand) params[0];
+                // The scheduler passes the panic on to the channels the strand uses
+                strand.updateChannelDetails(SEND);
+                for (long i = 0; i < MESSAGES_BEFORE_FAILURE; i++) {
+                    channel.sendData(i, strand);
+                }
+                throw error;
+            };
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES_BEFORE_FAILURE);
+            Assert.assertNull(receiver.error);
+            Assert.assertSame(receiver.panic, error);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testReceiverErrorReachesSyncSender(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            ErrorValue error = createError("receiver failed");
+            Receiver receiver = new Receiver(channel, MESSAGES_BEFORE_FAILURE, error, null);
+            SyncSender sender = new SyncSender(channel, Integer.MAX_VALUE);
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES_BEFORE_FAILURE);
+            // Every other message is sent synchronously, so the message after the next async one fails
+            Assert.assertEquals(sender.sent, MESSAGES_BEFORE_FAILURE + 1);
+            Assert.assertSame(sender.result, error);
+            Assert.assertNull(sender.panic);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testReceiverErrorReachesFlush(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            ErrorValue error = createError("receiver failed");
+            Receiver receiver = new Receiver(channel, MESSAGES_BEFORE_FAILURE, error, null);
+            FlushingSender sender = new FlushingSender(channel, MESSAGES, receiver);
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES_BEFORE_FAILURE);
+            Assert.assertTrue(sender.flushed);
+            Assert.assertSame(sender.result, error);
+            Assert.assertNull(sender.panic);
+        }
+    }
+
+    @Test(dataProvider = "backends", dataProviderClass = SchedulerTests.class, timeOut = 60_000)
+    void testReceiverPanicReachesFlush(ThreadFactory threadFactory) {
+        for (int round = 0; round < ROUNDS; round++) {
+            Scheduler scheduler = new Scheduler(4, false, threadFactory);
+            Strand parent = new Strand("parent", null, scheduler, null, null);
+            WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL);
+            ErrorValue panic = createError("receiver panicked");
+            Receiver receiver = new Receiver(channel, MESSAGES_BEFORE_FAILURE, null, panic);
+            FlushingSender sender = new FlushingSender(channel, MESSAGES, receiver);
+            scheduler.schedule(new Object[1], receiver, parent, null, "receiver", null);
+            scheduler.schedule(new Object[1], sender, parent, null, "sender", null);
+            scheduler.start();
+
+            assertReceivedInOrder(receiver, MESSAGES_BEFORE_FAILURE);
+            Assert.assertFalse(sender.flushed);
+            Assert.assertSame(sender.panic, panic);
+        }
+    }
+
+    private static ErrorValue createError(String message) {
+        return (ErrorValue) ErrorCreator.createError(StringUtils.fromString(message));
+    }
+
+    private static void assertReceivedInOrder(Receiver receiver, int count) {
+        Assert.assertEquals(receiver.received.size(), count);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(receiver.received.get(i), (long) i);
+        }
+    }
+
+    /**
+     * A receiving worker. The scheduler runs the function again when a blocked receive is resumed, so it continues
+     * from the messages it has already received.
+     */
+    private static class Receiver implements Function<Object[], Object> {
+
+        private final WorkerDataChannel channel;
+        private final int count;
+        private final ErrorValue errorAfterCount;
+        private final ErrorValue panicAfterCount;
+        final List<Object> received = new ArrayList<>();
+        final AtomicInteger receivedCount = new AtomicInteger();
+        ErrorValue error;
+        Throwable panic;
+
+        Receiver(WorkerDataChannel channel, int count) {
+            this(channel, count, null, null);
+        }
+
+        Receiver(WorkerDataChannel channel, int count, ErrorValue errorAfterCount, ErrorValue panicAfterCount) {
+            this.channel = channel;
+            this.count = count;
+            this.errorAfterCount = errorAfterCount;
+            this.panicAfterCount = panicAfterCount;
+        }
+
+        @Override
+        public Object apply(Object[] params) {
+            Strand strand = (Strand) params[0];
+            if (panicAfterCount != null) {
+                strand.updateChannelDetails(RECEIVE);
+            }
+            while (received.size() < count) {
+                Object result;
+                try {
+                    result = channel.tryTakeData(strand);
+                } catch (Throwable t) {
+                    panic = t;
+                    return null;
+                }
+                if (strand.isYielded()) {
+                    return null;
+                }
+                if (result instanceof BError) {
+                    error = (ErrorValue) result;
+                    return null;
+                }
+                received.add(result);
+                receivedCount.incrementAndGet();
+            }
+            if (errorAfterCount != null) {
+                strand.handleChannelError(RECEIVE, errorAfterCount);
+            } else if (panicAfterCount != null) {
+                throw panicAfterCount;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A sending worker that sends every other message synchronously, until the receiver fails. A sync send is
+     * completed by calling it again once the strand is resumed.
+     */
+    private static class SyncSender implements Function<Object[], Object> {
+
+        private final WorkerDataChannel channel;
+        private final int count;
+        private long next;
+        int sent;
+        Object result;
+        Throwable panic;
+
+        SyncSender(WorkerDataChannel channel, int count) {
+            this.channel = channel;
+            this.count = count;
+        }
+
+        @Override
+        public Object apply(Object[] params) {
+            Strand strand = (Strand) params[0];
+            try {
+                while (sent < count) {
+                    if (next % 2 == 0) {
+                        channel.sendData(next++, strand);
+                        sent++;
+                        continue;
+                    }
+                    Object result = channel.syncSendData(next, strand);
+                    if (strand.isYielded()) {
+                        return null;
+                    }
+                    if (result != null) {
+                        this.result = result;
+                        return null;
+                    }
+                    next++;
+                    sent++;
+                }
+            } catch (Throwable t) {
+                panic = t;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A sending worker that sends its messages asynchronously and then flushes the channel.
+     */
+    private static class FlushingSender implements Function<Object[], Object> {
+
+        private final WorkerDataChannel channel;
+        private final int count;
+        private final Receiver receiver;
+        private long sent;
+        boolean flushed;
+        int receivedAtFlush;
+        ErrorValue result;
+        Throwable panic;
+
+        FlushingSender(WorkerDataChannel channel, int count, Receiver receiver) {
+            this.channel = channel;
+            this.count = count;
+            this.receiver = receiver;
+        }
+
+        @Override
+        public Object apply(Object[] params) {
+            Strand strand = (Strand) params[0];
+            while (sent < count) {
+                channel.sendData(sent++, strand);
+            }
+            try {
+                ErrorValue result = strand.handleFlush(SEND);
+                if (strand.isYielded()) {
+                    return null;
+                }
+                receivedAtFlush = receiver.receivedCount.get();
+                this.result = result;
+                flushed = true;
+            } catch (Throwable t) {
+                panic = t;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.XmlTreeBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Test xml documents parsed one child of the root element at a time.
+ *
+ * @since 2201.10.0
+ */
+public class XmlValueTests {
+
+    private static final int ITEM_COUNT = 20000;
+
+    @Test
+    void testChildrenMatchParsedDocument() {
+        String document = "<!-- feed --><ns:feed xmlns:ns=\"http://example.com\" id=\"1\"><ns:item>a</ns:item>" +
+                "text<?target data?><ns:item><b>c</b><!-- d --></ns:item></ns:feed>";
+        BXml children = XmlUtils.parse(document).getItem(1).children();
+        XmlTreeBuilder parser = new XmlTreeBuilder(document);
+        for (int i = 0; i < children.size(); i++) {
+            Assert.assertTrue(TypeChecker.isEqual(parser.parseNextChild(), children.getItem(i)));
+        }
+        Assert.assertNull(parser.parseNextChild());
+    }
+
+    @Test
+    void testChildrenParsedAsRead() {
+        CountingReader reader = new CountingReader(createFeed());
+        XmlTreeBuilder parser = new XmlTreeBuilder(reader);
+        Assert.assertEquals(parser.parseNextChild().getTextValue(), "value 0");
+        Assert.assertTrue(reader.count < reader.length / 2);
+
+        int count = 1;
+        BXml child;
+        while ((child = parser.parseNextChild()) != null) {
+            Assert.assertEquals(child.getTextValue(), "value " + count);
+            count++;
+        }
+        Assert.assertEquals(count, ITEM_COUNT);
+        Assert.assertTrue(reader.closed);
+    }
+
+    @Test
+    void testCloseStopsParsing() {
+        CountingReader reader = new CountingReader(createFeed());
+        XmlTreeBuilder parser = new XmlTreeBuilder(reader);
+        Assert.assertNotNull(parser.parseNextChild());
+        parser.close();
+        Assert.assertTrue(reader.closed);
+        Assert.assertNull(parser.parseNextChild());
+    }
+
+    @Test
+    void testParseErrorOnNextChild() {
+        CountingReader reader = new CountingReader("<root><a/><b></root>");
+        XmlTreeBuilder parser = new XmlTreeBuilder(reader);
+        Assert.assertEquals(parser.parseNextChild().getElementName(), "a");
+        try {
+            parser.parseNextChild();
+            Assert.fail("expected a parse error");
+        } catch (BError e) {
+            Assert.assertTrue(e.getMessage().startsWith("failed to parse xml: "), e.getMessage());
+        }
+        Assert.assertTrue(reader.closed);
+        Assert.assertNull(parser.parseNextChild());
+    }
+
+    @Test
+    void testParseErrorAfterRootElement() {
+        XmlTreeBuilder parser = new XmlTreeBuilder("<root><a/></root><b/>");
+        Assert.assertEquals(parser.parseNextChild().getElementName(), "a");
+        // The document is read to its end before the last child is reported
+        Assert.assertThrows(BError.class, parser::parseNextChild);
+    }
+
+    @Test
+    void testChildrenStreamedFromReader() {
+        CountingReader reader = new CountingReader(createFeed());
+        Iterator<BXml> children = XmlUtils.parseChildren(reader).iterator();
+        Assert.assertEquals(children.next().getTextValue(), "value 0");
+        Assert.assertTrue(reader.count < reader.length / 2);
+
+        int count = 1;
+        while (children.hasNext()) {
+            Assert.assertEquals(children.next().getTextValue(), "value " + count);
+            count++;
+        }
+        Assert.assertEquals(count, ITEM_COUNT);
+        Assert.assertTrue(reader.closed);
+    }
+
+    @Test
+    void testClosingStreamClosesReader() {
+        CountingReader reader = new CountingReader(createFeed());
+        try (Stream<BXml> children = XmlUtils.parseChildren(reader)) {
+            Assert.assertEquals(children.limit(2).count(), 2);
+            Assert.assertFalse(reader.closed);
+        }
+        Assert.assertTrue(reader.closed);
+    }
+
+    @Test
+    void testParseErrorOnStreamedChild() {
+        CountingReader reader = new CountingReader("<root><a/><b></root>");
+        Iterator<BXml> children = XmlUtils.parseChildren(reader).iterator();
+        Assert.assertEquals(children.next().getElementName(), "a");
+        Assert.assertThrows(BError.class, children::hasNext);
+        Assert.assertTrue(reader.closed);
+    }
+
+    private static String createFeed() {
+        StringBuilder feed = new StringBuilder("<feed>");
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            feed.append("<item id=\"").append(i).append("\">value ").append(i).append("</item>");
+        }
+        return feed.append("</feed>").toString();
+    }
+
+    private static class CountingReader extends Reader {
+
+        private final Reader reader;
+        private final int length;
+        private long count = 0;
+        private boolean closed = false;
+
+        CountingReader(String str) {
+            this.reader = new StringReader(str);
+            this.length = str.length();
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = reader.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            reader.close();
+        }
+    }
+}
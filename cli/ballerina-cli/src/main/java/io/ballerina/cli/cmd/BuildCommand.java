@@ -162,6 +162,10 @@ public class BuildCommand implements BLauncherCmd {
             "the executable JAR file(s).")
     private Boolean remoteManagement;
 
+    @CommandLine.Option(names = "--parallel-queries", description = "evaluate queries with isolated clauses over " +
+            "large lists and tables in parallel")
+    private Boolean parallelQueries;
+
     @CommandLine.Option(names = "--list-conflicted-classes",
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
@@ -303,6 +307,7 @@ public class BuildCommand implements BLauncherCmd {
                 .setObservabilityIncluded(observabilityIncluded)
                 .setCloud(cloud)
                 .setRemoteManagement(remoteManagement)
+                .setParallelQueries(parallelQueries)
                 .setDumpBir(dumpBIR)
                 .setDumpBirFile(dumpBIRFile)
                 .setDumpGraph(dumpGraph)
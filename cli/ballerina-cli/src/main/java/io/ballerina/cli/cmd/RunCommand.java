@@ -95,6 +95,10 @@ public class RunCommand implements BLauncherCmd {
             "executable when run is used with a source file or a module.")
     private Boolean remoteManagement;
 
+    @CommandLine.Option(names = "--parallel-queries", description = "evaluate queries with isolated clauses over " +
+            "large lists and tables in parallel")
+    private Boolean parallelQueries;
+
     @CommandLine.Option(names = "--sticky", description = "stick to exact versions locked (if exists)")
     private Boolean sticky;
 
@@ -305,6 +309,7 @@ public class RunCommand implements BLauncherCmd {
                 .setTestReport(false)
                 .setObservabilityIncluded(observabilityIncluded)
                 .setRemoteManagement(remoteManagement)
+                .setParallelQueries(parallelQueries)
                 .setSticky(sticky)
                 .setDumpGraph(dumpGraph)
                 .setDumpRawGraphs(dumpRawGraphs)
@@ -42,4 +42,51 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the hash of the inputs the cached BIR and platform libraries of the given module were generated from.
+     *
+     * @param moduleName module name
+     * @return hash of the inputs of the module, or empty if the cache does not record it
+     */
+    public Optional<String> getInputHash(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the hash of the inputs the cached BIR and platform libraries of the given module were generated from.
+     *
+     * @param moduleName module name
+     * @param inputHash  hash of the inputs of the module
+     */
+    public void cacheInputHash(ModuleName moduleName, String inputHash) {
+    }
+
+    /**
+     * Returns the hash of the inputs the cached test platform library of the given module was generated from.
+     *
+     * @param moduleName module name
+     * @return hash of the test inputs of the module, or empty if the cache does not record it
+     */
+    public Optional<String> getTestInputHash(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the hash of the inputs the cached test platform library of the given module was generated from.
+     *
+     * @param moduleName    module name
+     * @param testInputHash hash of the test inputs of the module
+     */
+    public void cacheTestInputHash(ModuleName moduleName, String testInputHash) {
+    }
+
+    /**
+     * Removes the recorded hashes of the inputs and the test inputs of the given module, as its cached BIR and
+     * platform libraries are about to be replaced.
+     *
+     * @param moduleName module name
+     */
+    public void removeInputHash(ModuleName moduleName) {
+    }
 }
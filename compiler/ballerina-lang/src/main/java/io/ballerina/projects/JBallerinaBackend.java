@@ -69,6 +69,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -95,6 +99,13 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_NAME_SUFFIX = "";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
+    // Writes the jars of the modules while the code of the modules that follow is generated.
+    private static final ExecutorService JAR_WRITER = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "ballerina-jar-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -108,6 +119,10 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    // Jars of the modules generated so far, which are written while the code of the next modules is generated.
+    private final List<CompletableFuture<Void>> pendingJarWrites = new ArrayList<>();
+    // Whether the jars are awaited once the code of all the modules is generated, instead of by each module
+    private boolean deferJarWrites = false;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         return from(packageCompilation, jdkVersion, true);
@@ -158,6 +173,27 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        deferJarWrites = true;
+        try {
+            generateModules(shrink, moduleDiagnostics);
+        } finally {
+            deferJarWrites = false;
+        }
+        awaitJarWrites();
+        // The inputs of the modules are recorded only once their jars are written
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            moduleContext.cacheInputHash();
+        }
+        // add compilation diagnostics
+        diagnostics.addAll(moduleDiagnostics);
+        // add plugin diagnostics
+        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+
+        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        codeGenCompleted = true;
+    }
+
+    private void generateModules(boolean shrink, List<Diagnostic> moduleDiagnostics) {
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
                 if (packageCompilation.diagnosticResult().hasErrors()) {
@@ -188,13 +224,6 @@ public class JBallerinaBackend extends CompilerBackend {
                 moduleContext.cleanBLangPackage();
             }
         }
-        // add compilation diagnostics
-        diagnostics.addAll(moduleDiagnostics);
-        // add plugin diagnostics
-        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
-
-        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
-        codeGenCompleted = true;
     }
 
     private boolean hasErrors(List<Diagnostic> diagnostics) {
@@ -358,6 +387,15 @@ public class JBallerinaBackend extends CompilerBackend {
     // TODO This method should be moved to some other class owned by the JBallerinaBackend
     @Override
     public void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache) {
+        generateJars(moduleContext, compilationCache);
+        // Outside the code generation of the whole package, the jars are written before returning, so that a failed
+        // write is reported to the caller
+        if (!deferJarWrites) {
+            awaitJarWrites();
+        }
+    }
+
+    private void generateJars(ModuleContext moduleContext, CompilationCache compilationCache) {
         BLangPackage bLangPackage = moduleContext.bLangPackage();
         interopValidator.validate(moduleContext.moduleId(), this, bLangPackage);
         if (bLangPackage.getErrorCount() > 0) {
@@ -369,12 +407,8 @@ public class JBallerinaBackend extends CompilerBackend {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        writeJarAsync(compiledJarFile, getResources(moduleContext), compilationCache, jarFileName,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName());
         // skip generation of the test jar if --with-tests option is not provided
         if (moduleContext.project().buildOptions().skipTests()) {
             return;
@@ -387,11 +421,38 @@ public class JBallerinaBackend extends CompilerBackend {
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0),
                 isRemoteMgtEnabled);
+        writeJarAsync(compiledTestJarFile, getAllResources(moduleContext), compilationCache, testJarFileName,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName());
+    }
+
+    /**
+     * Writes and caches the jar of a module in the jar writer pool. Compressing the jar does not depend on the
+     * compiler state, so it runs alongside the code generation of the modules that follow.
+     */
+    private void writeJarAsync(CompiledJarFile compiledJarFile, Map<String, byte[]> resources,
+                               CompilationCache compilationCache, String jarFileName, String errorMessage) {
+        pendingJarWrites.add(CompletableFuture.runAsync(() -> {
+            try {
+                ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, resources);
+                synchronized (compilationCache) {
+                    compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
+                }
+            } catch (IOException e) {
+                throw new ProjectException(errorMessage);
+            }
+        }, JAR_WRITER));
+    }
+
+    private void awaitJarWrites() {
+        CompletableFuture<Void> jarWrites = CompletableFuture.allOf(pendingJarWrites.toArray(new CompletableFuture[0]));
+        pendingJarWrites.clear();
         try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+            jarWrites.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
         }
     }
 
@@ -41,12 +41,19 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -83,6 +90,11 @@ class ModuleContext {
     private final List<ModuleDescriptor> moduleDescDependencies;
 
     private Set<ModuleDependency> moduleDependencies;
+    private List<ModuleContext> dependencyModuleContexts = Collections.emptyList();
+    private String sourceHash;
+    private String testSourceHash;
+    private String inputHash;
+    private String birHash;
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
@@ -297,10 +309,21 @@ class ModuleContext {
         }
 
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
+        if (isInputHashCached()) {
+            // The cached BIR and jar of a module of the project are used only if they were generated from the same
+            // inputs. The inputs are hashed here, before the documents are shrunk during code generation, and before
+            // the dependencies of other packages compiled from sources cache their BIR.
+            inputHash();
+            testSourceHash();
+            if (isCacheUpToDate()) {
+                moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
+            } else {
+                compilationCache.removeInputHash(moduleDescriptor.name());
+                moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
+            }
+        } else if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
-        } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+        } else if (this.project().kind() == ProjectKind.BUILD_PROJECT) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
@@ -308,18 +331,170 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    private boolean isCacheUpToDate() {
+        ModuleName moduleName = moduleDescriptor.name();
+        if (compilationCache.getBir(moduleName).length == 0
+                || !compilationCache.getInputHash(moduleName).map(inputHash()::equals).orElse(false)) {
+            return false;
+        }
+        // The test jar is needed only if the tests are built
+        return project.buildOptions().skipTests()
+                || compilationCache.getTestInputHash(moduleName).map(testInputHash()::equals).orElse(false);
+    }
+
+    private boolean isInputHashCached() {
+        return this.project.kind() == ProjectKind.BUILD_PROJECT && this.project.buildOptions().enableCache();
+    }
+
+    /**
+     * Caches the hash of the inputs of this module once its BIR and jar are cached, so that they are used by the next
+     * build only if none of the inputs change. The hash of the test inputs is cached only if the test jar was
+     * generated, so that a build with tests satisfies a later build without them, but not the other way around.
+     */
+    void cacheInputHash() {
+        if (!isInputHashCached() || moduleCompState != ModuleCompilationState.PLATFORM_LIBRARY_GENERATED
+                || Diagnostics.hasErrors(diagnostics())) {
+            return;
+        }
+        compilationCache.cacheInputHash(moduleDescriptor.name(), inputHash());
+        if (!project.buildOptions().skipTests()) {
+            compilationCache.cacheTestInputHash(moduleDescriptor.name(), testInputHash());
+        }
+    }
+
+    /**
+     * Returns the hash of everything the compiled module depends on: the compiler version, the options that change the
+     * generated code, the documents and resources of the module, and the inputs of the modules it imports. The test
+     * documents and resources are not included, see {@link #testInputHash()}.
+     *
+     * @return SHA-256 hash of the inputs of the module
+     */
+    String inputHash() {
+        // Computed once per build, as the modules of the project that import this module include it in their hashes
+        if (inputHash != null) {
+            return inputHash;
+        }
+
+        MessageDigest digest = newDigest();
+        updateDigest(digest, sourceHash());
+        List<String> dependencyHashes = new ArrayList<>();
+        for (ModuleContext dependency : dependencyModuleContexts) {
+            dependencyHashes.add(dependency.project() == project ? dependency.inputHash() : dependency.packageHash());
+        }
+        Collections.sort(dependencyHashes);
+        for (String dependencyHash : dependencyHashes) {
+            updateDigest(digest, dependencyHash);
+        }
+        inputHash = HexFormat.of().formatHex(digest.digest());
+        return inputHash;
+    }
+
+    /**
+     * Returns the hash of the inputs of the test jar of the module: the inputs of the module, and its test documents
+     * and resources.
+     *
+     * @return SHA-256 hash of the test inputs of the module
+     */
+    private String testInputHash() {
+        MessageDigest digest = newDigest();
+        updateDigest(digest, inputHash());
+        updateDigest(digest, testSourceHash());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String sourceHash() {
+        // Computed once, as the documents are shrunk during code generation
+        if (sourceHash != null) {
+            return sourceHash;
+        }
+
+        MessageDigest digest = newDigest();
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, moduleDescriptor.org().toString());
+        updateDigest(digest, moduleDescriptor.packageName().toString());
+        updateDigest(digest, moduleDescriptor.version().toString());
+        updateDigest(digest, moduleDescriptor.name().toString());
+        BuildOptions buildOptions = project.buildOptions();
+        updateDigest(digest, String.valueOf(buildOptions.observabilityIncluded()));
+        updateDigest(digest, String.valueOf(buildOptions.remoteManagement()));
+        updateDigest(digest, String.valueOf(buildOptions.parallelQueries()));
+        updateDocumentsDigest(digest, srcDocContextMap, resourceContextMap);
+        sourceHash = HexFormat.of().formatHex(digest.digest());
+        return sourceHash;
+    }
+
+    private String testSourceHash() {
+        // Computed once, as the documents are shrunk during code generation
+        if (testSourceHash != null) {
+            return testSourceHash;
+        }
+
+        MessageDigest digest = newDigest();
+        updateDocumentsDigest(digest, testDocContextMap, testResourceContextMap);
+        testSourceHash = HexFormat.of().formatHex(digest.digest());
+        return testSourceHash;
+    }
+
+    private static void updateDocumentsDigest(MessageDigest digest, Map<DocumentId, DocumentContext> docContextMap,
+                                              Map<DocumentId, ResourceContext> resContextMap) {
+        List<DocumentContext> docContexts = new ArrayList<>(docContextMap.values());
+        docContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext docContext : docContexts) {
+            updateDigest(digest, docContext.name());
+            updateDigest(digest, docContext.textDocument().toString());
+        }
+        List<ResourceContext> resContexts = new ArrayList<>(resContextMap.values());
+        resContexts.sort(Comparator.comparing(ResourceContext::name));
+        for (ResourceContext resContext : resContexts) {
+            updateDigest(digest, resContext.name());
+            digest.update(resContext.content());
+            digest.update((byte) 0);
+        }
+    }
+
+    /**
+     * Returns the hash the modules of other packages record for this module. A module loaded from its cached BIR is
+     * hashed by the BIR, which may change without a version bump. A module compiled from its sources in this build is
+     * hashed by its inputs, as its BIR is generated only after the modules importing it are compiled.
+     *
+     * @return SHA-256 hash of the module as a dependency of other packages
+     */
+    private String packageHash() {
+        if (birBytes.length == 0) {
+            return inputHash();
+        }
+        if (birHash == null) {
+            birHash = HexFormat.of().formatHex(newDigest().digest(birBytes));
+        }
+        return birHash;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
 
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
+        List<ModuleContext> dependencyModuleContexts = new ArrayList<>();
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
             for (ModuleDescriptor dependencyModDesc : moduleDescDependencies) {
                 // Dependencies loaded from cache should not contain test dependencies
                 addModuleDependency(dependencyModDesc.org(), dependencyModDesc.packageName(),
                         dependencyModDesc.name(), PackageDependencyScope.DEFAULT,
-                        moduleDependencies, dependencyResolution);
+                        moduleDependencies, dependencyModuleContexts, dependencyResolution);
             }
         } else {
             Set<ModuleLoadRequest> moduleLoadRequests = new OverwritableLinkedHashSet();
@@ -338,17 +513,20 @@ class ModuleContext {
                 }
 
                 addModuleDependency(packageOrg, modLoadRequest.moduleName(),
-                        modLoadRequest.scope(), moduleDependencies, dependencyResolution);
+                        modLoadRequest.scope(), moduleDependencies, dependencyModuleContexts, dependencyResolution);
             }
         }
 
         this.moduleDependencies = Collections.unmodifiableSet(moduleDependencies);
+        this.dependencyModuleContexts = dependencyModuleContexts;
+        this.inputHash = null;
     }
 
     private void addModuleDependency(PackageOrg org,
                                      String moduleName,
                                      PackageDependencyScope scope,
                                      Set<ModuleDependency> moduleDependencies,
+                                     List<ModuleContext> dependencyModuleContexts,
                                      DependencyResolution dependencyResolution) {
         Optional<ModuleContext> resolvedModuleOptional = dependencyResolution.getModule(org, moduleName);
         if (resolvedModuleOptional.isEmpty()) {
@@ -359,6 +537,7 @@ class ModuleContext {
         ModuleDependency moduleDependency = new ModuleDependency(
                 new PackageDependency(resolvedModule.moduleId().packageId(), scope), resolvedModule.descriptor());
         moduleDependencies.add(moduleDependency);
+        dependencyModuleContexts.add(resolvedModule);
     }
 
     private void addModuleDependency(PackageOrg org,
@@ -366,6 +545,7 @@ class ModuleContext {
                                      ModuleName moduleName,
                                      PackageDependencyScope scope,
                                      Set<ModuleDependency> moduleDependencies,
+                                     List<ModuleContext> dependencyModuleContexts,
                                      DependencyResolution dependencyResolution) {
         Optional<Module> resolvedModuleOptional = dependencyResolution.getModule(org, packageName, moduleName);
         if (resolvedModuleOptional.isEmpty()) {
@@ -377,6 +557,7 @@ class ModuleContext {
                 new PackageDependency(resolvedModule.packageInstance().packageId(), scope),
                 resolvedModule.descriptor());
         moduleDependencies.add(moduleDependency);
+        dependencyModuleContexts.add(resolvedModule.moduleContext());
     }
 
     void compile(CompilerContext compilerContext) {
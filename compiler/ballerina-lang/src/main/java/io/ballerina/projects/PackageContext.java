@@ -239,6 +239,7 @@ class PackageContext {
                 .setConfigSchemaGen(this.compilationOptions.configSchemaGen())
                 .setEnableCache(this.compilationOptions.enableCache())
                 .setRemoteManagement(this.compilationOptions.remoteManagement())
+                .setParallelQueries(this.compilationOptions.parallelQueries())
                 .build();
         CompilationOptions mergedOptions = options.acceptTheirs(compilationOptions);
         return PackageCompilation.from(this, mergedOptions);
@@ -24,9 +24,13 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
 
 import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
 
@@ -38,6 +42,8 @@ import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
 public class BuildProjectCompilationCache extends FileSystemCache {
     private Path birPath;
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final String INPUT_HASH_FILE_EXT = ".hash";
+    private static final String TEST_INPUT_HASH_FILE_EXT = ".test.hash";
 
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
         super(project, cacheDirPath.resolve(CACHES_DIR_NAME));
@@ -62,6 +68,74 @@ public class BuildProjectCompilationCache extends FileSystemCache {
         return new byte[0];
     }
 
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        // Unlike the BIR of a dependency, the BIR of a module of the project is replaced when it is compiled again.
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            Files.createDirectories(birFilePath.getParent());
+            Path tempBirFilePath = birFilePath.resolveSibling(moduleName + ".tmp");
+            Files.write(tempBirFilePath, birContent.toByteArray());
+            Files.move(tempBirFilePath, birFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<String> getInputHash(ModuleName moduleName) {
+        return readInputHash(getInputHashFilePath(moduleName, INPUT_HASH_FILE_EXT));
+    }
+
+    @Override
+    public void cacheInputHash(ModuleName moduleName, String inputHash) {
+        writeInputHash(moduleName, getInputHashFilePath(moduleName, INPUT_HASH_FILE_EXT), inputHash);
+    }
+
+    @Override
+    public Optional<String> getTestInputHash(ModuleName moduleName) {
+        return readInputHash(getInputHashFilePath(moduleName, TEST_INPUT_HASH_FILE_EXT));
+    }
+
+    @Override
+    public void cacheTestInputHash(ModuleName moduleName, String testInputHash) {
+        writeInputHash(moduleName, getInputHashFilePath(moduleName, TEST_INPUT_HASH_FILE_EXT), testInputHash);
+    }
+
+    @Override
+    public void removeInputHash(ModuleName moduleName) {
+        try {
+            Files.deleteIfExists(getInputHashFilePath(moduleName, INPUT_HASH_FILE_EXT));
+            Files.deleteIfExists(getInputHashFilePath(moduleName, TEST_INPUT_HASH_FILE_EXT));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to remove the input hash of module: " + moduleName, e);
+        }
+    }
+
+    private static Optional<String> readInputHash(Path inputHashFilePath) {
+        if (!Files.exists(inputHashFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(inputHashFilePath, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // The module is compiled again if the hash cannot be read
+            return Optional.empty();
+        }
+    }
+
+    private static void writeInputHash(ModuleName moduleName, Path inputHashFilePath, String inputHash) {
+        try {
+            Files.writeString(inputHashFilePath, inputHash, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the input hash of module: " + moduleName, e);
+        }
+    }
+
+    private Path getInputHashFilePath(ModuleName moduleName, String fileExtension) {
+        return getBirPath().resolve(moduleName.toString() + fileExtension);
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -191,6 +191,7 @@ public class JvmConstants {
     public static final String BAL_ENV = "io/ballerina/runtime/api/Environment";
     public static final String TYPE_CONVERTER = "io/ballerina/runtime/internal/TypeConverter";
     public static final String FUNCTION_FRAME = "io/ballerina/runtime/internal/scheduling/FunctionFrame";
+    public static final String FRAME_STACK = "io/ballerina/runtime/internal/scheduling/FrameStack";
     public static final String VALUE_CREATOR = "io/ballerina/runtime/internal/values/ValueCreator";
     public static final String XML_FACTORY = "io/ballerina/runtime/internal/XmlFactory";
     public static final String XML_SEQUENCE = "io/ballerina/runtime/internal/values/XmlSequence";
@@ -224,13 +225,13 @@ public class JvmConstants {
     public static final String LINKED_HASH_MAP = "java/util/LinkedHashMap";
     public static final String ARRAY_LIST = "java/util/ArrayList";
     public static final String LIST = "java/util/List";
-    public static final String STACK = "java/util/Stack";
     public static final String SET = "java/util/Set";
     public static final String LINKED_HASH_SET = "java/util/LinkedHashSet";
     public static final String STRING_BUILDER = "java/lang/StringBuilder";
     public static final String FUNCTION = "java/util/function/Function";
     public static final String LONG_STREAM = "java/util/stream/LongStream";
     public static final String JAVA_THREAD = "java/lang/Thread";
+    public static final String JAVA_CLASS = "java/lang/Class";
     public static final String JAVA_RUNTIME = "java/lang/Runtime";
     public static final String MAP_ENTRY = "java/util/Map$Entry";
     public static final String MAP_SIMPLE_ENTRY = "java/util/AbstractMap$SimpleEntry";
@@ -366,6 +367,7 @@ public class JvmConstants {
     public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
+    public static final String LOCK_VAR_NAME_PREFIX = "$LOCK_";
     public static final String RECORD_INIT_WRAPPER_NAME = "$init";
     public static final String RUNTIME_REGISTRY_VARIABLE = "$runtimeRegistry";
     public static final String CONFIGURE_INIT = "$configureInit";
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.desugar;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.NodeKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BSequenceType;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangNode;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangGroupByClause;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangArrowFunction;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangQueryAction;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangQueryExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the non grouping variables of a group by clause that the clauses after it use only as the argument of calls
+ * to one of the <code>sum</code>, <code>max</code>, <code>min</code> and <code>count</code> lang library functions, so
+ * that their values can be folded into the aggregation as they are grouped, instead of being kept in a sequence.
+ * <p>
+ * Only calls in where, let, order by and select clauses of the same query, outside any function or nested query,
+ * are considered. Variables of a group by clause that is followed by another group by or collect clause are not
+ * folded.
+ *
+ * @since 2201.10.0
+ */
+class GroupByAggregationAnalyzer extends SimpleBLangNodeAnalyzer<Void> {
+
+    private static final String NOT_FOLDED = "";
+
+    // Sequence symbol of each non grouping variable, and the aggregation it is folded into
+    private final Map<BSymbol, String> sequenceSymbols = new HashMap<>();
+    private final Map<BSymbol, String> aggregations = new HashMap<>();
+    private final Map<BSymbol, List<BLangInvocation>> invocations = new HashMap<>();
+    // Variable references that are the argument of a call that can be folded
+    private final Set<BLangSimpleVarRef> aggregatedRefs = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean aggregationsAllowed;
+    private int functionDepth;
+
+    GroupByAggregationAnalyzer(BLangGroupByClause groupByClause, List<BLangNode> followingClauses) {
+        for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
+            BSymbol symbol = groupByClause.env.scope.lookup(new Name(nonGroupingKey)).symbol;
+            if (symbol != null && symbol.type.tag == TypeTags.SEQUENCE) {
+                sequenceSymbols.put(symbol, nonGroupingKey);
+            }
+        }
+        for (BLangNode clause : followingClauses) {
+            NodeKind kind = clause.getKind();
+            if (kind == NodeKind.GROUP_BY || kind == NodeKind.COLLECT) {
+                sequenceSymbols.clear();
+                return;
+            }
+            aggregationsAllowed = kind == NodeKind.WHERE || kind == NodeKind.LET_CLAUSE
+                    || kind == NodeKind.ORDER_BY || kind == NodeKind.SELECT;
+            visitNode(clause, null);
+        }
+    }
+
+    /**
+     * Returns the aggregation that the given non grouping variable can be folded into.
+     *
+     * @param nonGroupingKey name of the non grouping variable
+     * @return name of the lang library function of the aggregation, or an empty string if the variable is not folded
+     */
+    String getAggregation(String nonGroupingKey) {
+        for (Map.Entry<BSymbol, String> entry : sequenceSymbols.entrySet()) {
+            if (entry.getValue().equals(nonGroupingKey)) {
+                return aggregations.getOrDefault(entry.getKey(), NOT_FOLDED);
+            }
+        }
+        return NOT_FOLDED;
+    }
+
+    /**
+     * Returns the calls that aggregate the given non grouping variable.
+     *
+     * @param nonGroupingKey name of the non grouping variable
+     * @return calls with the variable as their argument
+     */
+    List<BLangInvocation> getInvocations(String nonGroupingKey) {
+        for (Map.Entry<BSymbol, String> entry : sequenceSymbols.entrySet()) {
+            if (entry.getValue().equals(nonGroupingKey)) {
+                return invocations.getOrDefault(entry.getKey(), List.of());
+            }
+        }
+        return List.of();
+    }
+
+    @Override
+    public void analyzeNode(BLangNode node, Void data) {
+        if (node instanceof BLangInvocation invocation) {
+            analyzeInvocation(invocation);
+        } else if (node instanceof BLangSimpleVarRef varRef && sequenceSymbols.containsKey(varRef.symbol)
+                && !aggregatedRefs.contains(varRef)) {
+            aggregations.put(varRef.symbol, NOT_FOLDED);
+        }
+    }
+
+    private void analyzeInvocation(BLangInvocation invocation) {
+        if (!aggregationsAllowed || functionDepth > 0 || invocation.expr != null
+                || invocation.functionPointerInvocation || invocation.argExprs.size() != 1
+                || invocation.restArgs.size() != 1 || !invocation.requiredArgs.isEmpty()
+                || !(invocation.symbol instanceof BInvokableSymbol)) {
+            return;
+        }
+        BLangExpression arg = invocation.argExprs.get(0);
+        if (arg != invocation.restArgs.get(0) || !(arg instanceof BLangSimpleVarRef varRef)
+                || !sequenceSymbols.containsKey(varRef.symbol)) {
+            return;
+        }
+        String aggregation = getAggregation(invocation.symbol.pkgID, invocation.symbol.name.value,
+                Types.getImpliedType(((BSequenceType) varRef.symbol.type).elementType).tag);
+        if (aggregation == null) {
+            return;
+        }
+        aggregatedRefs.add(varRef);
+        String previous = aggregations.putIfAbsent(varRef.symbol, aggregation);
+        if (previous != null && !previous.equals(aggregation)) {
+            aggregations.put(varRef.symbol, NOT_FOLDED);
+        }
+        invocations.computeIfAbsent(varRef.symbol, k -> new ArrayList<>()).add(invocation);
+    }
+
+    private static String getAggregation(PackageID pkgID, String functionName, int elementTypeTag) {
+        if (pkgID.equals(PackageID.VALUE)) {
+            return functionName.equals("count") ? functionName : null;
+        }
+        if (!pkgID.equals(PackageID.INT) && !pkgID.equals(PackageID.FLOAT) && !pkgID.equals(PackageID.DECIMAL)) {
+            return null;
+        }
+        return switch (functionName) {
+            case "max", "min" -> functionName;
+            // The folded sum must be of the element type, which is not the case for subtypes such as byte
+            case "sum" -> elementTypeTag == TypeTags.INT || elementTypeTag == TypeTags.FLOAT
+                    || elementTypeTag == TypeTags.DECIMAL ? functionName : null;
+            default -> null;
+        };
+    }
+
+    @Override
+    public void visit(BLangPackage node, Void data) {
+        // Only the clauses of a query are analyzed
+    }
+
+    @Override
+    public void visit(BLangFunction node, Void data) {
+        functionDepth++;
+        super.visit(node, data);
+        functionDepth--;
+    }
+
+    @Override
+    public void visit(BLangArrowFunction node, Void data) {
+        functionDepth++;
+        super.visit(node, data);
+        functionDepth--;
+    }
+
+    @Override
+    public void visit(BLangQueryExpr node, Void data) {
+        functionDepth++;
+        super.visit(node, data);
+        functionDepth--;
+    }
+
+    @Override
+    public void visit(BLangQueryAction node, Void data) {
+        functionDepth++;
+        super.visit(node, data);
+        functionDepth--;
+    }
+}
@@ -17,6 +17,7 @@
 package org.wso2.ballerinalang.compiler.desugar;
 
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
@@ -45,6 +46,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BSequenceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleMember;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -187,6 +189,8 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.FieldKind;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -197,6 +201,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -237,12 +242,16 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_GET_STREAM_FOR_ON_CONFLICT_FROM_PIPELINE_FUNCTION = 
             new Name("getStreamForOnConflictFromPipeline");
     private static final Name QUERY_GET_QUERY_ERROR_ROOT_CAUSE_FUNCTION = new Name("getQueryErrorRootCause");
+    private static final Name QUERY_GET_ROWS_WITH_FIELD_VALUE_FUNCTION = new Name("getRowsWithFieldValue");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    private static final String AGGREGATION_COUNT = "count";
     private static final Name QUERY_BODY_DISTINCT_ERROR_NAME = new Name("Error");
     private static final Name QUERY_PIPELINE_DISTINCT_ERROR_NAME = new Name("CompleteEarlyError");
     private static final Name QUERY_DISTINCT_UNION_ERROR_NAME = new Name("QueryErrorTypes");
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
+    // Calls to count over non grouping variables whose values are counted as they are grouped, and the variables
+    private final Map<BLangInvocation, String> countInvocations = new IdentityHashMap<>();
     private BVarSymbol currentFrameSymbol;
     private BLangBlockFunctionBody currentQueryLambdaBody;
     private Map<String, BSymbol> identifiers;
@@ -252,6 +261,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final boolean parallelQueries;
     private SymbolEnv env;
     private SymbolEnv queryEnv;
     private boolean containsCheckExpr;
@@ -267,6 +277,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        this.parallelQueries = Boolean.parseBoolean(CompilerOptions.getInstance(context)
+                .get(CompilerOptionName.PARALLEL_QUERIES));
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -500,8 +512,12 @@ public class QueryDesugar extends BLangNodeVisitor {
                                        BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        // Isolated clauses may still have side effects, such as printing, whose order changes when the query is split
+        // into partitions, so queries are only evaluated in parallel when the package opts in
+        boolean isParallel = parallelQueries && stmtsToBePropagated.isEmpty() &&
+                QueryIsolationAnalyzer.isIsolated(clauses, types);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                getIndexedCollection(initFromClause, clauses), resultType, isParallel);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -517,7 +533,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType);
+                            joinClause.collection, resultType, false);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause, stmtsToBePropagated);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
                     BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline,
@@ -541,7 +557,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case GROUP_BY:
                     BLangVariableReference groupByFunc = addGroupByFunction(block, (BLangGroupByClause) clause,
-                            stmtsToBePropagated, initPipeline);
+                            stmtsToBePropagated, initPipeline,
+                            clauses.subList(clauses.indexOf(clause) + 1, clauses.size()));
                     addStreamFunction(block, initPipeline, groupByFunc);
                     break;
                 case SELECT:
@@ -574,6 +591,131 @@ public class QueryDesugar extends BLangNodeVisitor {
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
+    /**
+     * Returns the collection of the initial from clause. If the query starts with
+     * `from var row in tbl where row.field == value`, where the field of the rows cannot be updated and the value
+     * does not change during the query, the rows are instead looked up through an index of the field:
+     * getRowsWithFieldValue(tbl, "field", value). The where clause is still evaluated on the rows found.
+     *
+     * @param fromClause initial from clause.
+     * @param clauses    list of query clauses.
+     * @return collection to create the pipeline with.
+     */
+    private BLangExpression getIndexedCollection(BLangFromClause fromClause, List<BLangNode> clauses) {
+        BLangExpression collection = fromClause.collection;
+        if (clauses.size() < 2 || clauses.get(1).getKind() != NodeKind.WHERE
+                || fromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return collection;
+        }
+        BType collectionType = Types.getImpliedType(collection.getBType());
+        if (collectionType.tag != TypeTags.TABLE) {
+            return collection;
+        }
+        BType constraintType = Types.getImpliedType(((BTableType) collectionType).constraint);
+        if (constraintType.tag != TypeTags.RECORD) {
+            return collection;
+        }
+
+        BSymbol rowSymbol = ((BLangSimpleVariable) fromClause.variableDefinitionNode.getVariable()).symbol;
+        BLangExpression whereExpr = unwrapGroupExpr(((BLangWhereClause) clauses.get(1)).expression);
+        if (whereExpr.getKind() != NodeKind.BINARY_EXPR
+                || ((BLangBinaryExpr) whereExpr).opKind != OperatorKind.EQUAL) {
+            return collection;
+        }
+        BLangBinaryExpr equalityExpr = (BLangBinaryExpr) whereExpr;
+        BLangExpression valueExpr = equalityExpr.rhsExpr;
+        String fieldName = getRowFieldName(equalityExpr.lhsExpr, rowSymbol);
+        if (fieldName == null) {
+            valueExpr = equalityExpr.lhsExpr;
+            fieldName = getRowFieldName(equalityExpr.rhsExpr, rowSymbol);
+        }
+        if (fieldName == null) {
+            return collection;
+        }
+        BField field = ((BRecordType) constraintType).fields.get(fieldName);
+        if (field == null || !isIndexedFieldType(field.type)) {
+            return collection;
+        }
+        // Rows are indexed by the value of the field when first looked up, so the field must not be updatable
+        if (!Symbols.isFlagOn(collectionType.flags, Flags.READONLY)
+                && !Symbols.isFlagOn(constraintType.flags, Flags.READONLY)
+                && !Symbols.isFlagOn(field.symbol.flags, Flags.READONLY)) {
+            return collection;
+        }
+        BLangExpression value = createInvariantValueExpr(unwrapGroupExpr(valueExpr), rowSymbol);
+        if (value == null) {
+            return collection;
+        }
+
+        Location pos = fromClause.pos;
+        BInvokableSymbol getRowsSymbol = getQueryLibInvokableSymbol(QUERY_GET_ROWS_WITH_FIELD_VALUE_FUNCTION);
+        return createQueryLibInvocation(QUERY_GET_ROWS_WITH_FIELD_VALUE_FUNCTION,
+                Lists.of(types.addConversionExprIfRequired(collection, getRowsSymbol.params.get(0).type),
+                        createStringLiteral(pos, fieldName),
+                        types.addConversionExprIfRequired(value, getRowsSymbol.params.get(2).type)), pos);
+    }
+
+    private static BLangExpression unwrapGroupExpr(BLangExpression expr) {
+        while (expr.getKind() == NodeKind.GROUP_EXPR) {
+            expr = ((BLangGroupExpr) expr).expression;
+        }
+        return expr;
+    }
+
+    private static String getRowFieldName(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.fieldKind != FieldKind.SINGLE
+                || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccess.expr).symbol != rowSymbol) {
+            return null;
+        }
+        return fieldAccess.field.value;
+    }
+
+    private static boolean isIndexedFieldType(BType type) {
+        // Values of these types are hashed consistently with the == operator
+        int tag = Types.getImpliedType(type).tag;
+        return TypeTags.isIntegerTypeTag(tag) || TypeTags.isStringTypeTag(tag) || tag == TypeTags.BOOLEAN;
+    }
+
+    /**
+     * Returns a new expression for the given value expression of a where clause, if it is a literal, a constant or
+     * a variable that cannot be assigned, so that evaluating it once before the query gives the value it has for
+     * every row. Returns null otherwise.
+     */
+    private BLangExpression createInvariantValueExpr(BLangExpression expr, BSymbol rowSymbol) {
+        Object value;
+        if (expr.getKind() == NodeKind.LITERAL || expr.getKind() == NodeKind.NUMERIC_LITERAL) {
+            value = ((BLangLiteral) expr).value;
+        } else if (expr.getKind() == NodeKind.CONSTANT_REF) {
+            value = ((BLangConstRef) expr).value;
+        } else if (expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF) {
+            BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+            if (symbol == null || symbol == rowSymbol || (symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE
+                    || !(Symbols.isFlagOn(symbol.flags, Flags.FINAL)
+                    || Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL)) || !isIndexedFieldType(symbol.type)) {
+                return null;
+            }
+            return ASTBuilderUtil.createVariableRef(expr.pos, symbol);
+        } else {
+            return null;
+        }
+
+        if (value instanceof Long) {
+            return ASTBuilderUtil.createLiteral(expr.pos, symTable.intType, value);
+        }
+        if (value instanceof String) {
+            return ASTBuilderUtil.createLiteral(expr.pos, symTable.stringType, value);
+        }
+        if (value instanceof Boolean) {
+            return ASTBuilderUtil.createLiteral(expr.pos, symTable.booleanType, value);
+        }
+        return null;
+    }
+
     // ---- Util methods to create the stream pipeline. ---- //
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
@@ -583,10 +725,11 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param pos diagnostic pos of the collection.
      * @param collection reference to the collection.
      * @param resultType constraint type of the collection.
+     * @param isParallel whether the clauses are evaluated over partitions of the collection in parallel.
      * @return variableReference to created _StreamPipeline.
      */
-    BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
-                                       BLangExpression collection, BType resultType) {
+    BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos, BLangExpression collection,
+                                       BType resultType, boolean isParallel) {
         String name = getNewVarName();
         BVarSymbol dataSymbol = new BVarSymbol(0, Names.fromString(name), env.scope.owner.pkgID,
                 collection.getBType(), this.env.scope.owner, pos, VIRTUAL);
@@ -616,7 +759,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         completionTdExpr.resolvedType = completionType;
         completionTdExpr.setBType(completionTdType);
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_PIPELINE_FUNCTION,
-                Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream)), pos);
+                Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream),
+                        desugar.getBooleanLiteral(isParallel)), pos);
     }
 
     /**
@@ -838,7 +982,8 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
                                               List<BLangStatement> stmtsToBePropagated,
-                                              BLangVariableReference initPipeline) {
+                                              BLangVariableReference initPipeline,
+                                              List<BLangNode> followingClauses) {
         Location pos = groupByClause.pos;
         BLangArrayLiteral keys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         keys.exprs = new ArrayList<>();
@@ -858,11 +1003,23 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
+        BLangArrayLiteral aggregations = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        aggregations.exprs = new ArrayList<>();
+        aggregations.setBType(new BArrayType(symTable.stringType));
+        GroupByAggregationAnalyzer aggregationAnalyzer =
+                new GroupByAggregationAnalyzer(groupByClause, followingClauses);
         for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
             nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            String aggregation = aggregationAnalyzer.getAggregation(nonGroupingKey);
+            aggregations.exprs.add(createStringLiteral(pos, aggregation));
+            if (AGGREGATION_COUNT.equals(aggregation)) {
+                for (BLangInvocation invocation : aggregationAnalyzer.getInvocations(nonGroupingKey)) {
+                    countInvocations.put(invocation, nonGroupingKey);
+                }
+            }
         }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
-                Lists.of(keys, nonGroupingKeys), pos);
+                Lists.of(keys, nonGroupingKeys, aggregations), pos);
     }
 
     BLangVariableReference addCollectFunction(BLangBlockStmt blockStmt, BLangCollectClause collectClause,
@@ -1766,6 +1923,17 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation invocationExpr) {
+        String countedKey = countInvocations.remove(invocationExpr);
+        if (countedKey != null) {
+            // The grouped frame holds the count instead of the sequence.
+            Location pos = invocationExpr.pos;
+            BLangFieldBasedAccess frameAccessExpr = desugar.getFieldAccessExpression(pos, countedKey,
+                    symTable.anyOrErrorType, currentFrameSymbol);
+            frameAccessExpr.expr = types.addConversionExprIfRequired(frameAccessExpr.expr,
+                    types.getSafeType(frameAccessExpr.expr.getBType(), true, false));
+            result = types.addConversionExprIfRequired(frameAccessExpr, invocationExpr.getBType());
+            return;
+        }
         List<BLangExpression> requiredArgs = invocationExpr.requiredArgs;
         if (invocationExpr.langLibInvocation && !requiredArgs.isEmpty()) {
             requiredArgs = requiredArgs.subList(1, requiredArgs.size());
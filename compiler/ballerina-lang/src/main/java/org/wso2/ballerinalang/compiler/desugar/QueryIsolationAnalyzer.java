@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.desugar;
+
+import org.ballerinalang.model.tree.NodeKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.tree.BLangNode;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks whether the clauses of a query can be evaluated over partitions of its input on separate strands. This is
+ * the case when the query only has a from clause followed by let, where and select clauses that are isolated from
+ * each other's partitions.
+ * <p>
+ * The clauses are isolated when they only refer to the variables of the query, to constants and to final variables
+ * that are readonly or isolated objects, and only call isolated functions with readonly or isolated object arguments,
+ * so that no clause can change a value that another partition sees. Clauses with functions, nested queries, object
+ * constructors, new expressions or worker interactions are not considered isolated.
+ *
+ * @since 2201.10.0
+ */
+class QueryIsolationAnalyzer extends SimpleBLangNodeAnalyzer<Void> {
+
+    private final Types types;
+    // Variables declared by the clauses of the query
+    private final Set<BSymbol> queryVariables = new HashSet<>();
+    private boolean isolated = true;
+
+    private QueryIsolationAnalyzer(Types types) {
+        this.types = types;
+    }
+
+    /**
+     * Returns whether the given clauses of a query are isolated.
+     *
+     * @param clauses clauses of the query
+     * @param types   types of the compilation
+     * @return true if the clauses can be evaluated over partitions of the input in parallel
+     */
+    static boolean isIsolated(List<BLangNode> clauses, Types types) {
+        QueryIsolationAnalyzer analyzer = new QueryIsolationAnalyzer(types);
+        // The collection is evaluated once, before the clauses, so only the variables of the from clause are analyzed
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        analyzer.visitNode((BLangNode) fromClause.variableDefinitionNode, null);
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            NodeKind kind = clause.getKind();
+            if (kind != NodeKind.LET_CLAUSE && kind != NodeKind.WHERE && kind != NodeKind.SELECT) {
+                return false;
+            }
+            analyzer.visitNode(clause, null);
+            if (!analyzer.isolated) {
+                return false;
+            }
+        }
+        return analyzer.isolated;
+    }
+
+    @Override
+    public void analyzeNode(BLangNode node, Void data) {
+        if (!isolated) {
+            return;
+        }
+        switch (node.getKind()) {
+            case VARIABLE:
+                queryVariables.add(((BLangSimpleVariable) node).symbol);
+                break;
+            case SIMPLE_VARIABLE_REF:
+                isolated = isIsolatedReference(((BLangSimpleVarRef) node).symbol);
+                break;
+            case INVOCATION:
+                isolated = isIsolatedInvocation((BLangInvocation) node);
+                break;
+            case LAMBDA:
+            case ARROW_EXPR:
+            case QUERY_EXPR:
+            case DO_ACTION:
+            case OBJECT_CTOR_EXPRESSION:
+            case TYPE_INIT_EXPR:
+            case WAIT_EXPR:
+            case WORKER_RECEIVE:
+            case ALTERNATE_WORKER_RECEIVE:
+            case MULTIPLE_WORKER_RECEIVE:
+            case WORKER_ASYNC_SEND:
+            case WORKER_SYNC_SEND:
+            case WORKER_FLUSH:
+            case STATEMENT_EXPRESSION:
+                isolated = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isIsolatedReference(BSymbol symbol) {
+        if (symbol == null) {
+            return false;
+        }
+        if (queryVariables.contains(symbol) || Symbols.isFlagOn(symbol.flags, Flags.CONSTANT)
+                || Symbols.isTagOn(symbol, SymTag.TYPE_DEF) || Symbols.isTagOn(symbol, SymTag.FUNCTION)) {
+            return true;
+        }
+        return (Symbols.isFlagOn(symbol.flags, Flags.FINAL) || Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL))
+                && types.isSubTypeOfReadOnlyOrIsolatedObjectUnion(symbol.type);
+    }
+
+    private boolean isIsolatedInvocation(BLangInvocation invocation) {
+        BSymbol symbol = invocation.symbol;
+        if (invocation.async || invocation.functionPointerInvocation || !(symbol instanceof BInvokableSymbol)
+                || !Symbols.isFlagOn(symbol.flags, Flags.ISOLATED)) {
+            return false;
+        }
+        if (invocation.expr != null && !isReadOnlyOrIsolatedObject(invocation.expr)) {
+            return false;
+        }
+        for (BLangExpression arg : invocation.argExprs) {
+            if (!isReadOnlyOrIsolatedObject(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyOrIsolatedObject(BLangExpression expr) {
+        return expr.getBType() != null && types.isSubTypeOfReadOnlyOrIsolatedObjectUnion(expr.getBType());
+    }
+
+    @Override
+    public void visit(BLangPackage node, Void data) {
+        // Only the clauses of a query are analyzed
+    }
+}
@@ -35,6 +35,10 @@ class LineMap {
         this.length = textLines.length;
     }
 
+    int lineCount() {
+        return length;
+    }
+
     TextLine textLine(int line) {
         lineRangeCheck(line);
         return textLines[line];
@@ -0,0 +1,277 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code PieceTableTextDocument} represents a {@code TextDocument} created by applying a change to another one.
+ * <p>
+ * The text is held as a sequence of pieces of the original text and of the texts of the edits, which the documents
+ * created from one another share, so that applying a change does not copy the whole text. The text lines are updated
+ * from the lines of the document the change is applied to, scanning only the lines that the change touches.
+ *
+ * @since 2201.10.0
+ */
+class PieceTableTextDocument extends TextDocument {
+    // The pieces are joined into a single piece once there are more of them, to bound the cost of reading the text
+    private static final int MAX_PIECE_COUNT = 256;
+
+    private final String[] buffers;
+    private final int[] bufferOffsets;
+    // The offset of each piece within the text, followed by the length of the text
+    private final int[] textOffsets;
+    private final int pieceCount;
+    private String text;
+    private LineMap textLineMap;
+
+    // The lines of the document the change is applied to, and the span of the change, until the lines are populated
+    private LineMap previousLineMap;
+    private int changeStartOffset;
+    private int changeEndOffset;
+
+    private PieceTableTextDocument(String[] buffers, int[] bufferOffsets, int[] textOffsets, int pieceCount) {
+        this.buffers = buffers;
+        this.bufferOffsets = bufferOffsets;
+        this.textOffsets = textOffsets;
+        this.pieceCount = pieceCount;
+    }
+
+    static PieceTableTextDocument from(String text, LineMap textLineMap) {
+        PieceTableTextDocument document = text.isEmpty() ?
+                new PieceTableTextDocument(new String[0], new int[0], new int[]{0}, 0) :
+                new PieceTableTextDocument(new String[]{text}, new int[]{0}, new int[]{0, text.length()}, 1);
+        document.text = text;
+        document.textLineMap = textLineMap;
+        return document;
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        int textEditCount = textDocumentChange.getTextEditCount();
+        if (textEditCount == 0) {
+            return this;
+        }
+
+        PieceListBuilder pieces = new PieceListBuilder(pieceCount + 2 * textEditCount);
+        int startOffset = 0;
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            addPieces(pieces, startOffset, textRange.startOffset());
+            pieces.add(textEdit.text(), 0, textEdit.text().length());
+            startOffset = textRange.endOffset();
+        }
+        addPieces(pieces, startOffset, length());
+
+        PieceTableTextDocument document = pieces.build();
+        if (textLineMap != null) {
+            document.previousLineMap = textLineMap;
+            document.changeStartOffset = textDocumentChange.getTextEdit(0).range().startOffset();
+            document.changeEndOffset = textDocumentChange.getTextEdit(textEditCount - 1).range().endOffset();
+        }
+        return document;
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        if (textLineMap != null) {
+            return textLineMap;
+        }
+        if (previousLineMap == null) {
+            textLineMap = new LineMap(calculateTextLines(0, length(), 0, true).toArray(new TextLine[0]));
+        } else {
+            textLineMap = updateTextLines();
+            previousLineMap = null;
+        }
+        return textLineMap;
+    }
+
+    @Override
+    public char[] toCharArray() {
+        if (text != null) {
+            return text.toCharArray();
+        }
+        char[] chars = new char[length()];
+        getChars(0, chars.length, chars);
+        return chars;
+    }
+
+    @Override
+    public String toString() {
+        if (text == null) {
+            text = pieceCount == 1 && bufferOffsets[0] == 0 && buffers[0].length() == length() ?
+                    buffers[0] : new String(toCharArray());
+        }
+        return text;
+    }
+
+    private int length() {
+        return textOffsets[pieceCount];
+    }
+
+    private int pieceIndexOf(int offset) {
+        int index = Arrays.binarySearch(textOffsets, 0, pieceCount, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void addPieces(PieceListBuilder pieces, int startOffset, int endOffset) {
+        if (startOffset >= endOffset) {
+            return;
+        }
+        for (int i = pieceIndexOf(startOffset); i < pieceCount && textOffsets[i] < endOffset; i++) {
+            int pieceStart = Math.max(startOffset, textOffsets[i]);
+            int pieceEnd = Math.min(endOffset, textOffsets[i + 1]);
+            pieces.add(buffers[i], bufferOffsets[i] + pieceStart - textOffsets[i], pieceEnd - pieceStart);
+        }
+    }
+
+    private void getChars(int startOffset, int endOffset, char[] dst) {
+        if (startOffset >= endOffset) {
+            return;
+        }
+        for (int i = pieceIndexOf(startOffset); i < pieceCount && textOffsets[i] < endOffset; i++) {
+            int pieceStart = Math.max(startOffset, textOffsets[i]);
+            int pieceEnd = Math.min(endOffset, textOffsets[i + 1]);
+            int bufferStart = bufferOffsets[i] + pieceStart - textOffsets[i];
+            buffers[i].getChars(bufferStart, bufferStart + pieceEnd - pieceStart, dst, pieceStart - startOffset);
+        }
+    }
+
+    private LineMap updateTextLines() {
+        LineMap lineMap = previousLineMap;
+        int lineCount = lineMap.lineCount();
+        int lengthDelta = length() - lineMap.textLine(lineCount - 1).endOffset();
+
+        // The lines next to the change are scanned again too, as the change may join or split their line breaks
+        int startLine = Math.max(lineMap.linePositionFrom(changeStartOffset).line() - 1, 0);
+        int endLine = Math.min(lineMap.linePositionFrom(changeEndOffset).line() + 1, lineCount - 1);
+        int endOffset = lineMap.textLine(endLine).endOffsetWithNewLines() + lengthDelta;
+        List<TextLine> changedLines = calculateTextLines(lineMap.textLine(startLine).startOffset(), endOffset,
+                startLine, endLine == lineCount - 1);
+
+        int lineDelta = startLine + changedLines.size() - endLine - 1;
+        TextLine[] textLines = new TextLine[lineCount + lineDelta];
+        for (int i = 0; i < startLine; i++) {
+            textLines[i] = lineMap.textLine(i);
+        }
+        for (int i = 0; i < changedLines.size(); i++) {
+            textLines[startLine + i] = changedLines.get(i);
+        }
+        for (int i = endLine + 1; i < lineCount; i++) {
+            TextLine textLine = lineMap.textLine(i);
+            if (lengthDelta == 0 && lineDelta == 0) {
+                textLines[i] = textLine;
+            } else {
+                int lengthOfNewLineChars = textLine.endOffsetWithNewLines() - textLine.endOffset();
+                textLines[i + lineDelta] = new TextLine(i + lineDelta, textLine.text(),
+                        textLine.startOffset() + lengthDelta, textLine.endOffset() + lengthDelta, lengthOfNewLineChars);
+            }
+        }
+        return new LineMap(textLines);
+    }
+
+    /**
+     * Returns the lines of the given span of the text, which starts at the start of a line. The span either includes
+     * the last line of the text, or ends right after a line break, in which case the line that follows is not
+     * included.
+     *
+     * @param startOffset      start of the span
+     * @param endOffset        end of the span
+     * @param startLine        line number of the first line of the span
+     * @param includesLastLine whether the span includes the last line of the text
+     * @return lines of the span
+     */
+    private List<TextLine> calculateTextLines(int startOffset, int endOffset, int startLine,
+                                              boolean includesLastLine) {
+        char[] chars = new char[endOffset - startOffset];
+        getChars(startOffset, endOffset, chars);
+        List<TextLine> textLines = new ArrayList<>();
+        int line = startLine;
+        int lineStart = 0;
+        int index = 0;
+        while (index < chars.length) {
+            char c = chars[index];
+            if (c == '\r' || c == '\n') {
+                int lengthOfNewLineChars = c == '\r' && index + 1 < chars.length && chars[index + 1] == '\n' ? 2 : 1;
+                textLines.add(new TextLine(line++, new String(chars, lineStart, index - lineStart),
+                        startOffset + lineStart, startOffset + index, lengthOfNewLineChars));
+                index += lengthOfNewLineChars;
+                lineStart = index;
+            } else {
+                index++;
+            }
+        }
+
+        if (includesLastLine) {
+            textLines.add(new TextLine(line, new String(chars, lineStart, chars.length - lineStart),
+                    startOffset + lineStart, endOffset, 0));
+        }
+        return textLines;
+    }
+
+    /**
+     * Builds the pieces of a document, joining the adjacent pieces of the same buffer.
+     */
+    private static class PieceListBuilder {
+        private String[] buffers;
+        private int[] bufferOffsets;
+        private int[] textOffsets;
+        private int pieceCount = 0;
+
+        PieceListBuilder(int capacity) {
+            this.buffers = new String[capacity];
+            this.bufferOffsets = new int[capacity];
+            this.textOffsets = new int[capacity + 1];
+        }
+
+        void add(String buffer, int bufferOffset, int length) {
+            if (length == 0) {
+                return;
+            }
+            int last = pieceCount - 1;
+            if (last >= 0 && buffers[last] == buffer &&
+                    bufferOffsets[last] + textOffsets[pieceCount] - textOffsets[last] == bufferOffset) {
+                textOffsets[pieceCount] += length;
+                return;
+            }
+            if (pieceCount == buffers.length) {
+                int capacity = buffers.length * 2 + 1;
+                buffers = Arrays.copyOf(buffers, capacity);
+                bufferOffsets = Arrays.copyOf(bufferOffsets, capacity);
+                textOffsets = Arrays.copyOf(textOffsets, capacity + 1);
+            }
+            buffers[pieceCount] = buffer;
+            bufferOffsets[pieceCount] = bufferOffset;
+            textOffsets[pieceCount + 1] = textOffsets[pieceCount] + length;
+            pieceCount++;
+        }
+
+        PieceTableTextDocument build() {
+            PieceTableTextDocument document =
+                    new PieceTableTextDocument(buffers, bufferOffsets, textOffsets, pieceCount);
+            if (pieceCount <= MAX_PIECE_COUNT) {
+                return document;
+            }
+            String text = document.toString();
+            return new PieceTableTextDocument(new String[]{text}, new int[]{0}, new int[]{0, text.length()}, 1);
+        }
+    }
+}
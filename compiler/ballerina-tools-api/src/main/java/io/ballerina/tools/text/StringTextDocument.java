@@ -35,18 +35,8 @@ class StringTextDocument extends TextDocument {
 
     @Override
     public TextDocument apply(TextDocumentChange textDocumentChange) {
-        int startOffset = 0;
-        StringBuilder sb = new StringBuilder();
-        int textEditCount = textDocumentChange.getTextEditCount();
-        for (int i = 0; i < textEditCount; i++) {
-            TextEdit textEdit = textDocumentChange.getTextEdit(i);
-            TextRange textRange = textEdit.range();
-            sb.append(text, startOffset, textRange.startOffset());
-            sb.append(textEdit.text());
-            startOffset = textRange.endOffset();
-        }
-        sb.append(text, startOffset, text.length());
-        return new StringTextDocument(sb.toString());
+        // The edited documents share the text of this document, instead of copying it on each edit
+        return PieceTableTextDocument.from(text, populatedLines()).apply(textDocumentChange);
     }
 
     @Override
@@ -60,6 +60,15 @@ public abstract class TextDocument {
         return lineMap.textLines();
     }
 
+    /**
+     * Returns the line map of this document if it is already populated.
+     *
+     * @return the line map, or null if it is not populated
+     */
+    LineMap populatedLines() {
+        return lineMap;
+    }
+
     protected LineMap lines() {
         if (lineMap != null) {
             return lineMap;
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.test;
+
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Test applying changes to text documents.
+ *
+ * @since 2201.10.0
+ */
+public class TextDocumentTest {
+
+    private static final String[] TEXTS = {"", "a", "bc", "\n", "\r", "\r\n", "x\ny", "int i = 0;\r\n"};
+
+    @Test
+    public void testApplyChange() {
+        TextDocument textDocument = TextDocuments.from("function foo() {\n    int i = 0;\r\n}\n");
+        TextDocument changedDocument = textDocument.apply(TextDocumentChange.from(new TextEdit[]{
+                TextEdit.from(TextRange.from(0, 8), "public function"),
+                TextEdit.from(TextRange.from(33, 0), "    i += 1;\n"),
+        }));
+        Assert.assertEquals(changedDocument.toString(),
+                "public function foo() {\n    int i = 0;\r\n    i += 1;\n}\n");
+        Assert.assertEquals(textDocument.toString(), "function foo() {\n    int i = 0;\r\n}\n");
+        assertSameLines(changedDocument, changedDocument.toString());
+    }
+
+    @Test
+    public void testApplyRandomChanges() {
+        Random random = new Random(7);
+        for (int run = 0; run < 50; run++) {
+            String text = "";
+            TextDocument textDocument = TextDocuments.from(text);
+            for (int change = 0; change < 100; change++) {
+                int editCount = 1 + random.nextInt(3);
+                TextEdit[] textEdits = new TextEdit[editCount];
+                StringBuilder expected = new StringBuilder();
+                int offset = 0;
+                for (int i = 0; i < editCount; i++) {
+                    int start = offset + random.nextInt(text.length() - offset + 1);
+                    int end = start + random.nextInt(Math.min(4, text.length() - start) + 1);
+                    String newText = TEXTS[random.nextInt(TEXTS.length)];
+                    textEdits[i] = TextEdit.from(TextRange.from(start, end - start), newText);
+                    expected.append(text, offset, start).append(newText);
+                    offset = end;
+                }
+                expected.append(text, offset, text.length());
+
+                textDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+                text = expected.toString();
+                Assert.assertEquals(textDocument.toString(), text);
+                if (random.nextInt(4) != 0) {
+                    assertSameLines(textDocument, text);
+                }
+            }
+            Assert.assertEquals(new String(textDocument.toCharArray()), text);
+        }
+    }
+
+    @Test
+    public void testApplyManyChanges() {
+        TextDocument textDocument = TextDocuments.from("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            String newText = i % 10 == 9 ? "\n" : String.valueOf(i % 10);
+            textDocument = textDocument.apply(TextDocumentChange.from(new TextEdit[]{
+                    TextEdit.from(TextRange.from(expected.length(), 0), newText)}));
+            expected.append(newText);
+            Assert.assertEquals(textDocument.line(i / 10).lineNo(), i / 10);
+        }
+        Assert.assertEquals(textDocument.toString(), expected.toString());
+        assertSameLines(textDocument, expected.toString());
+    }
+
+    private static void assertSameLines(TextDocument textDocument, String text) {
+        TextDocument expected = TextDocuments.from(text);
+        Assert.assertEquals(textDocument.textLines(), expected.textLines());
+        for (int i = 0; i < expected.textLines().size(); i++) {
+            TextLine line = textDocument.line(i);
+            TextLine expectedLine = expected.line(i);
+            Assert.assertEquals(line.lineNo(), expectedLine.lineNo());
+            Assert.assertEquals(line.startOffset(), expectedLine.startOffset());
+            Assert.assertEquals(line.endOffsetWithNewLines(), expectedLine.endOffsetWithNewLines());
+        }
+        for (int position = 0; position <= text.length(); position++) {
+            LinePosition linePosition = expected.linePositionFrom(position);
+            Assert.assertEquals(textDocument.linePositionFrom(position), linePosition);
+            // Positions within the line break of a line have no line position that maps back to them
+            if (linePosition.offset() <= expected.line(linePosition.line()).length()) {
+                Assert.assertEquals(textDocument.textPositionFrom(linePosition), position);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
@@ -26,8 +27,13 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.util.Arrays;
+import java.util.Comparator;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
@@ -36,81 +42,275 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
+ * <p>
+ * Arrays of int, float, string and byte are sorted directly on their members when no key function is given. Keys
+ * computed by a key function are held in an array of their primitive type when they are all of the same type, and
+ * the members are sorted stably through a permutation of their indices.
  *
  * @since 1.0
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        boolean ascending = ASCENDING.equals(direction.toString());
+        int size = arr.size();
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null) {
+            switch (arr.getElementType().getTag()) {
+                case TypeTags.INT_TAG:
+                    return ValueCreator.createArrayValue(sortInts(arr.getIntArray(), ascending));
+                case TypeTags.FLOAT_TAG:
+                    return ValueCreator.createArrayValue(sortFloats(arr.getFloatArray(), ascending));
+                case TypeTags.BYTE_TAG:
+                    return ValueCreator.createArrayValue(sortBytes(arr.getByteArray(), ascending));
+                case TypeTags.STRING_TAG:
+                    return ValueCreator.createArrayValue(sortStrings(arr, ascending));
+                default:
+                    break;
+            }
+        }
 
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        Object[] keys = values;
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
-            }
-        } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            Strand strand = Scheduler.getStrand();
+            keys = new Object[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = function.call(new Object[]{strand, values[i], true});
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        int[] order;
+        try {
+            order = sortIndices(size, getKeyComparator(keys, ascending));
+        } catch (BError error) {
+            throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                    (BMap) error.getDetails());
+        }
 
         BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, values[order[k]]);
         }
 
         return sortedArray;
     }
 
+    private static long[] sortInts(long[] values, boolean ascending) {
+        Arrays.sort(values);
+        if (!ascending) {
+            reverse(values, values.length);
+        }
+        return values;
+    }
+
+    private static double[] sortFloats(double[] values, boolean ascending) {
+        // -0.0 and +0.0 are equal, so they keep the order they had before sorting.
+        int zeroCount = 0;
+        for (double value : values) {
+            if (value == 0) {
+                zeroCount++;
+            }
+        }
+        double[] zeros = new double[zeroCount];
+        for (int i = 0, z = 0; z < zeroCount; i++) {
+            if (values[i] == 0) {
+                zeros[z++] = values[i];
+            }
+        }
+
+        // NaN is sorted to the end, and is placed last in both directions.
+        Arrays.sort(values);
+        int nanStart = values.length;
+        while (nanStart > 0 && Double.isNaN(values[nanStart - 1])) {
+            nanStart--;
+        }
+        if (!ascending) {
+            reverse(values, nanStart);
+        }
+
+        if (zeroCount > 0) {
+            int zeroStart = 0;
+            while (values[zeroStart] != 0) {
+                zeroStart++;
+            }
+            System.arraycopy(zeros, 0, values, zeroStart, zeroCount);
+        }
+        return values;
+    }
+
+    private static byte[] sortBytes(byte[] values, boolean ascending) {
+        int[] counts = new int[256];
+        for (byte value : values) {
+            counts[Byte.toUnsignedInt(value)]++;
+        }
+        int k = 0;
+        for (int i = 0; i < 256; i++) {
+            int value = ascending ? i : 255 - i;
+            Arrays.fill(values, k, k + counts[value], (byte) value);
+            k += counts[value];
+        }
+        return values;
+    }
+
+    private static BString[] sortStrings(BArray arr, boolean ascending) {
+        // Equal strings are indistinguishable, so the order among them does not matter.
+        BString[] values = new BString[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.getBString(i);
+        }
+        Comparator<BString> comparator = (s1, s2) -> codePointCompare(s1.getValue(), s2.getValue());
+        Arrays.sort(values, ascending ? comparator : comparator.reversed());
+        return values;
+    }
+
+    private static IndexComparator getKeyComparator(Object[] keys, boolean ascending) {
+        int size = keys.length;
+        if (size > 0 && keys[0] instanceof Long && isOfKeyClass(keys, Long.class)) {
+            long[] longKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                longKeys[i] = (Long) keys[i];
+            }
+            return ascending ? (i, j) -> Long.compare(longKeys[i], longKeys[j]) :
+                    (i, j) -> Long.compare(longKeys[j], longKeys[i]);
+        }
+        if (size > 0 && keys[0] instanceof Double && isOfKeyClass(keys, Double.class)) {
+            double[] doubleKeys = new double[size];
+            for (int i = 0; i < size; i++) {
+                doubleKeys[i] = (Double) keys[i];
+            }
+            return (i, j) -> compareFloats(doubleKeys[i], doubleKeys[j], ascending);
+        }
+        if (size > 0 && keys[0] instanceof BString && isOfKeyClass(keys, BString.class)) {
+            String[] stringKeys = new String[size];
+            for (int i = 0; i < size; i++) {
+                stringKeys[i] = ((BString) keys[i]).getValue();
+            }
+            return ascending ? (i, j) -> codePointCompare(stringKeys[i], stringKeys[j]) :
+                    (i, j) -> codePointCompare(stringKeys[j], stringKeys[i]);
+        }
+        return ascending ? (i, j) -> ValueComparisonUtils.compareValues(keys[i], keys[j], ASCENDING) :
+                (i, j) -> ValueComparisonUtils.compareValues(keys[j], keys[i], DESCENDING);
+    }
+
+    private static boolean isOfKeyClass(Object[] keys, Class<?> keyClass) {
+        for (Object key : keys) {
+            if (!keyClass.isInstance(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareFloats(double lhs, double rhs, boolean ascending) {
+        // NaN is placed last in both directions, and -0.0 is equal to +0.0.
+        if (Double.isNaN(lhs)) {
+            return Double.isNaN(rhs) ? 0 : 1;
+        }
+        if (Double.isNaN(rhs)) {
+            return -1;
+        }
+        if (lhs == rhs) {
+            return 0;
+        }
+        return ascending ? Double.compare(lhs, rhs) : Double.compare(rhs, lhs);
+    }
+
+    private static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = str1.charAt(i);
+            char c2 = str2.charAt(i);
+            if (c1 == c2) {
+                continue;
+            }
+            // Surrogates encode code points above U+FFFF, so they are ordered after all other characters.
+            if (c1 >= Character.MIN_SURROGATE && c2 >= Character.MIN_SURROGATE) {
+                return toCodePointOrder(c1) - toCodePointOrder(c2);
+            }
+            return c1 - c2;
+        }
+        return str1.length() - str2.length();
+    }
+
+    private static int toCodePointOrder(char c) {
+        return Character.isSurrogate(c) ? c + 0x2000 : c - 0x800;
+    }
+
+    private static void reverse(long[] values, int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void reverse(double[] values, int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            double value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static int[] sortIndices(int size, IndexComparator comparator) {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        mergesort(indices, new int[size], 0, size - 1, comparator);
+        return indices;
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(int[] input, int[] aux, int lo, int hi, IndexComparator comparator) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(input, aux, lo, mid, comparator);
+        mergesort(input, aux, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, direction);
+        merge(input, aux, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+    private static void merge(int[] input, int[] aux, int lo, int mid, int hi, IndexComparator comparator) {
+        // Already in order, as the halves are sorted.
+        if (comparator.compare(input[mid + 1], input[mid]) >= 0) {
+            return;
         }
 
+        System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
-                }
-                input[k] = aux[index];
-
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap) error.getDetails());
+            if (i > mid) {
+                input[k] = aux[j++];
+            } else if (j > hi) {
+                input[k] = aux[i++];
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
+                input[k] = aux[j++];
+            } else {
+                input[k] = aux[i++];
             }
         }
     }
+
+    /**
+     * Compares the sort keys at two indices.
+     */
+    private interface IndexComparator {
+
+        int compare(int i, int j);
+    }
 }
@@ -20,9 +20,12 @@ import ballerina/lang.'error;
 
 function createPipeline(
         Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection,
-        typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isLazyLoading)
-            returns _StreamPipeline {
-    return new _StreamPipeline(collection, constraintTd, completionTd, isLazyLoading);
+        typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isLazyLoading,
+        boolean isParallel) returns _StreamPipeline {
+    // Only queries the compiler has marked for parallel evaluation, which needs the parallelQueries build option and
+    // isolated clauses, are evaluated in parallel
+    int parallelism = isParallel && !isLazyLoading ? getQueryParallelism() : 0;
+    return new _StreamPipeline(collection, constraintTd, completionTd, isLazyLoading, parallelism);
 }
 
 function createInputFunction(function(_Frame _frame) returns _Frame|error? inputFunc)
@@ -64,8 +67,9 @@ function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
-function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns _StreamFunction {
-    return new _GroupByFunction(keys, nonGroupingKeys);
+function createGroupByFunction(string[] keys, string[] nonGroupingKeys, string[] aggregations)
+        returns _StreamFunction {
+    return new _GroupByFunction(keys, nonGroupingKeys, aggregations);
 }
 
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
@@ -88,6 +92,50 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+# The smallest number of input values evaluated on a strand of their own, when a query is evaluated in parallel.
+const int MIN_PARALLEL_PARTITION_SIZE = 1024;
+
+# Creates a function evaluating the query ending with the given function in parallel, if the query can be split into
+# more than one partition and only has input, let, where and select clauses over a large enough array or table.
+#
+# + lastFunction - the last function of the query pipeline
+# + parallelism - the maximum number of partitions of the query
+# + return - the function evaluating the query in parallel, or nil if the query is evaluated sequentially
+function createParallelFunction(_StreamFunction lastFunction, int parallelism) returns _StreamFunction? {
+    if (parallelism < 2) {
+        return ();
+    }
+    _StreamFunction[] stages = [];
+    string[] stageNames = [];
+    _StreamFunction? sf = lastFunction;
+    while (sf is _InputFunction|_LetFunction|_FilterFunction|_SelectFunction) {
+        stages.unshift(sf);
+        stageNames.unshift(sf is _InputFunction ? "from" : sf is _LetFunction ? "let" :
+                sf is _FilterFunction ? "where" : "select");
+        sf = sf.prevFunc;
+    }
+    if !(sf is _InitFunction) {
+        return ();
+    }
+    var collection = sf.collection;
+    Type[] input;
+    if (collection is Type[]) {
+        input = collection;
+    } else if (collection is table<map<Type>>) {
+        input = <Type[]>collection.toArray();
+    } else {
+        return ();
+    }
+    int partitionCount = input.length() / MIN_PARALLEL_PARTITION_SIZE;
+    if (partitionCount > parallelism) {
+        partitionCount = parallelism;
+    }
+    if (partitionCount < 2) {
+        return ();
+    }
+    return new _ParallelFunction(input, stages, partitionCount, ",".'join(...stageNames));
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -328,6 +376,64 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function createFrameKeyIndex() returns handle = @java:Constructor {
+    'class: "org.ballerinalang.langlib.query.FrameKeyIndex"
+} external;
+
+function getOrAddFrameKey(handle keyIndex, any key) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameKeyIndex",
+    name: "getOrAdd"
+} external;
+
+function getFrameKey(handle keyIndex, any key) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameKeyIndex",
+    name: "get"
+} external;
+
+function foldAggregation(string aggregation, any folded, any value) returns any = @java:Method {
+    'class: "org.ballerinalang.langlib.query.Aggregation",
+    name: "fold"
+} external;
+
+function getRowsWithFieldValue(table<map<Type>> tbl, string fieldName, any value) returns Type[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableFieldIndex",
+    name: "getRows"
+} external;
+
+function getQueryParallelism() returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPartitions",
+    name: "getParallelism"
+} external;
+
+function createQueryPartitions(int partitionCount, int inputSize, string stages) returns handle = @java:Constructor {
+    'class: "org.ballerinalang.langlib.query.QueryPartitions"
+} external;
+
+function isQueryPartitionSkipped(handle partitions, int partition) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPartitions",
+    name: "isSkipped"
+} external;
+
+function runQueryPartitions(handle partitions, function (int partition) returns [_Frame[], error?] partitionFunc)
+        returns any[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryPartitions",
+    name: "run"
+} external;
+
+function createFrameSorter(int 'limit) returns handle = @java:Constructor {
+    'class: "org.ballerinalang.langlib.query.FrameSorter"
+} external;
+
+function addFrameToSort(handle frameSorter, _Frame frame, any[] keys, any[] directions) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "add"
+} external;
+
+function getNextSortedFrame(handle frameSorter) returns _Frame? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "next"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
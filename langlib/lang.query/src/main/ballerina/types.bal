@@ -78,14 +78,17 @@ class _StreamPipeline {
     typedesc<Type> constraintTd;
     typedesc<CompletionType> completionTd;
     boolean isLazyLoading;
+    int parallelism;
 
     function init(
             Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection,
-            typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isLazyLoading) {
+            typedesc<Type> constraintTd, typedesc<CompletionType> completionTd, boolean isLazyLoading,
+            int parallelism) {
         self.streamFunction = new _InitFunction(collection);
         self.constraintTd = constraintTd;
         self.completionTd = completionTd;
         self.isLazyLoading = isLazyLoading;
+        self.parallelism = parallelism;
     }
 
     public isolated function next() returns _Frame|error? {
@@ -106,11 +109,20 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
+        if (existingFunc is _OrderByFunction && streamFunction is _LimitFunction) {
+            existingFunc.limitFunc = streamFunction.limitFunc;
+        }
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
     }
 
     public function getStream() returns stream<Type, CompletionType> {
+        if (!self.isLazyLoading) {
+            _StreamFunction? parallelFunction = createParallelFunction(self.streamFunction, self.parallelism);
+            if (parallelFunction is _StreamFunction) {
+                self.streamFunction = parallelFunction;
+            }
+        }
         IterHelper itrObj = new (self, self.constraintTd);
         var strm = internal:construct(self.constraintTd, self.completionTd, itrObj);
         return strm;
@@ -346,7 +358,9 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
+    _Frame? lhsFrame = ();
+    _Frame[] rhsCandidates = [];
+    int rhsCandidateIndex = 0;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -355,7 +369,6 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -364,7 +377,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -378,48 +391,48 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        error? failureAtJoin = self.failureAtJoin;
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
-            }
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        _Frame? lhsFrame = self.lhsFrame;
+        _Frame[] rhsCandidates = self.rhsCandidates;
+        int i = self.rhsCandidateIndex;
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
-                if (lhsKFRes is error) {
-                    return prepareQueryBodyError(lhsKFRes);
-                }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+        // Move to the next lhs frame which has matching rhs frames, once those of the current one are joined.
+        while (lhsFrame is () || i >= rhsCandidates.length()) {
+            _Frame|error? f = pf.process();
+            if !(f is _Frame) {
+                self.lhsFrame = ();
+                return f;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
+            any|error lhsKFRes = lhsKF(f);
+            if (lhsKFRes is error) {
+                return prepareQueryBodyError(lhsKFRes);
+            }
+            lhsFrame = f;
+            rhsCandidates = rhsFramesMap.get(lhsKFRes) ?: [];
+            i = 0;
         }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        self.lhsFrame = lhsFrame;
+        self.rhsCandidates = rhsCandidates;
+        self.rhsCandidateIndex = i + 1;
+
+        _Frame joinedFrame = {...<_Frame>lhsFrame};
+        foreach var [k, val] in rhsCandidates[i].entries() {
+            joinedFrame[k] = val;
         }
-        return f;
+        return joinedFrame;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = [];
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -433,6 +446,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -454,7 +468,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -475,7 +489,6 @@ class _OuterJoinFunction {
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -487,20 +500,21 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            any|error lhsKFRes = lhsKF(lhsFrame);
-            if (lhsKFRes is error) {
-                return prepareQueryBodyError(lhsKFRes);
-            }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                any|error lhsKFRes = lhsKF(lhsFrame);
+                if (lhsKFRes is error) {
+                    return prepareQueryBodyError(lhsKFRes);
+                }
+                rhsCandidates = rhsFramesMap.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int i = self.rhsCandidateIndex;
+                _Frame rhsFrame = rhsCandidates[i];
+                if (i + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = i + 1;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
@@ -528,6 +542,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -581,46 +596,54 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) returns error? orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    # Desugared function of the limit clause which follows the order by clause, if any.
+    (function (_Frame _frame) returns int|error)? limitFunc = ();
+    handle? orderedFrames;
 
     function init(function (_Frame _frame) returns error? orderKeyFunc) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.orderedFrames = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        handle? orderedFrames = self.orderedFrames;
+        if (orderedFrames is ()) {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            // Only the frames within the limit are needed after ordering.
+            int frameLimit = 0;
+            (function (_Frame _frame) returns int|error)? limitFunc = self.limitFunc;
+            if (f is _Frame && limitFunc !is ()) {
+                int|error lmt = limitFunc(f);
+                if (lmt is error) {
+                    return prepareQueryBodyError(lmt);
+                }
+                frameLimit = lmt;
+            }
+            handle frameSorter = createFrameSorter(frameLimit);
             // consume all events for ordering.
             while (f is _Frame) {
                 error? res = orderKeyFunc(f);
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                addFrameToSort(frameSorter, f, <any[]>(checkpanic f["$orderKey$"]),
+                        <any[]>(checkpanic f["$orderDirection$"]));
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
-        }
-
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+            orderedFrames = frameSorter;
+            self.orderedFrames = orderedFrames;
         }
-        return f;
+        return getNextSortedFrame(<handle>orderedFrames);
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.orderedFrames = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -628,90 +651,121 @@ class _OrderByFunction {
     }
 }
 
-type RowGroupedData record {|
-    readonly anydata groupingKey;
-    _Frame[] frames;
-|};
-
 class _GroupByFunction {
     *_StreamFunction;
 
     string[] keys;
     string[] nonGroupingKeys;
-    stream<_Frame>? groupedStream;
-    table<RowGroupedData> key(groupingKey) tbl;
+    # The aggregation that each non grouping key is folded into, or an empty string if its sequence is kept.
+    # A key is folded only if the compiler found that it is used solely as the argument of calls to that function.
+    string[] aggregations;
+    _Frame[]? groupedFrames;
+    int groupedFrameIndex = 0;
 
-    function init(string[] keys, string[] nonGroupingKeys) {
+    function init(string[] keys, string[] nonGroupingKeys, string[] aggregations) {
         self.keys = keys;
         self.nonGroupingKeys = nonGroupingKeys;
-        self.groupedStream = ();
-        self.tbl = table [];
+        self.aggregations = aggregations;
+        self.groupedFrames = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.groupedStream is ()) {
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame? f = check pf.process();
-            while f is _Frame {
-                anydata & readonly key = (check self.getKey(f)).cloneReadOnly();
-                if self.tbl.hasKey(key) {
-                    self.tbl.get(key).frames.push(f);
-                } else {
-                    self.tbl.add({groupingKey: key, frames: [f]});
-                }
-                f = check pf.process();
-            }
-            self.groupedStream = self.convertToStream(self.tbl);
+        _Frame[]? groupedFrames = self.groupedFrames;
+        if (groupedFrames is ()) {
+            groupedFrames = check self.group();
+            self.groupedFrames = groupedFrames;
+            self.groupedFrameIndex = 0;
         }
-
-        stream<_Frame> s = <stream<_Frame>>self.groupedStream;
-        record {|_Frame value;|}|error? next = s.next();
-        return next is record {|_Frame value;|} ? next.value : next;
+        _Frame[] frames = <_Frame[]>groupedFrames;
+        int i = self.groupedFrameIndex;
+        if (i < frames.length()) {
+            self.groupedFrameIndex = i + 1;
+            return frames[i];
+        }
+        return ();
     }
 
     public function reset() {
-        self.groupedStream = ();
+        self.groupedFrames = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
 
-    private function getKey(_Frame f) returns anydata|error {
-        anydata[] keys = [];
-        foreach var key in self.keys {
-            keys.push(<anydata> check f[key]);
-        }
-        return keys;
-    }
-
-    private function convertToStream(table<RowGroupedData> key(groupingKey) tbl) returns stream<_Frame> {
+    # Folds each frame into the grouped frame of its group as it arrives, so that only the grouping keys and the
+    # sequences of the non grouping keys are retained, rather than the frames themselves. Non grouping keys that are
+    # only aggregated are folded into a count, or into a sequence of the single value that the aggregation gives over
+    # the values seen so far, so that memory is bounded by the number of groups.
+    # + return - grouped frames, in the order their groups were first seen.
+    private function group() returns _Frame[]|error {
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        handle keyIndex = createFrameKeyIndex();
         _Frame[] groupedFrames = [];
-
-        foreach var entry in tbl {
-            _Frame groupedFrame = {};
-            _Frame firstFrame = entry.frames[0];
-            foreach var key in self.keys {
-                groupedFrame[key] = firstFrame[key];
-            }
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                groupedFrame[nonGroupingKey] = [];
+        _Frame? f = check pf.process();
+        while f is _Frame {
+            anydata key = check self.getKey(f);
+            int i = getFrameKey(keyIndex, key);
+            _Frame groupedFrame;
+            if (i < 0) {
+                // Keys of new groups are copied, as the values in the frame may change later.
+                _ = getOrAddFrameKey(keyIndex, key.cloneReadOnly());
+                groupedFrame = {};
+                foreach var k in self.keys {
+                    groupedFrame[k] = f[k];
+                }
+                foreach int j in 0 ..< self.nonGroupingKeys.length() {
+                    groupedFrame[self.nonGroupingKeys[j]] = self.aggregations[j] == "count" ? 0 : [];
+                }
+                groupedFrames.push(groupedFrame);
+            } else {
+                groupedFrame = groupedFrames[i];
             }
-            foreach var f in entry.frames {
-                foreach var nonGroupingKey in self.nonGroupingKeys {
-                    any|error sequenceValue = groupedFrame[nonGroupingKey];
-                    if sequenceValue is any {
-                        any|error val = f[nonGroupingKey];
-                        if val !is () {
-                            (<(any|error)[]> sequenceValue).push(val);
-                        }
+            foreach int j in 0 ..< self.nonGroupingKeys.length() {
+                string nonGroupingKey = self.nonGroupingKeys[j];
+                any|error sequenceValue = groupedFrame[nonGroupingKey];
+                if sequenceValue is any {
+                    any|error val = f[nonGroupingKey];
+                    if val !is () {
+                        self.addToGroup(groupedFrame, nonGroupingKey, self.aggregations[j], sequenceValue, val);
                     }
                 }
             }
-            groupedFrames.push(groupedFrame);
+            f = check pf.process();
+        }
+        return groupedFrames;
+    }
+
+    private function addToGroup(_Frame groupedFrame, string nonGroupingKey, string aggregation, any sequenceValue,
+            any|error val) {
+        if aggregation == "" {
+            (<(any|error)[]> sequenceValue).push(val);
+        } else if aggregation == "count" {
+            groupedFrame[nonGroupingKey] = <int> sequenceValue + 1;
+        } else {
+            (any|error)[] folded = <(any|error)[]> sequenceValue;
+            if folded.length() == 0 {
+                folded.push(foldAggregation(aggregation, (), <any> val));
+            } else if folded.length() == 1 {
+                any result = foldAggregation(aggregation, <any> folded[0], <any> val);
+                if result is () {
+                    // The aggregation fails over these two values in the same way whenever it is evaluated, so the
+                    // values that follow are not needed.
+                    folded.push(val);
+                } else {
+                    folded[0] = result;
+                }
+            }
         }
-        return groupedFrames.toStream();
+    }
+
+    private function getKey(_Frame f) returns anydata|error {
+        anydata[] keys = [];
+        foreach var key in self.keys {
+            keys.push(<anydata> check f[key]);
+        }
+        return keys;
     }
 }
 
@@ -833,6 +887,104 @@ class _OnConflictFunction {
     }
 }
 
+# Evaluates the input, let, where and select clauses of a query over partitions of an array on separate strands,
+# and produces the frames of all partitions in the order of the input.
+class _ParallelFunction {
+    *_StreamFunction;
+
+    Type[] input;
+    _StreamFunction[] stages;
+    int partitionCount;
+    string stageNames;
+    _Frame[]? frames;
+    error? failure = ();
+    int index = 0;
+
+    function init(Type[] input, _StreamFunction[] stages, int partitionCount, string stageNames) {
+        self.input = input;
+        self.stages = stages;
+        self.partitionCount = partitionCount;
+        self.stageNames = stageNames;
+        self.frames = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        _Frame[]? frames = self.frames;
+        if (frames is ()) {
+            frames = self.evaluate();
+            self.frames = frames;
+        }
+        _Frame[] evaluatedFrames = <_Frame[]>frames;
+        int i = self.index;
+        if (i < evaluatedFrames.length()) {
+            self.index = i + 1;
+            return evaluatedFrames[i];
+        }
+        error? failure = self.failure;
+        self.failure = ();
+        return failure;
+    }
+
+    public function reset() {
+        self.frames = ();
+        self.failure = ();
+        self.index = 0;
+    }
+
+    function evaluate() returns _Frame[] {
+        Type[] input = self.input;
+        int size = input.length();
+        int partitionCount = self.partitionCount;
+        handle partitions = createQueryPartitions(partitionCount, size, self.stageNames);
+        function (int partition) returns [_Frame[], error?] partitionFunc =
+                function (int partition) returns [_Frame[], error?] {
+            _StreamFunction pf = self.createPartitionPipeline(
+                    input.slice(size * partition / partitionCount, size * (partition + 1) / partitionCount));
+            _Frame[] partitionFrames = [];
+            _Frame|error? f = pf.process();
+            // Frames after the failure of an earlier partition are not part of the result.
+            while (f is _Frame && !isQueryPartitionSkipped(partitions, partition)) {
+                partitionFrames.push(f);
+                f = pf.process();
+            }
+            return [partitionFrames, f is error ? f : ()];
+        };
+        // Results of the partitions in order, up to the first failure, as the failure ends the query.
+        any[] results = runQueryPartitions(partitions, partitionFunc);
+
+        _Frame[] frames = [];
+        foreach any result in results {
+            var [partitionFrames, partitionFailure] = <[_Frame[], error?]>result;
+            frames.push(...partitionFrames);
+            if (partitionFailure is error) {
+                self.failure = partitionFailure;
+                break;
+            }
+        }
+        return frames;
+    }
+
+    function createPartitionPipeline(Type[] partition) returns _StreamFunction {
+        _StreamFunction pf = new _InitFunction(partition);
+        foreach _StreamFunction stage in self.stages {
+            _StreamFunction sf;
+            if (stage is _InputFunction) {
+                sf = new _InputFunction(stage.inputFunc);
+            } else if (stage is _LetFunction) {
+                sf = new _LetFunction(stage.letFunc);
+            } else if (stage is _FilterFunction) {
+                sf = new _FilterFunction(stage.filterFunc);
+            } else {
+                sf = new _SelectFunction((<_SelectFunction>stage).selectFunc);
+            }
+            sf.prevFunc = pf;
+            pf = sf;
+        }
+        return pf;
+    }
+}
+
 class _DoFunction {
     *_StreamFunction;
 
@@ -918,35 +1070,31 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle keyIndex;
+    _Frame[][] frames;
 
     function init() {
-        self.m = {};
+        self.keyIndex = createFrameKeyIndex();
+        self.frames = [];
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
+    function put(any k, _Frame v) {
+        int i = getOrAddFrameKey(self.keyIndex, k);
+        if (i < self.frames.length()) {
+            self.frames[i].push(v);
         } else {
-            self.m[k] = [v];
+            self.frames.push([v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
+    # Returns the frames put with a key equal to the given key.
+    # The returned array is not copied, and must not be modified.
+    function get(any k) returns _Frame[]? {
+        int i = getFrameKey(self.keyIndex, k);
+        if (i >= 0) {
+            return self.frames[i];
         }
     }
-
 }
 
 class IterHelper {
@@ -992,110 +1140,6 @@ class OnConflictIterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if (!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return - ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return - ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
-
 //Distinct error to identify errors thrown from query body
 public type Error distinct error;
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Folds the values of a non grouping variable of a group by clause into a single value as they arrive, when the
+ * variable is only used as the argument of a <code>sum</code>, <code>max</code> or <code>min</code> call.
+ * <p>
+ * The folded value is the value that the call would have computed over the values folded into it, in the same way as
+ * the lang library functions compute it, so that the call gives the same result when it is evaluated over the folded
+ * value alone.
+ *
+ * @since 2201.10.0
+ */
+public final class Aggregation {
+
+    private static final String SUM = "sum";
+    private static final String MAX = "max";
+
+    private Aggregation() {
+    }
+
+    /**
+     * Folds a value into the value folded so far.
+     *
+     * @param function name of the lang library function of the aggregation
+     * @param folded   value folded so far, or nil for the first value
+     * @param value    value to fold
+     * @return newly folded value, or nil if computing the aggregation over the two values fails, in which case the
+     * call fails in the same way when it is evaluated over them
+     */
+    public static Object fold(BString function, Object folded, Object value) {
+        String name = function.getValue();
+        if (SUM.equals(name)) {
+            return sum(folded, value);
+        }
+        boolean max = MAX.equals(name);
+        if (folded == null) {
+            return value;
+        }
+        if (value instanceof Double x) {
+            double current = (Double) folded;
+            return max ? Math.max(x, current) : Math.min(x, current);
+        }
+        int comparison;
+        if (value instanceof BDecimal x) {
+            comparison = x.value().compareTo(((BDecimal) folded).value());
+        } else {
+            // Values of subtypes of int, such as byte, are not always held as longs
+            comparison = Long.compare(((Number) value).longValue(), ((Number) folded).longValue());
+        }
+        return (max ? comparison >= 0 : comparison <= 0) ? value : folded;
+    }
+
+    private static Object sum(Object folded, Object value) {
+        if (value instanceof Long x) {
+            try {
+                return folded == null ? x : Math.addExact((Long) folded, x);
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+        if (value instanceof Double x) {
+            return (folded == null ? 0.0 : (Double) folded) + x;
+        }
+        BDecimal sum = folded == null ? ValueCreator.createDecimalValue(BigDecimal.ZERO) : (BDecimal) folded;
+        try {
+            return sum.add((BDecimal) value);
+        } catch (BError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the distinct keys of frames, used to match the frames of join clauses and to group frames in group by
+ * clauses.
+ * <p>
+ * Keys are compared with the semantics of the <code>==</code> operator, as required for the <code>equals</code> of a
+ * join clause and for grouping keys, and hashed consistently with it. Each distinct key is given the position of its
+ * frames, which are kept on the ballerina side.
+ *
+ * @since 2201.10.0
+ */
+public final class FrameKeyIndex {
+
+    // Structured keys are only hashed up to this depth, which also keeps cyclic values from being walked forever.
+    private static final int MAX_HASH_DEPTH = 4;
+
+    private final Map<FrameKey, Long> positions = new HashMap<>();
+
+    /**
+     * Returns the position of the given key, adding it at the next position if the key has not been seen.
+     *
+     * @param key key
+     * @return position of the key
+     */
+    public long getOrAdd(Object key) {
+        return positions.computeIfAbsent(new FrameKey(key, hash(key, 0)), k -> (long) positions.size());
+    }
+
+    /**
+     * Returns the position of the given key.
+     *
+     * @param key key
+     * @return position of the key, or -1 if the key has not been added
+     */
+    public long get(Object key) {
+        Long position = positions.get(new FrameKey(key, hash(key, 0)));
+        return position == null ? -1 : position;
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // Bytes are equal to ints of the same value.
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double doubleValue) {
+            // -0.0 is equal to 0.0, and all NaNs are equal.
+            return doubleValue == 0 ? 0 : Double.hashCode(doubleValue);
+        }
+        if (value instanceof Boolean || value instanceof BString) {
+            return value.hashCode();
+        }
+        if (value instanceof BDecimal decimal) {
+            // Decimals with the same value but different precision are equal, and non-real decimals are never equal.
+            DecimalValueKind kind = decimal.getValueKind();
+            return kind == DecimalValueKind.ZERO || kind == DecimalValueKind.OTHER ?
+                    decimal.decimalValue().stripTrailingZeros().hashCode() : 0;
+        }
+        if (value instanceof BObject) {
+            return System.identityHashCode(value);
+        }
+        if (depth == MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof BArray array) {
+            int result = 1;
+            for (long i = 0; i < array.getLength(); i++) {
+                result = 31 * result + hash(array.get(i), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BMap<?, ?> map) {
+            // Mappings are equal regardless of the order of their fields.
+            int result = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                result += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        // Remaining values, such as xml and tables, are only compared for equality.
+        return 0;
+    }
+
+    private record FrameKey(Object value, int hash) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof FrameKey other && hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Orders the frames of an order by clause on their order keys.
+ * <p>
+ * Frames with equal keys keep the order in which they were added. When the order by clause is followed by a limit
+ * clause, only as many frames as the limit are retained, in a heap whose head is the frame that would be dropped
+ * first.
+ *
+ * @since 2201.10.0
+ */
+public final class FrameSorter {
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private final int limit;
+    private final List<OrderedFrame> frames = new ArrayList<>();
+    private PriorityQueue<OrderedFrame> retained;
+    private boolean[] ascending;
+    private long count = 0;
+    private int next = -1;
+
+    /**
+     * Creates a sorter for the frames of an order by clause.
+     *
+     * @param limit maximum number of frames required after ordering, or a value less than 1 if all are required
+     */
+    public FrameSorter(long limit) {
+        this.limit = limit < 1 || limit > Integer.MAX_VALUE ? 0 : (int) limit;
+    }
+
+    /**
+     * Adds a frame to be ordered.
+     *
+     * @param frame      frame
+     * @param keys       values of the order keys of the frame
+     * @param directions whether each order key is ascending
+     */
+    public void add(BMap<BString, Object> frame, BArray keys, BArray directions) {
+        if (ascending == null) {
+            ascending = new boolean[(int) directions.getLength()];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = (Boolean) directions.get(i);
+            }
+        }
+        OrderedFrame orderedFrame = new OrderedFrame(frame, keys, count++);
+        if (limit == 0) {
+            frames.add(orderedFrame);
+            return;
+        }
+        if (retained == null) {
+            Comparator<OrderedFrame> order = this::compare;
+            retained = new PriorityQueue<>(Math.min(limit, 1024), order.reversed());
+        }
+        if (retained.size() < limit) {
+            retained.add(orderedFrame);
+        } else if (compare(orderedFrame, retained.peek()) < 0) {
+            retained.poll();
+            retained.add(orderedFrame);
+        }
+    }
+
+    /**
+     * Returns the next frame in order. The frames are ordered on the first call.
+     *
+     * @return next frame, or null if there are no more frames
+     */
+    public Object next() {
+        if (next < 0) {
+            if (retained != null) {
+                frames.addAll(retained);
+                retained = null;
+            }
+            frames.sort(this::compare);
+            next = 0;
+        }
+        if (next == frames.size()) {
+            return null;
+        }
+        // Release the frame, as it is not needed once returned.
+        return frames.set(next++, null).frame;
+    }
+
+    private int compare(OrderedFrame f1, OrderedFrame f2) {
+        for (int i = 0; i < ascending.length; i++) {
+            Object k1 = f1.keys.get(i);
+            Object k2 = f2.keys.get(i);
+            int result = ascending[i] ? ValueComparisonUtils.compareValues(k1, k2, ASCENDING) :
+                    ValueComparisonUtils.compareValues(k2, k1, DESCENDING);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(f1.position, f2.position);
+    }
+
+    private record OrderedFrame(BMap<BString, Object> frame, BArray keys, long position) {
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.AsyncUtils;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
+
+/**
+ * Runs the partitions of a query evaluated in parallel, each on a strand of its own.
+ * <p>
+ * Each partition returns a tuple of the frames it produced and the error that ended it, if any. Once a partition
+ * fails, the partitions after it are skipped, as a sequential evaluation would not get past the failure. The frames
+ * read and produced by parallel queries, and the time taken to produce them, are reported as metrics tagged with the
+ * stages of the query.
+ *
+ * @since 2201.10.0
+ */
+public final class QueryPartitions {
+
+    private static final StrandMetadata METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX, "lang.query",
+                                                                      "0.0.1", "parallel");
+    private static final ArrayType RESULTS_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+
+    private final int partitionCount;
+    private final long inputSize;
+    private final String stages;
+    // Index of the first partition known to have failed
+    private final AtomicLong failedPartition = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger remaining;
+    private final Partition[] partitions;
+    private Strand parent;
+    private CompletableFuture<Object> future;
+    private long startTime;
+
+    /**
+     * Creates the partitions of a query.
+     *
+     * @param partitionCount number of partitions
+     * @param inputSize      number of frames read by all partitions
+     * @param stages         names of the stages of the query, used to tag the metrics of the query
+     */
+    public QueryPartitions(long partitionCount, long inputSize, BString stages) {
+        this.partitionCount = (int) partitionCount;
+        this.inputSize = inputSize;
+        this.stages = stages.getValue();
+        this.remaining = new AtomicInteger(this.partitionCount);
+        this.partitions = new Partition[this.partitionCount];
+        for (int i = 0; i < this.partitionCount; i++) {
+            partitions[i] = new Partition(i);
+        }
+    }
+
+    /**
+     * Returns the maximum number of partitions the input of a query is split into, which is the number of threads of
+     * the scheduler running the current strand, bounded by the number of processors.
+     *
+     * @return maximum number of partitions
+     */
+    public static long getParallelism() {
+        return Math.min(Scheduler.getStrand().scheduler.getNumThreads(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns whether the given partition can stop, as an earlier partition has failed.
+     *
+     * @param partition index of the partition
+     * @return true if the partition is skipped
+     */
+    public boolean isSkipped(long partition) {
+        return partition > failedPartition.get();
+    }
+
+    /**
+     * Runs the given function for each partition, and resumes the current strand with the results of the partitions
+     * in order once all of them have completed. The current strand panics instead if a partition panicked before any
+     * earlier partition failed.
+     *
+     * @param partitionFunc function evaluating the partition at the given index
+     */
+    public void run(BFunctionPointer<Object, Object> partitionFunc) {
+        parent = Scheduler.getStrand();
+        future = AsyncUtils.markAsync();
+        startTime = System.nanoTime();
+        for (Partition partition : partitions) {
+            parent.scheduler.scheduleFunction(new Object[]{null, (long) partition.index, true}, partitionFunc,
+                    parent, PredefinedTypes.TYPE_ANY, null, METADATA, partition);
+        }
+    }
+
+    private void complete() {
+        if (remaining.decrementAndGet() > 0) {
+            return;
+        }
+        // Take the results in order up to the first failure, which ends the query as in a sequential evaluation
+        List<Object> results = new ArrayList<>(partitionCount);
+        long outputSize = 0;
+        BError panic = null;
+        for (Partition partition : partitions) {
+            if (partition.panic != null) {
+                panic = partition.panic;
+                break;
+            }
+            BArray result = (BArray) partition.result;
+            results.add(result);
+            outputSize += ((BArray) result.get(0)).size();
+            if (partition.failed) {
+                break;
+            }
+        }
+        report(outputSize, System.nanoTime() - startTime);
+        if (panic != null) {
+            parent.panic = panic;
+            parent.scheduler.unblockStrand(parent);
+            return;
+        }
+        future.complete(ValueCreator.createArrayValue(results.toArray(), RESULTS_TYPE));
+    }
+
+    private void report(long outputSize, long duration) {
+        Counter.builder("query_parallel_input_frames_total")
+                .description("Number of frames read by queries evaluated in parallel")
+                .tag("stages", stages).register().increment(inputSize);
+        Counter.builder("query_parallel_output_frames_total")
+                .description("Number of frames produced by queries evaluated in parallel")
+                .tag("stages", stages).register().increment(outputSize);
+        Counter.builder("query_parallel_time_nanoseconds_total")
+                .description("Time taken to evaluate queries in parallel")
+                .tag("stages", stages).register().increment(duration);
+    }
+
+    /**
+     * Receives the result of a partition, from the strand evaluating it.
+     */
+    private final class Partition implements Callback {
+
+        private final int index;
+        private Object result;
+        private BError panic;
+        private boolean failed;
+
+        Partition(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void notifySuccess(Object result) {
+            this.result = result;
+            if (((BArray) result).get(1) instanceof BError) {
+                fail();
+            }
+            QueryPartitions.this.complete();
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            this.panic = error;
+            fail();
+            QueryPartitions.this.complete();
+        }
+
+        private void fail() {
+            failed = true;
+            failedPartition.accumulateAndGet(index, Math::min);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+/**
+ * Looks up the rows of a table by the value of a field, used for a <code>where</code> clause that compares a
+ * read-only field of the rows of the input table with a value that does not change during the query.
+ *
+ * @since 2201.10.0
+ */
+public final class TableFieldIndex {
+
+    private TableFieldIndex() {
+    }
+
+    /**
+     * Returns the rows of the given table whose given field is equal to the given value, in table order.
+     *
+     * @param table     table to look the rows up in
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return matching rows
+     */
+    public static BArray getRows(BTable<?, ?> table, BString fieldName, Object value) {
+        TableType tableType = (TableType) TypeUtils.getImpliedType(table.getType());
+        Object[] rows = ((TableValueImpl<?, ?>) table).getRowsWithFieldValue(fieldName, value).toArray();
+        return ValueCreator.createArrayValue(rows, TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+}
@@ -1517,6 +1517,37 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    float[] arr = [0.0, float:NaN, 2.5, -0.0, -1.0, 0.0];
+
+    float[] sortedArr = arr.sort();
+    assertValueEquality(sortedArr, [-1.0, 0.0, 0.0, 0.0, 2.5, float:NaN]);
+    float[] zeroSigns = from int i in 1 ... 3 select 1.0 / sortedArr[i];
+    assertValueEquality(zeroSigns, [float:Infinity, -float:Infinity, float:Infinity]);
+
+    float[] sortedArr2 = arr.sort(array:DESCENDING);
+    assertValueEquality(sortedArr2, [2.5, 0.0, 0.0, 0.0, -1.0, float:NaN]);
+    zeroSigns = from int i in 1 ... 3 select 1.0 / sortedArr2[i];
+    assertValueEquality(zeroSigns, [float:Infinity, -float:Infinity, float:Infinity]);
+
+    byte[] arr2 = [255, 0, 128, 7, 255];
+    assertValueEquality(arr2.sort(), [0, 7, 128, 255, 255]);
+    assertValueEquality(arr2.sort(array:DESCENDING), [255, 255, 128, 7, 0]);
+
+    string[] arr3 = ["\u{1F600}", "\u{FFFD}", "b", "", "ab"];
+    assertValueEquality(arr3.sort(), ["", "ab", "b", "\u{FFFD}", "\u{1F600}"]);
+    assertValueEquality(arr3.sort(array:DESCENDING), ["\u{1F600}", "\u{FFFD}", "b", "ab", ""]);
+
+    int[] arr4 = [3, -7, 9223372036854775807, 0, -9223372036854775807 - 1];
+    assertValueEquality(arr4.sort(array:DESCENDING), [9223372036854775807, 3, 0, -7, -9223372036854775807 - 1]);
+
+    string[] arr5 = ["bb", "a", "cc", "d", "ee"];
+    assertValueEquality(arr5.sort(array:ASCENDING, s => s.length()), ["a", "d", "bb", "cc", "ee"]);
+    assertValueEquality(arr5.sort(array:DESCENDING, s => s.length()), ["bb", "cc", "ee", "a", "d"]);
+    assertValueEquality(arr5.sort(array:ASCENDING, s => s.length() % 2 == 0 ? float:NaN : 1.0),
+            ["a", "d", "bb", "cc", "ee"]);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
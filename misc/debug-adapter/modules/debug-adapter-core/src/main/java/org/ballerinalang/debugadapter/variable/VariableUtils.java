@@ -20,14 +20,17 @@ import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
+import com.sun.jdi.StringReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.jdi.LocalVariableProxyImpl;
 
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,6 +45,9 @@ public class VariableUtils {
     public static final String FIELD_TYPE = "type";
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_LEFT = "left";
+    private static final String FIELD_RIGHT = "right";
     public static final String FIELD_PACKAGE = "pkg";
     public static final String FIELD_PKG_ORG = "org";
     public static final String FIELD_PKG_NAME = "name";
@@ -147,6 +153,9 @@ public class VariableUtils {
             if (!(stringValue instanceof ObjectReference stringRef)) {
                 return UNKNOWN_VALUE;
             }
+            if (stringRef.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())) {
+                return getRopeStringFrom(stringRef);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -162,6 +171,43 @@ public class VariableUtils {
         }
     }
 
+    /**
+     * Returns the string value of a ballerina jvm rope string, by reading the string values of its parts.
+     *
+     * @param ropeRef JDI value of the rope string instance
+     * @return actual string.
+     */
+    private static String getRopeStringFrom(ObjectReference ropeRef) throws DebugVariableException {
+        StringBuilder builder = new StringBuilder();
+        Deque<Value> pending = new ArrayDeque<>();
+        pending.push(ropeRef);
+        while (!pending.isEmpty()) {
+            Value part = pending.pop();
+            if (part instanceof ObjectReference ref
+                    && ref.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())) {
+                part = getFieldValue(ref, FIELD_CONTENT).orElse(null);
+            }
+            if (!(part instanceof ObjectReference partRef)) {
+                return UNKNOWN_VALUE;
+            }
+            if (partRef.referenceType().fieldByName(FIELD_LEFT) != null) {
+                // Parts of a rope that has not been flattened yet
+                Optional<Value> left = getFieldValue(partRef, FIELD_LEFT);
+                Optional<Value> right = getFieldValue(partRef, FIELD_RIGHT);
+                if (left.isEmpty() || right.isEmpty()) {
+                    return UNKNOWN_VALUE;
+                }
+                pending.push(right.get());
+                pending.push(left.get());
+            } else if (getFieldValue(partRef, FIELD_VALUE).orElse(null) instanceof StringReference strRef) {
+                builder.append(strRef.value());
+            } else {
+                return UNKNOWN_VALUE;
+            }
+        }
+        return builder.toString();
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
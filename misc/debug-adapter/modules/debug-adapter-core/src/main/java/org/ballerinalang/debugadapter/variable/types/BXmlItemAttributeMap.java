@@ -17,12 +17,15 @@
 package org.ballerinalang.debugadapter.variable.types;
 
 import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Method;
+import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BVariableType;
 import org.ballerinalang.debugadapter.variable.NamedCompoundVariable;
 import org.ballerinalang.debugadapter.variable.VariableUtils;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,9 +36,8 @@ import java.util.Optional;
  */
 public class BXmlItemAttributeMap extends NamedCompoundVariable {
 
-    private static final String FIELD_MAP_DATA = "table";
-    private static final String FIELD_MAP_KEY = "key";
-    private static final String FIELD_MAP_VALUE = "value";
+    private static final String METHOD_GET_KEYS = "getKeys";
+    private static final String METHOD_GET = "get";
 
     public BXmlItemAttributeMap(SuspendedContext context, String name, Value value) {
         super(context, name, BVariableType.MAP, value);
@@ -50,18 +52,15 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
     public Map<String, Value> computeChildVariables() {
         Map<String, Value> childVarMap = new LinkedHashMap<>();
         try {
-            Optional<Value> mapValues = VariableUtils.getFieldValue(jvmValue, FIELD_MAP_DATA);
-            if (mapValues.isEmpty()) {
+            Optional<Method> getMethod = VariableUtils.getMethod(jvmValue, METHOD_GET);
+            if (getMethod.isEmpty()) {
                 return childVarMap;
             }
-            for (Value map : ((ArrayReference) mapValues.get()).getValues()) {
-                if (map != null) {
-                    Optional<Value> mapKey = VariableUtils.getFieldValue(map, FIELD_MAP_KEY);
-                    Optional<Value> mapValue = VariableUtils.getFieldValue(map, FIELD_MAP_VALUE);
-                    if (mapKey.isPresent() && mapValue.isPresent()) {
-                        childVarMap.put(VariableUtils.getStringFrom(mapKey.get()), mapValue.get());
-                    }
-                }
+            for (Value key : getKeys()) {
+                Value value = ((ObjectReference) jvmValue).invokeMethod(
+                        context.getOwningThread().getThreadReference(), getMethod.get(),
+                        Collections.singletonList(key), ObjectReference.INVOKE_SINGLE_THREADED);
+                childVarMap.put(VariableUtils.getStringFrom(key), value);
             }
             return childVarMap;
         } catch (Exception ignored) {
@@ -72,14 +71,19 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
     @Override
     public int getChildrenCount() {
         try {
-            Optional<Value> mapValues = VariableUtils.getFieldValue(jvmValue, FIELD_MAP_DATA);
-            if (mapValues.isEmpty()) {
-                return 0;
-            }
-            List<Value> attributesMap = ((ArrayReference) mapValues.get()).getValues();
-            return attributesMap.size();
+            return getKeys().size();
         } catch (Exception ignored) {
             return 0;
         }
     }
+
+    private List<Value> getKeys() throws Exception {
+        Optional<Method> getKeysMethod = VariableUtils.getMethod(jvmValue, METHOD_GET_KEYS);
+        if (getKeysMethod.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Value keyArray = ((ObjectReference) jvmValue).invokeMethod(context.getOwningThread().getThreadReference(),
+                getKeysMethod.get(), Collections.emptyList(), ObjectReference.INVOKE_SINGLE_THREADED);
+        return ((ArrayReference) keyArray).getValues();
+    }
 }
@@ -23,11 +23,15 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An implementation of {@link Gauge}.
+ * <p>
+ * The value is updated without locking, and each resulting value is recorded in striped adders and in the rolling
+ * histograms, which are themselves safe to record into concurrently.
  *
  * @since 0.980.0
  */
@@ -38,7 +42,8 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    // Bits of the current value, as given by Double#doubleToRawLongBits
+    private final AtomicLong value = new AtomicLong(Double.doubleToRawLongBits(0));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -68,33 +73,32 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(add(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        this.value.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
+        return Double.longBitsToDouble(value.get());
+    }
+
+    private double add(double amount) {
+        while (true) {
+            long current = value.get();
+            double next = Double.longBitsToDouble(current) + amount;
+            if (value.compareAndSet(current, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
         }
     }
 
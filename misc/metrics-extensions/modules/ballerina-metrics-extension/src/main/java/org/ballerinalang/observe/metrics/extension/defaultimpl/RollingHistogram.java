@@ -109,7 +109,10 @@ public class RollingHistogram {
                 recorder.recordValue(value);
             }
         } finally {
-            accumulatedHistogramStale = true;
+            // Avoid writing the shared flag on every record, as it is only cleared when a snapshot is taken.
+            if (!accumulatedHistogramStale) {
+                accumulatedHistogramStale = true;
+            }
         }
     }
 
@@ -26,6 +26,9 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 /**
@@ -72,4 +75,19 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeIncrement() throws InterruptedException {
+        Gauge gauge = Gauge.builder("test_concurrent_gauge").description("Test Gauge")
+                .register(metricRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        IntStream.range(0, 4000).forEach(i -> executor.execute(() -> {
+            gauge.increment(2D);
+            gauge.decrement();
+        }));
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(gauge.getValue(), 4000D);
+        Assert.assertEquals(gauge.getCount(), 8000);
+    }
+
 }
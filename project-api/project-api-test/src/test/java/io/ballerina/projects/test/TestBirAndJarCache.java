@@ -31,9 +31,15 @@ import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
 import io.ballerina.projects.internal.model.Target;
+import io.ballerina.projects.repos.BuildProjectCompilationCache;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.CompileResult;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -42,7 +48,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.ProjectConstants.BLANG_COMPILED_JAR_EXT;
@@ -121,6 +129,122 @@ public class TestBirAndJarCache {
         Assert.assertFalse(Files.exists(cacheDir.resolve(jBallerinaBackend.targetPlatform().code())));
     }
 
+    @Test(description = "tests that an unchanged module is loaded from the cache")
+    public void testCacheHitForUnchangedModules() throws IOException {
+        Path projectPath = copyIncrementalBuildProject();
+        Assert.assertEquals(buildWithCache(projectPath, true), List.of("incremental", "incremental.services",
+                "incremental.storage", "incremental.utils"));
+        Assert.assertEquals(buildWithCache(projectPath, true), List.of());
+    }
+
+    @Test(description = "tests that only the edited module and the modules importing it are compiled again")
+    public void testCacheMissAfterEdit() throws IOException {
+        Path projectPath = copyIncrementalBuildProject();
+        buildWithCache(projectPath, true);
+
+        Files.writeString(projectPath.resolve("modules/utils/utils.bal"),
+                "public function log(string message) {\n    string _ = message + \"!\";\n}\n");
+        Assert.assertEquals(buildWithCache(projectPath, true), List.of("incremental", "incremental.utils"));
+        Assert.assertEquals(buildWithCache(projectPath, true), List.of());
+    }
+
+    @Test(description = "tests that the modules depending on a changed module are compiled again")
+    public void testDependentsRebuiltAfterDependencyChange() throws IOException {
+        Path projectPath = copyIncrementalBuildProject();
+        buildWithCache(projectPath, true);
+
+        Files.writeString(projectPath.resolve("modules/storage/db.bal"),
+                "public function initDatabase() {\n    int _ = 20;\n}\n");
+        Assert.assertEquals(buildWithCache(projectPath, true),
+                List.of("incremental", "incremental.services", "incremental.storage"));
+    }
+
+    @Test(description = "tests that all modules are compiled again when a build option changes")
+    public void testCacheMissAfterBuildOptionChange() throws IOException {
+        Path projectPath = copyIncrementalBuildProject();
+        buildWithCache(projectPath, true);
+
+        Assert.assertEquals(buildWithCache(projectPath, false), List.of("incremental", "incremental.services",
+                "incremental.storage", "incremental.utils"));
+        Assert.assertEquals(buildWithCache(projectPath, false), List.of());
+    }
+
+    @Test(description = "tests that the cache of a build with tests is used by a build without tests")
+    public void testCacheHitAfterBuildWithTests() throws IOException {
+        Path projectPath = copyIncrementalBuildProject();
+        buildWithCache(projectPath, false);
+
+        Assert.assertEquals(buildWithCache(projectPath, true), List.of());
+        Assert.assertEquals(buildWithCache(projectPath, false), List.of());
+    }
+
+    @Test(description = "tests that the modules importing a changed dependency of another package are compiled again")
+    public void testDependentsRebuiltAfterDependencyBirChange() throws IOException {
+        Path resourcesPath = Files.createTempDirectory("incremental-build-with-dependency" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("project_for_incremental_build_with_dependency").toFile(),
+                resourcesPath.toFile());
+        Path userHome = resourcesPath.resolve("user-home");
+        Path centralCache = userHome.resolve("repositories/central.ballerina.io");
+        Path projectPath = resourcesPath.resolve("app");
+
+        cacheBala(resourcesPath.resolve("greetings_v1"), centralCache, userHome);
+        Assert.assertEquals(buildWithCache(projectPath, true, userHome), List.of("app", "app.utils"));
+        Assert.assertEquals(buildWithCache(projectPath, true, userHome), List.of());
+
+        // The same version of the dependency is published again with a different implementation
+        cacheBala(resourcesPath.resolve("greetings_v2"), centralCache, userHome);
+        Assert.assertEquals(buildWithCache(projectPath, true, userHome), List.of("app"));
+        Assert.assertEquals(buildWithCache(projectPath, true, userHome), List.of());
+    }
+
+    private static void cacheBala(Path packagePath, Path repoPath, Path userHome) {
+        CompileResult compileResult = BCompileUtil.compileAndCacheBala(packagePath, repoPath,
+                createEnvironmentBuilder(userHome));
+        Assert.assertFalse(compileResult.getDiagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(compileResult.getDiagnosticResult()));
+    }
+
+    private static ProjectEnvironmentBuilder createEnvironmentBuilder(Path userHome) {
+        Environment environment = EnvironmentBuilder.getBuilder().setUserHome(userHome).build();
+        return ProjectEnvironmentBuilder.getBuilder(environment);
+    }
+
+    private static Path copyIncrementalBuildProject() throws IOException {
+        Path projectPath = Files.createTempDirectory("incremental-build" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("project_for_incremental_build").toFile(),
+                projectPath.toFile());
+        return projectPath;
+    }
+
+    private static List<String> buildWithCache(Path projectPath, boolean skipTests) {
+        return buildWithCache(projectPath, skipTests, ProjectEnvironmentBuilder.getDefaultBuilder());
+    }
+
+    private static List<String> buildWithCache(Path projectPath, boolean skipTests, Path userHome) {
+        return buildWithCache(projectPath, skipTests, createEnvironmentBuilder(userHome));
+    }
+
+    /**
+     * Builds the project with the compilation cache enabled.
+     *
+     * @return sorted names of the modules compiled from sources
+     */
+    private static List<String> buildWithCache(Path projectPath, boolean skipTests,
+                                               ProjectEnvironmentBuilder environmentBuilder) {
+        CountingCompilationCacheFactory cacheFactory = new CountingCompilationCacheFactory();
+        environmentBuilder.addCompilationCacheFactory(cacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).setSkipTests(skipTests).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(compilation.diagnosticResult()));
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        return cacheFactory.compilationCache.compiledModules.stream().sorted().toList();
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -168,4 +292,79 @@ public class TestBirAndJarCache {
             jarCachedCount++;
         }
     }
+
+    /**
+     * A {@code CompilationCacheFactory} which records the modules compiled into the cache of a build project.
+     */
+    private static class CountingCompilationCacheFactory implements CompilationCacheFactory {
+        private CountingCompilationCache compilationCache;
+
+        @Override
+        public CompilationCache createCompilationCache(Project project) {
+            compilationCache = new CountingCompilationCache(project);
+            return compilationCache;
+        }
+    }
+
+    /**
+     * A {@code CompilationCache} which delegates to the cache of a build project and records the modules whose BIRs
+     * are cached.
+     */
+    private static class CountingCompilationCache extends CompilationCache {
+        private final List<String> compiledModules = new ArrayList<>();
+        private final BuildProjectCompilationCache delegate;
+
+        CountingCompilationCache(Project project) {
+            super(project);
+            this.delegate = BuildProjectCompilationCache.from(project);
+        }
+
+        @Override
+        public byte[] getBir(ModuleName moduleName) {
+            return delegate.getBir(moduleName);
+        }
+
+        @Override
+        public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+            delegate.cacheBir(moduleName, birContent);
+            compiledModules.add(moduleName.toString());
+        }
+
+        @Override
+        public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
+            return delegate.getPlatformSpecificLibrary(compilerBackend, libraryName);
+        }
+
+        @Override
+        public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                 String libraryName,
+                                                 ByteArrayOutputStream libraryContent) {
+            delegate.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+        }
+
+        @Override
+        public Optional<String> getInputHash(ModuleName moduleName) {
+            return delegate.getInputHash(moduleName);
+        }
+
+        @Override
+        public void cacheInputHash(ModuleName moduleName, String inputHash) {
+            delegate.cacheInputHash(moduleName, inputHash);
+        }
+
+        @Override
+        public Optional<String> getTestInputHash(ModuleName moduleName) {
+            return delegate.getTestInputHash(moduleName);
+        }
+
+        @Override
+        public void cacheTestInputHash(ModuleName moduleName, String testInputHash) {
+            delegate.cacheTestInputHash(moduleName, testInputHash);
+        }
+
+        @Override
+        public void removeInputHash(ModuleName moduleName) {
+            delegate.removeInputHash(moduleName);
+        }
+    }
 }
@@ -0,0 +1,7 @@
+import incremental.services;
+import incremental.utils;
+
+public function main() {
+    services:runServices();
+    utils:log("started");
+}
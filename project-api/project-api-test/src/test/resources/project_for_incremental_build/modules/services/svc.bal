@@ -0,0 +1,5 @@
+import incremental.storage;
+
+public function runServices() {
+    storage:initDatabase();
+}
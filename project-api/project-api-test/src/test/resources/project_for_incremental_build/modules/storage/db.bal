@@ -0,0 +1,3 @@
+public function initDatabase() {
+    int _ = 10;
+}
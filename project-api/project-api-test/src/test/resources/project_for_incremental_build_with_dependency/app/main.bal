@@ -0,0 +1,6 @@
+import app.utils;
+import sameera/greetings;
+
+public function main() {
+    utils:log(greetings:greet("world"));
+}
@@ -0,0 +1,3 @@
+public function log(string message) {
+    string _ = message;
+}
@@ -23,10 +23,26 @@ package io.ballerina.semtype;
  * @since 2.0.0
  */
 public class BddMemo {
-    Bdd bddNode;
+    final Bdd bddNode;
     MemoStatus isEmpty;
 
+    private BddMemo(Bdd bddNode) {
+        this.bddNode = bddNode;
+        this.isEmpty = MemoStatus.NOT_SET;
+    }
+
+    public static BddMemo from(Bdd bddNode) {
+        return new BddMemo(bddNode);
+    }
+
+    /**
+     * Status of the emptiness of a BDD.
+     * <p>
+     * {@code PROVISIONAL} marks a BDD whose emptiness is being computed, or was computed as empty while relying on the
+     * emptiness of a BDD that was still being computed. {@code LOOP} marks a BDD that was reached again while its
+     * emptiness was being computed, and {@code CYCLIC} marks one that was found empty only through such a loop.
+     */
     enum MemoStatus {
-        NOT_SET, TRUE, FALSE
+        NOT_SET, TRUE, FALSE, PROVISIONAL, LOOP, CYCLIC
     }
 }
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append only list, which threads add to and read from without locking.
+ * <p>
+ * Elements are held in chunks that double in size, which are created as the list grows and never moved, so that an
+ * index reserved by one thread is set and read by others while more elements are added.
+ *
+ * @param <E> type of the elements
+ * @since 2.0.0
+ */
+final class ConcurrentAppendList<E> {
+
+    private static final int FIRST_CHUNK_BITS = 5;
+    private static final int MAX_CHUNKS = Integer.SIZE - FIRST_CHUNK_BITS;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<E>> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add, which may be null until it is set
+     * @return index of the element
+     */
+    int add(E element) {
+        int index = size.getAndIncrement();
+        if (index < 0 || index > Integer.MAX_VALUE - (1 << FIRST_CHUNK_BITS)) {
+            throw new IllegalStateException("too many elements");
+        }
+        set(index, element);
+        return index;
+    }
+
+    void set(int index, E element) {
+        int position = index + (1 << FIRST_CHUNK_BITS);
+        int chunkIndex = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_CHUNK_BITS;
+        AtomicReferenceArray<E> chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunks.compareAndSet(chunkIndex, null, new AtomicReferenceArray<>(1 << (chunkIndex + FIRST_CHUNK_BITS)));
+            chunk = chunks.get(chunkIndex);
+        }
+        chunk.set(position - chunk.length(), element);
+    }
+
+    E get(int index) {
+        if (index < 0 || index >= size.get()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        int position = index + (1 << FIRST_CHUNK_BITS);
+        int chunkIndex = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_CHUNK_BITS;
+        AtomicReferenceArray<E> chunk = chunks.get(chunkIndex);
+        // The chunk of an index that is reserved but not yet set may not be created yet
+        return chunk == null ? null : chunk.get(position - chunk.length());
+    }
+
+    int size() {
+        return size.get();
+    }
+}
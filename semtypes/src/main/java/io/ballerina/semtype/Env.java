@@ -17,30 +17,88 @@
  */
 package io.ballerina.semtype;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Env node.
+ * <p>
+ * An env is shared by the modules compiled with it, which may be compiled in parallel. Atoms are interned without
+ * locking, recursive atoms are added to append only lists, and the emptiness of BDDs found by a type check context
+ * is shared with the other contexts of the env once it is known for certain.
  *
  * @since 2.0.0
  */
 public class Env {
-    private final HashMap<AtomicType, TypeAtom> atomTable;
-    private final ArrayList<ListAtomicType> recListAtoms;
-    private final ArrayList<MappingAtomicType> recMappingAtoms;
-    private final ArrayList<FunctionAtomicType> recFunctionAtoms;
+    private final Map<AtomicType, TypeAtom> atomTable;
+    private final AtomicLong nextAtomIndex;
+    private final ConcurrentAppendList<ListAtomicType> recListAtoms;
+    private final ConcurrentAppendList<MappingAtomicType> recMappingAtoms;
+    private final ConcurrentAppendList<FunctionAtomicType> recFunctionAtoms;
+    final Map<Bdd, Boolean> listMemo = new ConcurrentHashMap<>();
+    final Map<Bdd, Boolean> mappingMemo = new ConcurrentHashMap<>();
+    final Map<Bdd, Boolean> functionMemo = new ConcurrentHashMap<>();
 
     public Env() {
-        this.atomTable = new HashMap<>();
+        this.atomTable = new ConcurrentHashMap<>();
+        this.nextAtomIndex = new AtomicLong();
         // Set up index 0 for use by bddFixReadOnly
-        this.recListAtoms = new ArrayList<>();
+        this.recListAtoms = new ConcurrentAppendList<>();
         this.recListAtoms.add(ListAtomicType.LIST_SUBTYPE_RO);
 
-        this.recMappingAtoms = new ArrayList<>();
+        this.recMappingAtoms = new ConcurrentAppendList<>();
         // todo: add MAPPING_SUBTYPE_RO
-        this.recFunctionAtoms = new ArrayList<>();
+        this.recFunctionAtoms = new ConcurrentAppendList<>();
     }
 
+    public RecAtom recListAtom() {
+        return RecAtom.createRecAtom(this.recListAtoms.add(null));
+    }
+
+    public RecAtom recMappingAtom() {
+        return RecAtom.createRecAtom(this.recMappingAtoms.add(null));
+    }
+
+    public RecAtom recFunctionAtom() {
+        return RecAtom.createRecAtom(this.recFunctionAtoms.add(null));
+    }
+
+    public void setRecListAtomType(RecAtom ra, ListAtomicType atomicType) {
+        this.recListAtoms.set(ra.index, atomicType);
+    }
+
+    public void setRecMappingAtomType(RecAtom ra, MappingAtomicType atomicType) {
+        this.recMappingAtoms.set(ra.index, atomicType);
+    }
+
+    public void setRecFunctionAtomType(RecAtom ra, FunctionAtomicType atomicType) {
+        this.recFunctionAtoms.set(ra.index, atomicType);
+    }
 
+    public TypeAtom listAtom(ListAtomicType atomicType) {
+        return this.typeAtom(atomicType);
+    }
+
+    public TypeAtom mappingAtom(MappingAtomicType atomicType) {
+        return this.typeAtom(atomicType);
+    }
+
+    private TypeAtom typeAtom(AtomicType atomicType) {
+        // The index is taken only by the thread that adds the atom, so that each atom has a distinct index
+        return this.atomTable.computeIfAbsent(atomicType,
+                key -> TypeAtom.createTypeAtom(this.nextAtomIndex.getAndIncrement(), key));
+    }
+
+    public ListAtomicType getRecListAtomType(RecAtom ra) {
+        return this.recListAtoms.get(ra.index);
+    }
+
+    public MappingAtomicType getRecMappingAtomType(RecAtom ra) {
+        return this.recMappingAtoms.get(ra.index);
+    }
+
+    public FunctionAtomicType getRecFunctionAtomType(RecAtom ra) {
+        return this.recFunctionAtoms.get(ra.index);
+    }
 }
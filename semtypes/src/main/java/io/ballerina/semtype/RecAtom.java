@@ -32,4 +32,14 @@ public class RecAtom implements Atom {
     public static RecAtom createRecAtom(int index) {
         return new RecAtom(index);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RecAtom recAtom && recAtom.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
 }
@@ -34,4 +34,15 @@ public class TypeAtom implements Atom {
     public static TypeAtom createTypeAtom(long index, AtomicType atomicType) {
         return new TypeAtom(index, atomicType);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        // Atoms are interned by the env, so that each atomic type has a single index
+        return o instanceof TypeAtom typeAtom && typeAtom.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(index);
+    }
 }
@@ -17,42 +17,160 @@
  */
 package io.ballerina.semtype;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * TypeCheckContext node.
+ * <p>
+ * Memoizes the emptiness of the list, mapping and function BDDs checked in this context, so that a BDD shared by
+ * many subtype checks is checked only once. A context is used by a single thread, and shares the results it is
+ * certain of with the other contexts of its env.
  *
  * @since 2.0.0
  */
 public class TypeCheckContext {
     private final Env env;
-    // todo: Normal hash tables should do here
-    //    BddMemoTable listMemo = table [];
-    //    BddMemoTable mappingMemo = table [];
-    //    BddMemoTable functionMemo = table [];
+    final Map<Bdd, BddMemo> listMemo = new HashMap<>();
+    final Map<Bdd, BddMemo> mappingMemo = new HashMap<>();
+    final Map<Bdd, BddMemo> functionMemo = new HashMap<>();
+    // Memos whose emptiness is being computed, or depends on one that is being computed, innermost last
+    private final List<BddMemo> memoStack = new ArrayList<>();
 
     public TypeCheckContext(Env env) {
         this.env = env;
     }
 
+    /**
+     * Returns whether the given BDD is empty, using the result memoized in the given table if there is one.
+     * <p>
+     * A BDD reached again while its emptiness is being computed is assumed to be empty, as types are defined
+     * inductively and only have finite shapes. Results that rely on such an assumption are provisional until the
+     * outermost check completes: they are kept if the BDD they relied on is empty, and are discarded otherwise, so
+     * that they are computed again.
+     *
+     * @param memoTable        memo table of the uniform type of the BDD
+     * @param isEmptyPredicate check of the emptiness of the BDD
+     * @param b                BDD to check
+     * @return whether the BDD is empty
+     */
+    public boolean memoSubtypeIsEmpty(Map<Bdd, BddMemo> memoTable, BddIsEmptyPredicate isEmptyPredicate, Bdd b) {
+        Map<Bdd, Boolean> sharedMemoTable = sharedMemoTable(memoTable);
+        BddMemo m = memoTable.get(b);
+        if (m == null || m.isEmpty == BddMemo.MemoStatus.NOT_SET) {
+            Boolean sharedIsEmpty = sharedMemoTable.get(b);
+            if (sharedIsEmpty != null) {
+                if (m == null) {
+                    m = BddMemo.from(b);
+                    memoTable.put(b, m);
+                }
+                m.isEmpty = sharedIsEmpty ? BddMemo.MemoStatus.TRUE : BddMemo.MemoStatus.FALSE;
+                return sharedIsEmpty;
+            }
+        }
+        if (m != null) {
+            switch (m.isEmpty) {
+                case TRUE:
+                case CYCLIC:
+                    return true;
+                case FALSE:
+                    return false;
+                case PROVISIONAL:
+                case LOOP:
+                    // We've got a loop
+                    m.isEmpty = BddMemo.MemoStatus.LOOP;
+                    return true;
+                default:
+                    // NOT_SET is the same as not having a memo
+                    break;
+            }
+        } else {
+            m = BddMemo.from(b);
+            memoTable.put(b, m);
+        }
+
+        m.isEmpty = BddMemo.MemoStatus.PROVISIONAL;
+        int initStackDepth = memoStack.size();
+        memoStack.add(m);
+        boolean isEmpty;
+        boolean completed = false;
+        try {
+            isEmpty = isEmptyPredicate.apply(this, b);
+            completed = true;
+        } finally {
+            if (!completed) {
+                // Nothing is known about the BDD, nor about the BDDs that relied on it, if the check fails
+                discardProvisionalMemos(initStackDepth);
+            }
+        }
+        boolean isLoop = m.isEmpty == BddMemo.MemoStatus.LOOP;
+        if (!isEmpty || initStackDepth == 0) {
+            for (int i = initStackDepth + 1; i < memoStack.size(); i++) {
+                BddMemo dependent = memoStack.get(i);
+                BddMemo.MemoStatus status = dependent.isEmpty;
+                if (status == BddMemo.MemoStatus.PROVISIONAL || status == BddMemo.MemoStatus.LOOP ||
+                        status == BddMemo.MemoStatus.CYCLIC) {
+                    dependent.isEmpty = isEmpty ? BddMemo.MemoStatus.TRUE : BddMemo.MemoStatus.NOT_SET;
+                    if (isEmpty) {
+                        sharedMemoTable.put(dependent.bddNode, true);
+                    }
+                }
+            }
+            memoStack.subList(initStackDepth, memoStack.size()).clear();
+            // A BDD found empty only by going through a loop has only infinite shapes
+            if (isLoop && isEmpty) {
+                m.isEmpty = BddMemo.MemoStatus.CYCLIC;
+            } else {
+                m.isEmpty = isEmpty ? BddMemo.MemoStatus.TRUE : BddMemo.MemoStatus.FALSE;
+            }
+            sharedMemoTable.put(b, isEmpty);
+        }
+        // Otherwise the BDD stays provisional until the enclosing check completes
+        return isEmpty;
+    }
+
+    private void discardProvisionalMemos(int stackDepth) {
+        for (int i = stackDepth; i < memoStack.size(); i++) {
+            BddMemo memo = memoStack.get(i);
+            BddMemo.MemoStatus status = memo.isEmpty;
+            if (status == BddMemo.MemoStatus.PROVISIONAL || status == BddMemo.MemoStatus.LOOP ||
+                    status == BddMemo.MemoStatus.CYCLIC) {
+                memo.isEmpty = BddMemo.MemoStatus.NOT_SET;
+            }
+        }
+        memoStack.subList(stackDepth, memoStack.size()).clear();
+    }
+
+    private Map<Bdd, Boolean> sharedMemoTable(Map<Bdd, BddMemo> memoTable) {
+        if (memoTable == listMemo) {
+            return env.listMemo;
+        } else if (memoTable == mappingMemo) {
+            return env.mappingMemo;
+        } else if (memoTable == functionMemo) {
+            return env.functionMemo;
+        }
+        throw new IllegalArgumentException("memo table of another context");
+    }
+
+    public ListAtomicType listAtomType(Atom atom) {
+        if (atom instanceof RecAtom recAtom) {
+            return this.env.getRecListAtomType(recAtom);
+        } else {
+            return (ListAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
 
-//    function listAtomType(Atom atom) returns ListAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecListAtomType(atom);
-//        }
-//        else {
-//            return <ListAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function mappingAtomType(Atom atom) returns MappingAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecMappingAtomType(atom);
-//        }
-//        else {
-//            return <MappingAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function functionAtomType(Atom atom) returns FunctionAtomicType {
-//        return self.env.getRecFunctionAtomType(<RecAtom>atom);
-//    }
+    public MappingAtomicType mappingAtomType(Atom atom) {
+        if (atom instanceof RecAtom recAtom) {
+            return this.env.getRecMappingAtomType(recAtom);
+        } else {
+            return (MappingAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
+
+    public FunctionAtomicType functionAtomType(Atom atom) {
+        return this.env.getRecFunctionAtomType((RecAtom) atom);
+    }
 }
@@ -20,14 +20,49 @@ package io.ballerina.semtype.subtypedata;
 import io.ballerina.semtype.Atom;
 import io.ballerina.semtype.Bdd;
 
+import java.util.Objects;
+
 /**
  * Bdd node.
+ * <p>
+ * Nodes are compared by their structure, so that the memo tables of a type check context find the emptiness of a BDD
+ * built again for another query. The hash is computed once, as the nodes do not change after they are created.
  *
  * @since 2.0.0
  */
 public class BddNode implements Bdd {
-    Atom atom;
-    BddNode left;
-    BddNode middle;
-    BddNode right;
+    final Atom atom;
+    final BddNode left;
+    final BddNode middle;
+    final BddNode right;
+    private final int hash;
+
+    private BddNode(Atom atom, BddNode left, BddNode middle, BddNode right) {
+        this.atom = atom;
+        this.left = left;
+        this.middle = middle;
+        this.right = right;
+        this.hash = Objects.hash(atom, left, middle, right);
+    }
+
+    public static BddNode create(Atom atom, BddNode left, BddNode middle, BddNode right) {
+        return new BddNode(atom, left, middle, right);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BddNode bddNode) || hash != bddNode.hash) {
+            return false;
+        }
+        return atom.equals(bddNode.atom) && Objects.equals(left, bddNode.left) &&
+                Objects.equals(middle, bddNode.middle) && Objects.equals(right, bddNode.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.subtypedata.BddNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests an env shared by threads.
+ *
+ * @since 2.0.0
+ */
+public class EnvTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int ATOM_COUNT = 5000;
+
+    @Test
+    public void testConcurrentAtomInterning() throws Exception {
+        Env env = new Env();
+        List<ListAtomicType> atomicTypes = new ArrayList<>();
+        for (int i = 0; i < ATOM_COUNT; i++) {
+            atomicTypes.add(new ListAtomicType(new ArrayList<>(), PredefinedType.READONLY));
+        }
+        List<List<TypeAtom>> results = runConcurrently(() -> {
+            List<TypeAtom> atoms = new ArrayList<>();
+            for (ListAtomicType atomicType : atomicTypes) {
+                atoms.add(env.listAtom(atomicType));
+            }
+            return atoms;
+        });
+
+        List<TypeAtom> atoms = results.get(0);
+        Set<Long> indexes = new HashSet<>();
+        for (TypeAtom atom : atoms) {
+            Assert.assertTrue(indexes.add(atom.index));
+        }
+        for (List<TypeAtom> threadAtoms : results) {
+            for (int i = 0; i < ATOM_COUNT; i++) {
+                Assert.assertSame(threadAtoms.get(i), atoms.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentRecAtoms() throws Exception {
+        Env env = new Env();
+        List<List<RecAtom>> results = runConcurrently(() -> {
+            List<RecAtom> recAtoms = new ArrayList<>();
+            for (int i = 0; i < ATOM_COUNT; i++) {
+                RecAtom recAtom = env.recListAtom();
+                ListAtomicType atomicType = new ListAtomicType(new ArrayList<>(), PredefinedType.READONLY);
+                env.setRecListAtomType(recAtom, atomicType);
+                Assert.assertSame(env.getRecListAtomType(recAtom), atomicType);
+                recAtoms.add(recAtom);
+            }
+            return recAtoms;
+        });
+
+        Set<Integer> indexes = new HashSet<>();
+        for (List<RecAtom> recAtoms : results) {
+            for (RecAtom recAtom : recAtoms) {
+                Assert.assertTrue(indexes.add(recAtom.index));
+                Assert.assertNotNull(env.getRecListAtomType(recAtom));
+            }
+        }
+        // Index 0 is taken by the readonly list atom
+        Assert.assertEquals(indexes.size(), THREAD_COUNT * ATOM_COUNT);
+        Assert.assertFalse(indexes.contains(0));
+    }
+
+    @Test
+    public void testEmptinessSharedByContexts() throws Exception {
+        Env env = new Env();
+        AtomicInteger count = new AtomicInteger();
+        BddIsEmptyPredicate isEmpty = (cx, b) -> count.incrementAndGet() < 0;
+        List<Bdd> bdds = new ArrayList<>();
+        for (int i = 0; i < ATOM_COUNT; i++) {
+            bdds.add(BddNode.create(RecAtom.createRecAtom(i), null, null, null));
+        }
+        runConcurrently(() -> {
+            TypeCheckContext tc = new TypeCheckContext(env);
+            for (Bdd bdd : bdds) {
+                Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, bdd));
+            }
+            return null;
+        });
+
+        // A BDD is checked again only by contexts that check it before the first result is shared
+        Assert.assertTrue(count.get() >= ATOM_COUNT && count.get() <= THREAD_COUNT * ATOM_COUNT, count.toString());
+        TypeCheckContext tc = new TypeCheckContext(env);
+        int checked = count.get();
+        for (Bdd bdd : bdds) {
+            Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, bdd));
+        }
+        Assert.assertEquals(count.get(), checked);
+    }
+
+    private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.subtypedata.BddNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the memoization of the emptiness of BDDs.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckContextTest {
+
+    private final Bdd b1 = BddNode.create(RecAtom.createRecAtom(1), null, null, null);
+    private final Bdd b2 = BddNode.create(RecAtom.createRecAtom(2), null, null, null);
+
+    @Test
+    public void testEmptinessMemoized() {
+        TypeCheckContext tc = new TypeCheckContext(new Env());
+        AtomicInteger count = new AtomicInteger();
+        BddIsEmptyPredicate isEmpty = (cx, b) -> count.incrementAndGet() < 0;
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, b1));
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo,
+                isEmpty, BddNode.create(RecAtom.createRecAtom(1), null, null, null)));
+        Assert.assertEquals(count.get(), 1);
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.mappingMemo, isEmpty, b1));
+        Assert.assertEquals(count.get(), 2);
+    }
+
+    @Test
+    public void testProvisionalResultDiscarded() {
+        TypeCheckContext tc = new TypeCheckContext(new Env());
+        AtomicInteger count = new AtomicInteger();
+        BddIsEmptyPredicate isEmpty = new BddIsEmptyPredicate() {
+            @Override
+            public boolean apply(TypeCheckContext cx, Bdd b) {
+                count.incrementAndGet();
+                if (b.equals(b1)) {
+                    // b1 is not empty, but it checks b2, which relies on b1 being empty
+                    cx.memoSubtypeIsEmpty(cx.listMemo, this, b2);
+                    return false;
+                }
+                return cx.memoSubtypeIsEmpty(cx.listMemo, this, b1);
+            }
+        };
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, b1));
+        Assert.assertEquals(count.get(), 2);
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, b2));
+        Assert.assertEquals(count.get(), 3);
+    }
+
+    @Test
+    public void testMemoResetAfterFailedCheck() {
+        TypeCheckContext tc = new TypeCheckContext(new Env());
+        BddIsEmptyPredicate failingIsEmpty = new BddIsEmptyPredicate() {
+            @Override
+            public boolean apply(TypeCheckContext cx, Bdd b) {
+                if (b.equals(b1)) {
+                    return cx.memoSubtypeIsEmpty(cx.listMemo, this, b2);
+                }
+                // b2 relies on b1 being empty, and then fails
+                cx.memoSubtypeIsEmpty(cx.listMemo, this, b1);
+                throw new IllegalStateException();
+            }
+        };
+        Assert.assertThrows(IllegalStateException.class,
+                () -> tc.memoSubtypeIsEmpty(tc.listMemo, failingIsEmpty, b1));
+        // Neither the failed BDD nor the one that relied on it are taken to be empty
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, (cx, b) -> false, b1));
+        Assert.assertFalse(tc.memoSubtypeIsEmpty(tc.listMemo, (cx, b) -> false, b2));
+    }
+
+    @Test
+    public void testCyclicBddEmpty() {
+        TypeCheckContext tc = new TypeCheckContext(new Env());
+        AtomicInteger count = new AtomicInteger();
+        BddIsEmptyPredicate isEmpty = new BddIsEmptyPredicate() {
+            @Override
+            public boolean apply(TypeCheckContext cx, Bdd b) {
+                count.incrementAndGet();
+                return cx.memoSubtypeIsEmpty(cx.listMemo, this, b.equals(b1) ? b2 : b1);
+            }
+        };
+        Assert.assertTrue(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, b1));
+        Assert.assertTrue(tc.memoSubtypeIsEmpty(tc.listMemo, isEmpty, b2));
+        Assert.assertEquals(count.get(), 2);
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.value;
+
+type OrderLine record {|
+    string sku;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {|
+    int id;
+    string customer;
+    boolean paid;
+    float weight;
+    OrderLine[] lines;
+|};
+
+const string ORDER_JSON = "{\"id\": 1024, \"customer\": \"John Doe\", \"paid\": true, \"weight\": 12.75, " +
+    "\"lines\": [{\"sku\": \"A-100\", \"quantity\": 2, \"price\": 10.50}, " +
+    "{\"sku\": \"B-200\", \"quantity\": 1, \"price\": 99.99}, {\"sku\": \"C-300\", \"quantity\": 12, \"price\": 0.25}]}";
+
+# Parses a JSON string into a value of the given type, using the type directed JSON parser of the runtime.
+#
+# + jsonStr - JSON content
+# + t - Type of the value to create
+# + return - Value of the given type, or an error if the content cannot be parsed as the type
+isolated function parseJsonAsType(string jsonStr, typedesc<anydata> t) returns anydata|error = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+isolated function parseOrdersWithLangLib(int count) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < count) {
+        Order purchase = checkpanic value:fromJsonStringWithType(ORDER_JSON, Order);
+        total += purchase.lines.length();
+        i += 1;
+    }
+    return total;
+}
+
+isolated function parseOrdersAsType(int count) returns int {
+    int total = 0;
+    int i = 0;
+    while (i < count) {
+        Order purchase = <Order> checkpanic parseJsonAsType(ORDER_JSON, Order);
+        total += purchase.lines.length();
+        i += 1;
+    }
+    return total;
+}
+
+public function benchmarkJsonParseWithLangLib(int warmupCount, int benchmarkCount) returns int {
+    _ = parseOrdersWithLangLib(warmupCount);
+    int startTime = nanoTime();
+    _ = parseOrdersWithLangLib(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkJsonParseAsType(int warmupCount, int benchmarkCount) returns int {
+    _ = parseOrdersAsType(warmupCount);
+    int startTime = nanoTime();
+    _ = parseOrdersAsType(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -463,6 +463,24 @@ public function benchmarkJoinWithQuery(int warmupCount, int benchmarkCount) retu
     return (nanoTime() - startTime);
 }
 
+public function benchmarkFilterAndMapWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    string[] outputList =
+        from var person in pl
+        where person.id % 3 != 0
+        let string fullName = person.fname + " " + person.lname
+        select fullName.toUpperAscii();
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        where person.id % 3 != 0
+        let string fullName = person.fname + " " + person.lname
+        select fullName.toUpperAscii();
+    return (nanoTime() - startTime);
+}
+
 public function benchmarkJoinWithWhile(int warmupCount, int benchmarkCount) returns int {
     Person[] pl = getPersonArray(warmupCount);
     Department[] dl = getDepartmentArray(warmupCount);
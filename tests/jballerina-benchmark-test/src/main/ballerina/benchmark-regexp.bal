@@ -0,0 +1,57 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const string LOG_LINE = "2024-05-14T10:15:30.123Z INFO [http-listener-9090] Request GET /orders/1024 completed " +
+    "with status 200 in 12 ms";
+
+isolated function parseLogLines(int count) returns int {
+    int matched = 0;
+    int i = 0;
+    while (i < count) {
+        if re `\[[a-z-]+[0-9]+\]`.find(LOG_LINE) is () {
+            panic error("thread name not found");
+        }
+        if re `.* status ([0-9]+) in ([0-9]+) ms`.isFullMatch(LOG_LINE) {
+            matched += 1;
+        }
+        i += 1;
+    }
+    return matched;
+}
+
+isolated function splitLogLines(int count) returns int {
+    int fields = 0;
+    int i = 0;
+    while (i < count) {
+        fields += re ` +`.split(LOG_LINE).length();
+        i += 1;
+    }
+    return fields;
+}
+
+public function benchmarkRegexpFindAndMatch(int warmupCount, int benchmarkCount) returns int {
+    _ = parseLogLines(warmupCount);
+    int startTime = nanoTime();
+    _ = parseLogLines(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRegexpSplit(int warmupCount, int benchmarkCount) returns int {
+    _ = splitLogLines(warmupCount);
+    int startTime = nanoTime();
+    _ = splitLogLines(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,164 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int STRAND_BATCH_SIZE = 1000;
+
+# Blocks the current thread for the given number of milliseconds, similar to a blocking Java interop call.
+#
+# + millis - Number of milliseconds to block
+isolated function blockingSleep(int millis) = @java:Method {
+    name: "sleep",
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+isolated function runStrandsWithBlockingCalls(int count) {
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < STRAND_BATCH_SIZE ? remaining : STRAND_BATCH_SIZE;
+        future<()>[] futures = [];
+        int i = 0;
+        while (i < batchSize) {
+            futures.push(start blockingSleep(1));
+            i += 1;
+        }
+        foreach future<()> f in futures {
+            checkpanic wait f;
+        }
+        remaining -= batchSize;
+    }
+}
+
+isolated function runStrandsWithoutBlockingCalls(int count) {
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < STRAND_BATCH_SIZE ? remaining : STRAND_BATCH_SIZE;
+        future<int>[] futures = [];
+        int i = 0;
+        while (i < batchSize) {
+            futures.push(start getIncrement(i));
+            i += 1;
+        }
+        foreach future<int> f in futures {
+            _ = checkpanic wait f;
+        }
+        remaining -= batchSize;
+    }
+}
+
+isolated function getIncrement(int i) returns int {
+    return i + 1;
+}
+
+isolated function runStrandsWithNestedYields(int count) {
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < STRAND_BATCH_SIZE ? remaining : STRAND_BATCH_SIZE;
+        future<int>[] futures = [];
+        int i = 0;
+        while (i < batchSize) {
+            futures.push(start waitInNestedCalls(i, 8));
+            i += 1;
+        }
+        foreach future<int> f in futures {
+            _ = checkpanic wait f;
+        }
+        remaining -= batchSize;
+    }
+}
+
+// Waiting on a future that is not completed yet yields the strand, which saves a frame for each of the nested calls.
+isolated function waitInNestedCalls(int i, int depth) returns int {
+    if depth == 0 {
+        future<int> f = start getIncrement(i);
+        return checkpanic wait f;
+    }
+    return waitInNestedCalls(i, depth - 1) + 1;
+}
+
+// Compare the results of the following functions with `BALLERINA_SCHEDULER_BACKEND` set to `platform` and `virtual`.
+
+public function benchmarkStrandsWithBlockingCalls(int warmupCount, int benchmarkCount) returns int {
+    runStrandsWithBlockingCalls(warmupCount);
+    int startTime = nanoTime();
+    runStrandsWithBlockingCalls(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStrandsWithoutBlockingCalls(int warmupCount, int benchmarkCount) returns int {
+    runStrandsWithoutBlockingCalls(warmupCount);
+    int startTime = nanoTime();
+    runStrandsWithoutBlockingCalls(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStrandsWithNestedYields(int warmupCount, int benchmarkCount) returns int {
+    runStrandsWithNestedYields(warmupCount);
+    int startTime = nanoTime();
+    runStrandsWithNestedYields(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+// Worker interactions cannot be in a loop, so each call passes a fixed number of messages between two workers.
+const int WORKER_MESSAGES_PER_CALL = 8;
+
+isolated function passMessagesBetweenWorkers(int count) {
+    int i = 0;
+    while (i < count) {
+        int sum = sendMessagesBetweenWorkers(i);
+        if sum != WORKER_MESSAGES_PER_CALL * i + 28 {
+            panic error("unexpected sum of messages: " + sum.toString());
+        }
+        i += 1;
+    }
+}
+
+isolated function sendMessagesBetweenWorkers(int base) returns int {
+    worker sender {
+        base -> receiver;
+        base + 1 -> receiver;
+        base + 2 -> receiver;
+        base + 3 -> receiver;
+        base + 4 -> receiver;
+        base + 5 -> receiver;
+        base + 6 -> receiver;
+        base + 7 -> receiver;
+    }
+
+    worker receiver returns int {
+        int m0 = <- sender;
+        int m1 = <- sender;
+        int m2 = <- sender;
+        int m3 = <- sender;
+        int m4 = <- sender;
+        int m5 = <- sender;
+        int m6 = <- sender;
+        int m7 = <- sender;
+        return m0 + m1 + m2 + m3 + m4 + m5 + m6 + m7;
+    }
+
+    return wait receiver;
+}
+
+// Each call passes `WORKER_MESSAGES_PER_CALL` messages, so the number of messages per second is
+// `benchmarkCount * WORKER_MESSAGES_PER_CALL` divided by the time taken.
+public function benchmarkWorkerMessagePassing(int warmupCount, int benchmarkCount) returns int {
+    passMessagesBetweenWorkers(warmupCount);
+    int startTime = nanoTime();
+    passMessagesBetweenWorkers(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int TABLE_SIZE = 10000;
+
+type Employee record {|
+    readonly int id;
+    string name;
+    int deptId;
+|};
+
+isolated function getEmployeeTable(int size) returns table<Employee> key(id) {
+    table<Employee> key(id) employees = table [];
+    int i = 0;
+    while (i < size) {
+        employees.add({id: i, name: "Name", deptId: i % 100});
+        i += 1;
+    }
+    return employees;
+}
+
+isolated function lookupEmployees(table<Employee> key(id) employees, int count) returns int {
+    int found = 0;
+    int i = 0;
+    while (i < count) {
+        Employee? employee = employees[i % TABLE_SIZE];
+        if employee is Employee {
+            found += 1;
+        }
+        i += 1;
+    }
+    return found;
+}
+
+isolated function fillAndDrainTable(int count) {
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < TABLE_SIZE ? remaining : TABLE_SIZE;
+        table<Employee> key(id) employees = getEmployeeTable(batchSize);
+        int i = 0;
+        while (i < batchSize) {
+            _ = employees.remove(i);
+            i += 1;
+        }
+        remaining -= batchSize;
+    }
+}
+
+public function benchmarkTableKeyLookup(int warmupCount, int benchmarkCount) returns int {
+    table<Employee> key(id) employees = getEmployeeTable(TABLE_SIZE);
+    _ = lookupEmployees(employees, warmupCount);
+    int startTime = nanoTime();
+    _ = lookupEmployees(employees, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableAddAndRemove(int warmupCount, int benchmarkCount) returns int {
+    fillAndDrainTable(warmupCount);
+    int startTime = nanoTime();
+    fillAndDrainTable(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,38 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.'transaction as transactions;
+
+function commitLocalTransactions(int count) returns error? {
+    int i = 0;
+    while i < count {
+        transaction {
+            transactions:onCommit(onLocalTransactionCommit);
+            check commit;
+        }
+        i += 1;
+    }
+}
+
+isolated function onLocalTransactionCommit(transactions:Info info) {
+}
+
+public function benchmarkLocalTransactionCommits(int warmupCount, int benchmarkCount) returns int {
+    checkpanic commitLocalTransactions(warmupCount);
+    int startTime = nanoTime();
+    checkpanic commitLocalTransactions(benchmarkCount);
+    return (nanoTime() - startTime);
+}
@@ -34,8 +34,20 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkNestedLoopWithForeach", benchmarkNestedLoopWithForeach);
     addSingleExecFunction("benchmarkNestedLoopWithWhile", benchmarkNestedLoopWithWhile);
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
+    addSingleExecFunction("benchmarkFilterAndMapWithQuery", benchmarkFilterAndMapWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStrandsWithBlockingCalls", benchmarkStrandsWithBlockingCalls);
+    addSingleExecFunction("benchmarkStrandsWithoutBlockingCalls", benchmarkStrandsWithoutBlockingCalls);
+    addSingleExecFunction("benchmarkStrandsWithNestedYields", benchmarkStrandsWithNestedYields);
+    addSingleExecFunction("benchmarkWorkerMessagePassing", benchmarkWorkerMessagePassing);
+    addSingleExecFunction("benchmarkTableKeyLookup", benchmarkTableKeyLookup);
+    addSingleExecFunction("benchmarkTableAddAndRemove", benchmarkTableAddAndRemove);
+    addSingleExecFunction("benchmarkJsonParseWithLangLib", benchmarkJsonParseWithLangLib);
+    addSingleExecFunction("benchmarkJsonParseAsType", benchmarkJsonParseAsType);
+    addSingleExecFunction("benchmarkRegexpFindAndMatch", benchmarkRegexpFindAndMatch);
+    addSingleExecFunction("benchmarkRegexpSplit", benchmarkRegexpSplit);
+    addSingleExecFunction("benchmarkLocalTransactionCommits", benchmarkLocalTransactionCommits);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +67,7 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
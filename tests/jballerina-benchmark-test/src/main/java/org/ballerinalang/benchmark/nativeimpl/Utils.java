@@ -20,10 +20,13 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.io.PrintStream;
 import java.util.IllegalFormatConversionException;
@@ -68,6 +71,22 @@ public class Utils {
         out.println(content);
     }
 
+    public static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static Object parseJsonAsType(BString jsonStr, BTypedesc t) {
+        try {
+            return JsonUtils.parseAsType(jsonStr, t.getDescribingType(), false);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
     public static BString sprintf(BString format, Object... args) {
         StringBuilder result = new StringBuilder();
         for (int i = 0, j, k = 0; i < format.length(); i++) {
@@ -125,6 +125,11 @@ public class JoinClauseTest {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
     
+    @Test(description = "Test join clause with keys that are equal but have different string forms")
+    public void testJoinClauseWithStructuredKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithStructuredKeys");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 40);
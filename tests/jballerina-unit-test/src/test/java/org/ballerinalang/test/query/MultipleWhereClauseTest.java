@@ -86,6 +86,11 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals((person1.get(StringUtils.fromString("score"))), 90.6);
     }
 
+    @Test(description = "Test where clauses comparing a readonly field of table rows")
+    public void testWhereClauseOnReadonlyTableField() {
+        BRunUtil.invoke(result, "testWhereClauseOnReadonlyTableField");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -231,6 +231,14 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with order by clause and limit clause keeping the input order of equal keys")
+    public void testQueryExprWithOrderByClauseAndLimitKeepingInputOrder() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseAndLimitKeepingInputOrder");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertEquals(returnValues.toString(), "befa,d,a,c,g,f,b,e");
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
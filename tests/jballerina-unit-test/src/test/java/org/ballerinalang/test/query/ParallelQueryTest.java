@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.query;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test queries whose input is split into partitions evaluated in parallel.
+ *
+ * @since 2201.10.0
+ */
+public class ParallelQueryTest {
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setParallelQueries(true).build();
+        result = BCompileUtil.compile("test-src/query/parallel_queries.bal", buildOptions);
+    }
+
+    @Test(dataProvider = "dataToTestParallelQueries")
+    public void testParallelQueries(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @Test(description = "Test that queries with isolated clauses are evaluated in order without the build option")
+    public void testQueriesAreSequentialByDefault() {
+        CompileResult sequentialResult = BCompileUtil.compile("test-src/query/parallel_queries.bal");
+        BRunUtil.invoke(sequentialResult, "testIsolatedSideEffectsInOrder");
+    }
+
+    @DataProvider
+    public Object[] dataToTestParallelQueries() {
+        return new Object[] {
+                "testParallelQueryOrder",
+                "testParallelQueryOverTableOrder",
+                "testParallelQueryError",
+                "testParallelQueryErrorBeforePanic",
+                "testParallelQueryWithLimit",
+                "testQueryWithNonIsolatedClauses"
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
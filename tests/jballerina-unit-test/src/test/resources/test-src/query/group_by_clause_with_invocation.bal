@@ -975,6 +975,79 @@ function testGroupByExpressionAndSelectWithNonGroupingKeys9() {
     ], quarterlyMin);
 }
 
+function testFoldedAggregations() {
+    var input = [
+        {k: "a", i: 3, f: 1.5, d: 2.25d, b: <byte>200, s: "x"},
+        {k: "b", i: -1, f: -0.0, d: 1.0d, b: <byte>1, s: "y"},
+        {k: "a", i: 7, f: 2.5, d: 2.250d, b: <byte>100, s: "z"},
+        {k: "c", i: 0, f: 0.1, d: 0.1d, b: <byte>0, s: "x"},
+        {k: "a", i: -4, f: 0.2, d: -1d, b: <byte>255, s: "x"},
+        {k: "b", i: 9, f: 0.3, d: 3.5d, b: <byte>2, s: "w"}
+    ];
+
+    // Each non grouping variable is only used in calls to one aggregation, so that it is folded as it is grouped.
+    var folded = from var {k, i, f, d, b, s} in input
+        group by k
+        select {k, sumI: sum(i), maxI: max(i), sumF: sum(f), minF: min(f), sumD: sum(d), maxD: max(d), sumB: sum(b),
+            countS: count(s)};
+    assertEquality([
+        {k: "a", sumI: 6, maxI: 7, sumF: 4.2, minF: 0.2, sumD: 3.5d, maxD: 2.250d, sumB: 555, countS: 3},
+        {k: "b", sumI: 8, maxI: 9, sumF: 0.3, minF: -0.0, sumD: 4.5d, maxD: 3.5d, sumB: 3, countS: 2},
+        {k: "c", sumI: 0, maxI: 0, sumF: 0.1, minF: 0.1, sumD: 0.1d, maxD: 0.1d, sumB: 0, countS: 1}
+    ], folded);
+
+    // The sequences are kept when the variables are also used in list constructors.
+    var kept = from var {k, i, f, d, b, s} in input
+        group by k
+        select {k, sumI: sum(i), maxI: max(i), sumF: sum(f), minF: min(f), sumD: sum(d), maxD: max(d), sumB: sum(b),
+            countS: count(s), values: [[i], [f], [d], [b], [s]]};
+    assertEquality(folded, from var {values, ...aggregations} in kept select aggregations);
+
+    var filtered = from var {k, i, s} in input
+        group by k
+        where count(s) > 1
+        let int total = sum(i)
+        order by total descending
+        select {k, total, count: count(s), max: max(i)};
+    assertEquality([{k: "b", total: 8, count: 2, max: 9}, {k: "a", total: 6, count: 3, max: 7}], filtered);
+
+    // Different aggregations of the same variable
+    var mixed = from var {k, i} in input
+        group by k
+        select {k, sum: sum(i), count: count(i), min: min(i)};
+    assertEquality([{k: "a", sum: 6, count: 3, min: -4}, {k: "b", sum: 8, count: 2, min: -1},
+        {k: "c", sum: 0, count: 1, min: 0}], mixed);
+}
+
+function testFoldedAggregationsWithNil() {
+    var input = [{k: 1, v: 2}, {k: 1, v: ()}, {k: 2, v: ()}, {k: 1, v: 5}];
+    var counts = from var {k, v} in input
+        group by k
+        select {k, count: count(v)};
+    assertEquality([{k: 1, count: 2}, {k: 2, count: 0}], counts);
+}
+
+function testFoldedSumOverflow() {
+    var input = [{k: 1, v: int:MAX_VALUE}, {k: 2, v: 1}, {k: 1, v: 1}, {k: 1, v: -5}];
+    int[]|error folded = trap from var {k, v} in input
+        group by k
+        select sum(v);
+    [int, int[]][]|error kept = trap from var {k, v} in input
+        group by k
+        select [sum(v), [v]];
+    if folded !is error || kept !is error {
+        panic error("expected the sum to overflow");
+    }
+    assertEquality(kept.message(), folded.message());
+
+    // The sum does not overflow if the group is not selected.
+    int[] filtered = from var {k, v} in input
+        group by k
+        where k == 2
+        select sum(v);
+    assertEquality([1], filtered);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -527,6 +527,37 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+public function testJoinClauseWithStructuredKeys() {
+    decimal[] prices = [1.0, 2.50, 3];
+    decimal[] discounted = [1.00, 2.5, 4];
+    decimal[] commonPrices = from decimal p in prices
+            join decimal d in discounted on p equals d
+            select p;
+    assertEquality(2, commonPrices.length());
+    assertEquality(1.0d, commonPrices[0]);
+    assertEquality(2.5d, commonPrices[1]);
+
+    map<int>[] points = [{x: 1, y: 2}, {x: 3, y: 4}, {x: 5, y: 6}];
+    map<int>[] flipped = [{y: 4, x: 3}, {y: 2, x: 1}, {y: 2, x: 1}];
+    int[] xs = from map<int> p in points
+            join map<int> f in flipped on p equals f
+            select p.get("x");
+    assertEquality(3, xs.length());
+    assertEquality(1, xs[0]);
+    assertEquality(1, xs[1]);
+    assertEquality(3, xs[2]);
+
+    (int|string)[] ids = [1, "1", 2];
+    (int|string)[] otherIds = ["1", 2];
+    (int|string)?[] matched = from int|string i in ids
+            outer join int|string o in otherIds on i equals o
+            select o;
+    assertEquality(3, matched.length());
+    assertEquality(null, matched[0]);
+    assertEquality("1", matched[1]);
+    assertEquality(2, matched[2]);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
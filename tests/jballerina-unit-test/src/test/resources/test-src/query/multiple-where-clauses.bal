@@ -100,3 +100,66 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    string name;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+const string SALES = "Sales";
+
+function testWhereClauseOnReadonlyTableField() {
+    EmployeeTable employees = table [
+        {id: 1, dept: "HR", name: "Alex"},
+        {id: 2, dept: "Sales", name: "Ranjan"},
+        {id: 3, dept: "Sales", name: "John"},
+        {id: 4, dept: "IT", name: "Anne"}
+    ];
+
+    string[] names = from var e in employees where e.dept == "Sales" select e.name;
+    assertEquality(["Ranjan", "John"], names);
+
+    names = from var e in employees where (SALES == e.dept) select e.name;
+    assertEquality(["Ranjan", "John"], names);
+
+    final string dept = "HR";
+    names = from var e in employees where e.dept == dept select e.name;
+    assertEquality(["Alex"], names);
+    assertEquality(["Anne"], namesInDept(employees, "IT"));
+    assertEquality([], namesInDept(employees, "Finance"));
+
+    names = from var e in employees where e.id == 3 where e.name != "Anne" select e.name;
+    assertEquality(["John"], names);
+
+    _ = employees.remove(2);
+    employees.add({id: 5, dept: "Sales", name: "Mary"});
+    assertEquality(["John", "Mary"], namesInDept(employees, SALES));
+
+    EmployeeTable & readonly frozen = employees.cloneReadOnly();
+    names = from var e in frozen where e.dept == "Sales" select e.name;
+    assertEquality(["John", "Mary"], names);
+}
+
+function namesInDept(EmployeeTable employees, string dept) returns string[] {
+    return from var e in employees where e.dept == dept select e.name;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -426,6 +426,23 @@ function testQueryExprWithOrderByClauseReturnXML() returns xml {
     return  authors;
 }
 
+function testQueryExprWithOrderByClauseAndLimitKeepingInputOrder() returns string {
+    [string, int][] scores = [["a", 3], ["b", 5], ["c", 3], ["d", 1], ["e", 5], ["f", 4], ["g", 3]];
+    string[] topNames = from var [name, score] in scores
+                        order by score descending
+                        limit 4
+                        select name;
+    string[] allNames = from var [name, score] in scores
+                        order by score
+                        limit 10
+                        select name;
+    string names = "".'join(...topNames);
+    foreach string name in allNames {
+        names += "," + name;
+    }
+    return names;
+}
+
 function testQueryExprWithOrderByClauseAndInnerQueries() returns CustomerProfile[] {
     Customer c1 = {id: 1, name: "Melina", noOfItems: 62};
     Customer c2 = {id: 5, name: "James", noOfItems: 5};
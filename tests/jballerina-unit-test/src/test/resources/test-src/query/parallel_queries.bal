@@ -0,0 +1,174 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Large enough for the input of a query to be split into several partitions
+const int INPUT_SIZE = 20000;
+
+type Employee record {|
+    readonly int id;
+    string name;
+    int salary;
+|};
+
+int counter = 0;
+
+function getInput() returns int[] {
+    int[] input = [];
+    foreach int i in 0 ..< INPUT_SIZE {
+        input.push(i);
+    }
+    return input;
+}
+
+isolated function validate(int i) returns int|error {
+    if i == 7000 || i == 15000 {
+        return error("invalid value: " + i.toString());
+    }
+    return i;
+}
+
+isolated function validateOrPanic(int i) returns int|error {
+    if i == 15000 {
+        panic error("unexpected value: " + i.toString());
+    }
+    return validate(i);
+}
+
+function next() returns int {
+    counter += 1;
+    return counter;
+}
+
+isolated int[] visited = [];
+
+isolated function visit(int i) returns int {
+    lock {
+        visited.push(i);
+    }
+    return i;
+}
+
+function testParallelQueryOrder() {
+    int[] input = getInput();
+    string[] result = from int i in input
+        where i % 3 != 0
+        let int square = i * i
+        select square.toString();
+
+    string[] expected = [];
+    foreach int i in input {
+        if i % 3 != 0 {
+            expected.push((i * i).toString());
+        }
+    }
+    assertEquality(expected, result);
+}
+
+function testParallelQueryOverTableOrder() {
+    table<Employee> key(id) employees = table [];
+    foreach int i in 0 ..< INPUT_SIZE {
+        employees.add({id: i, name: "Employee " + i.toString(), salary: i % 100});
+    }
+    int[] result = from Employee {id, salary} in employees
+        where salary > 50
+        select id;
+
+    int[] expected = [];
+    foreach Employee employee in employees {
+        if employee.salary > 50 {
+            expected.push(employee.id);
+        }
+    }
+    assertEquality(expected, result);
+}
+
+function testParallelQueryError() {
+    int[]|error result = from int i in getInput()
+        select check validate(i);
+    assertEquality(true, result is error);
+    if result is error {
+        assertEquality("invalid value: 7000", result.message());
+    }
+
+    int[]|error filtered = from int i in getInput()
+        where check validate(i) > 5000
+        select i;
+    assertEquality(true, filtered is error);
+    if filtered is error {
+        assertEquality("invalid value: 7000", filtered.message());
+    }
+}
+
+function testParallelQueryErrorBeforePanic() {
+    int[]|error result = trap from int i in getInput()
+        select check validateOrPanic(i);
+    assertEquality(true, result is error);
+    if result is error {
+        assertEquality("invalid value: 7000", result.message());
+    }
+}
+
+function testParallelQueryWithLimit() {
+    int[]|error result = from int i in getInput()
+        where i % 2 == 0
+        limit 10
+        select check validate(i);
+    assertEquality([0, 2, 4, 6, 8, 10, 12, 14, 16, 18], result);
+
+    int[] input = getInput();
+    int[] limited = from int i in input
+        where i % 7 == 0
+        limit 2000
+        select i;
+    assertEquality(2000, limited.length());
+    assertEquality(0, limited[0]);
+    assertEquality(13993, limited[1999]);
+}
+
+function testQueryWithNonIsolatedClauses() {
+    counter = 0;
+    int[] result = from int _ in getInput()
+        select next();
+
+    int[] expected = [];
+    foreach int i in 1 ... INPUT_SIZE {
+        expected.push(i);
+    }
+    assertEquality(expected, result);
+}
+
+function testIsolatedSideEffectsInOrder() {
+    lock {
+        visited = [];
+    }
+    int[] input = getInput();
+    int[] result = from int i in input
+        select visit(i);
+
+    int[] order;
+    lock {
+        order = visited.clone();
+    }
+    assertEquality(input, result);
+    assertEquality(input, order);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}